@@ -0,0 +1,142 @@
+package com.ltsoft.graphql.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.reflect.TypeToken;
+import com.ltsoft.graphql.ArgumentConverter;
+import com.ltsoft.graphql.annotations.GraphQLArgument;
+import com.ltsoft.graphql.impl.*;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比嵌套输入对象列表参数在预编译转换计划与逐次遍历转换器下的转换开销
+ */
+@SuppressWarnings("UnstableApiUsage")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArgumentConversionBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private GraphQLArgumentProvider provider;
+    private List<ArgumentConverter<?>> converters;
+    private TypeToken<?> argumentType;
+    private DataFetchingEnvironment environment;
+
+    @Setup
+    public void setup() throws Exception {
+        Method method = Service.class.getMethod("save", List.class);
+
+        converters = ImmutableList.of(
+                new ArrayArgumentConverter(),
+                new CollectionArgumentConverter(),
+                new ScalarTypeArgumentConverter(),
+                new BeanArgumentConverter(new DefaultInstanceFactory())
+        );
+        provider = new GraphQLArgumentProvider(Service.class, method.getParameters()[0], new ArgumentConversionPlan(converters));
+        argumentType = TypeToken.of(method.getGenericParameterTypes()[0]);
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> child = new HashMap<>();
+            child.put("id", (long) i * 10);
+            child.put("name", "child" + i);
+            child.put("tags", Arrays.asList("a", "b"));
+
+            Map<String, Object> item = new HashMap<>();
+            item.put("id", (long) i);
+            item.put("name", "item" + i);
+            item.put("tags", Arrays.asList("c", "d"));
+            item.put("children", Collections.singletonList(child));
+            items.add(item);
+        }
+
+        environment = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .arguments(Collections.singletonMap("items", items))
+                .build();
+    }
+
+    @Benchmark
+    public Object plan() {
+        return provider.provide(environment);
+    }
+
+    /**
+     * 每次转换都遍历全部转换器，与引入转换计划之前的实现一致
+     */
+    @Benchmark
+    public Object scan() {
+        return scan(environment.getArgument("items"), argumentType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object scan(Object argument, TypeToken<?> type) {
+        if (argument == null) {
+            return null;
+        }
+
+        return converters.stream()
+                .filter(ele -> ele.isSupport(TypeToken.of(argument.getClass()), type))
+                .findFirst()
+                .map(ele -> (ArgumentConverter<Object>) ele)
+                .map(ele -> ele.convert(argument, (TypeToken<Object>) type, this::scan))
+                .orElseThrow(IllegalArgumentException::new);
+    }
+
+    public static class Service {
+
+        public List<Item> save(@GraphQLArgument("items") List<Item> items) {
+            return items;
+        }
+    }
+
+    public static class Item {
+
+        private Long id;
+        private String name;
+        private List<String> tags;
+        private List<Item> children;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public List<Item> getChildren() {
+            return children;
+        }
+
+        public void setChildren(List<Item> children) {
+            this.children = children;
+        }
+    }
+}
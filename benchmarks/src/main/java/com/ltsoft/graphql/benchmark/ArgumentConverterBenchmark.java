@@ -0,0 +1,118 @@
+package com.ltsoft.graphql.benchmark;
+
+import com.google.common.reflect.TypeToken;
+import com.ltsoft.graphql.impl.ArrayArgumentConverter;
+import com.ltsoft.graphql.impl.BeanArgumentConverter;
+import com.ltsoft.graphql.impl.CollectionArgumentConverter;
+import com.ltsoft.graphql.impl.DefaultInstanceFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * 单个转换器的转换开销，元素与属性值原样返回，不包括嵌套转换
+ */
+@SuppressWarnings({"UnstableApiUsage", "unchecked"})
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArgumentConverterBenchmark {
+
+    private static final BiFunction<Object, TypeToken<?>, ?> IDENTITY = (value, type) -> value;
+
+    @Param({"10", "100"})
+    private int size;
+
+    private BeanArgumentConverter beanConverter;
+    private CollectionArgumentConverter collectionConverter;
+    private ArrayArgumentConverter arrayConverter;
+
+    private TypeToken<Object> beanType;
+    private TypeToken<Collection> listType;
+    private TypeToken<Collection> setType;
+    private TypeToken<Object[]> arrayType;
+
+    private Map<String, Object> bean;
+    private List<String> list;
+
+    @Setup
+    public void setup() {
+        beanConverter = new BeanArgumentConverter(new DefaultInstanceFactory());
+        collectionConverter = new CollectionArgumentConverter();
+        arrayConverter = new ArrayArgumentConverter();
+
+        beanType = (TypeToken<Object>) (TypeToken<?>) TypeToken.of(Item.class);
+        listType = (TypeToken<Collection>) (TypeToken<?>) new TypeToken<List<String>>() {
+        };
+        setType = (TypeToken<Collection>) (TypeToken<?>) new TypeToken<Set<String>>() {
+        };
+        arrayType = (TypeToken<Object[]>) (TypeToken<?>) TypeToken.of(String[].class);
+
+        bean = new HashMap<>();
+        bean.put("id", 1L);
+        bean.put("name", "item");
+        bean.put("description", "description");
+        bean.put("unknown", "ignored");
+
+        list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add("item" + i);
+        }
+    }
+
+    @Benchmark
+    public Object bean() {
+        return beanConverter.convert(bean, beanType, IDENTITY);
+    }
+
+    @Benchmark
+    public Object list() {
+        return collectionConverter.convert(list, listType, IDENTITY);
+    }
+
+    @Benchmark
+    public Object set() {
+        return collectionConverter.convert(list, setType, IDENTITY);
+    }
+
+    @Benchmark
+    public Object array() {
+        return arrayConverter.convert(list, arrayType, IDENTITY);
+    }
+
+    public static class Item {
+
+        private Long id;
+        private String name;
+        private String description;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.ltsoft.graphql.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.ltsoft.graphql.annotations.GraphQLArgument;
+import com.ltsoft.graphql.impl.*;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GraphQLArgumentProvider#provide(DataFetchingEnvironment)} 在标量、列表、嵌套输入对象与泛型参数下的转换开销
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArgumentProviderBenchmark {
+
+    private GraphQLArgumentProvider scalarProvider;
+    private GraphQLArgumentProvider listProvider;
+    private GraphQLArgumentProvider beanProvider;
+    private GraphQLArgumentProvider genericProvider;
+    private DataFetchingEnvironment environment;
+
+    @Setup
+    public void setup() throws Exception {
+        ArgumentConversionPlan conversionPlan = new ArgumentConversionPlan(ImmutableList.of(
+                new ArrayArgumentConverter(),
+                new CollectionArgumentConverter(),
+                new ScalarTypeArgumentConverter(),
+                new BeanArgumentConverter(new DefaultInstanceFactory())
+        ));
+
+        scalarProvider = provider(Service.class, Service.class.getMethod("scalar", Integer.class), conversionPlan);
+        listProvider = provider(Service.class, Service.class.getMethod("list", List.class), conversionPlan);
+        beanProvider = provider(Service.class, Service.class.getMethod("bean", Item.class), conversionPlan);
+        genericProvider = provider(ItemService.class, AbstractService.class.getMethod("generic", Object.class), conversionPlan);
+
+        Map<String, Object> child = new HashMap<>();
+        child.put("id", 2L);
+        child.put("name", "child");
+
+        Map<String, Object> item = new HashMap<>();
+        item.put("id", 1L);
+        item.put("name", "item");
+        item.put("children", Collections.singletonList(child));
+
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("scalar", 1);
+        arguments.put("list", Arrays.asList(1, 2, 3, 4, 5));
+        arguments.put("bean", item);
+        arguments.put("generic", item);
+
+        environment = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .arguments(arguments)
+                .build();
+    }
+
+    @Benchmark
+    public Object scalar() {
+        return scalarProvider.provide(environment);
+    }
+
+    @Benchmark
+    public Object list() {
+        return listProvider.provide(environment);
+    }
+
+    @Benchmark
+    public Object bean() {
+        return beanProvider.provide(environment);
+    }
+
+    @Benchmark
+    public Object generic() {
+        return genericProvider.provide(environment);
+    }
+
+    private static GraphQLArgumentProvider provider(Class<?> cls, Method method, ArgumentConversionPlan conversionPlan) {
+        return new GraphQLArgumentProvider(cls, method.getParameters()[0], conversionPlan);
+    }
+
+    public static class Service {
+
+        public Integer scalar(@GraphQLArgument("scalar") Integer value) {
+            return value;
+        }
+
+        public List<Long> list(@GraphQLArgument("list") List<Long> values) {
+            return values;
+        }
+
+        public Item bean(@GraphQLArgument("bean") Item item) {
+            return item;
+        }
+    }
+
+    public static abstract class AbstractService<E> {
+
+        public E generic(@GraphQLArgument("generic") E input) {
+            return input;
+        }
+    }
+
+    public static class ItemService extends AbstractService<Item> {
+    }
+
+    public static class Item {
+
+        private Long id;
+        private String name;
+        private List<Item> children;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<Item> getChildren() {
+            return children;
+        }
+
+        public void setChildren(List<Item> children) {
+            this.children = children;
+        }
+    }
+}
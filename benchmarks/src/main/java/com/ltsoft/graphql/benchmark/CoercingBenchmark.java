@@ -0,0 +1,98 @@
+package com.ltsoft.graphql.benchmark;
+
+import com.ltsoft.graphql.scalars.ScalarTypes;
+import graphql.language.StringValue;
+import graphql.schema.Coercing;
+import graphql.schema.GraphQLScalarType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link com.ltsoft.graphql.scalars} 中各标量类型 {@link Coercing} 的序列化与解析开销
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CoercingBenchmark {
+
+    @Param({"UUID", "URI", "Instant", "LocalTime", "LocalDateTime", "ZonedDateTime", "Duration", "Period", "Year", "YearMonth"})
+    private String scalar;
+
+    private Coercing<?, ?> coercing;
+    private String text;
+    private StringValue literal;
+    private Object value;
+
+    @Setup
+    public void setup() {
+        GraphQLScalarType scalarType;
+
+        switch (scalar) {
+            case "UUID":
+                scalarType = ScalarTypes.GraphQLUUID;
+                text = "123e4567-e89b-12d3-a456-426614174000";
+                break;
+            case "URI":
+                scalarType = ScalarTypes.GraphQLURI;
+                text = "https://example.com/graphql?query=1";
+                break;
+            case "Instant":
+                scalarType = ScalarTypes.GraphQLInstant;
+                text = "2020-01-02T03:04:05Z";
+                break;
+            case "LocalTime":
+                scalarType = ScalarTypes.GraphQLLocalTime;
+                text = "03:04:05";
+                break;
+            case "LocalDateTime":
+                scalarType = ScalarTypes.GraphQLLocalDateTime;
+                text = "2020-01-02T03:04:05";
+                break;
+            case "ZonedDateTime":
+                scalarType = ScalarTypes.GraphQLZonedDateTime;
+                text = "2020-01-02T03:04:05+08:00[Asia/Shanghai]";
+                break;
+            case "Duration":
+                scalarType = ScalarTypes.GraphQLDuration;
+                text = "PT1H2M3S";
+                break;
+            case "Period":
+                scalarType = ScalarTypes.GraphQLPeriod;
+                text = "P1Y2M3D";
+                break;
+            case "Year":
+                scalarType = ScalarTypes.GraphQLYear;
+                text = "2020";
+                break;
+            case "YearMonth":
+                scalarType = ScalarTypes.GraphQLYearMonth;
+                text = "2020-01";
+                break;
+            default:
+                throw new IllegalArgumentException(scalar);
+        }
+
+        coercing = scalarType.getCoercing();
+        literal = new StringValue(text);
+        value = coercing.parseValue(text);
+    }
+
+    @Benchmark
+    public Object serialize() {
+        return coercing.serialize(value);
+    }
+
+    @Benchmark
+    public Object parseValue() {
+        return coercing.parseValue(text);
+    }
+
+    @Benchmark
+    public Object parseLiteral() {
+        return coercing.parseLiteral(literal);
+    }
+}
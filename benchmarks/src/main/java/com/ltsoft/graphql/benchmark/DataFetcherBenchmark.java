@@ -0,0 +1,83 @@
+package com.ltsoft.graphql.benchmark;
+
+import com.ltsoft.graphql.ArgumentProvider;
+import com.ltsoft.graphql.impl.ServiceDataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ServiceDataFetcher#get(DataFetchingEnvironment)} 在 0 到 5 个参数下的调用开销，使用默认的方法调用方式
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DataFetcherBenchmark {
+
+    @Param({"0", "1", "2", "3", "4", "5"})
+    private int arity;
+
+    private ServiceDataFetcher dataFetcher;
+    private DataFetchingEnvironment environment;
+
+    @Setup
+    public void setup() throws Exception {
+        Class<?>[] parameterTypes = new Class<?>[arity];
+        List<ArgumentProvider<?>> providers = new ArrayList<>();
+        Map<String, Object> arguments = new HashMap<>();
+
+        for (int i = 0; i < arity; i++) {
+            String name = "arg" + i;
+
+            parameterTypes[i] = Integer.class;
+            providers.add(env -> env.getArgument(name));
+            arguments.put(name, i);
+        }
+
+        Method method = Service.class.getMethod("sum" + arity, parameterTypes);
+
+        dataFetcher = new ServiceDataFetcher(new Service(), method, providers);
+        environment = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .arguments(arguments)
+                .build();
+    }
+
+    @Benchmark
+    public Object get() throws Exception {
+        return dataFetcher.get(environment);
+    }
+
+    public static class Service {
+
+        public Integer sum0() {
+            return 0;
+        }
+
+        public Integer sum1(Integer a) {
+            return a;
+        }
+
+        public Integer sum2(Integer a, Integer b) {
+            return a + b;
+        }
+
+        public Integer sum3(Integer a, Integer b, Integer c) {
+            return a + b + c;
+        }
+
+        public Integer sum4(Integer a, Integer b, Integer c, Integer d) {
+            return a + b + c + d;
+        }
+
+        public Integer sum5(Integer a, Integer b, Integer c, Integer d, Integer e) {
+            return a + b + c + d + e;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ltsoft.graphql.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import com.ltsoft.graphql.ArgumentProvider;
+import com.ltsoft.graphql.MethodInvokerFactory;
+import com.ltsoft.graphql.impl.LambdaMethodInvokerFactory;
+import com.ltsoft.graphql.impl.MethodHandleInvokerFactory;
+import com.ltsoft.graphql.impl.ReflectionMethodInvokerFactory;
+import com.ltsoft.graphql.impl.ServiceDataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比 {@link ServiceDataFetcher} 在不同 {@link MethodInvokerFactory} 下的调用开销
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InvocationStrategyBenchmark {
+
+    @Param({"reflection", "methodHandle", "lambda"})
+    private String strategy;
+
+    private ServiceDataFetcher noArgument;
+    private ServiceDataFetcher twoArguments;
+    private DataFetchingEnvironment environment;
+
+    @Setup
+    public void setup() throws Exception {
+        MethodInvokerFactory factory = createFactory(strategy);
+        Service service = new Service();
+
+        Method hello = Service.class.getMethod("hello");
+        Method concat = Service.class.getMethod("concat", String.class, Integer.class);
+
+        List<ArgumentProvider<?>> providers = Arrays.asList(
+                env -> env.getArgument("name"),
+                env -> env.getArgument("count")
+        );
+
+        noArgument = new ServiceDataFetcher(service, hello, Collections.emptyList(), factory);
+        twoArguments = new ServiceDataFetcher(service, concat, providers, factory);
+        environment = DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .arguments(ImmutableMap.of("name", "graphql", "count", 3))
+                .build();
+    }
+
+    @Benchmark
+    public Object noArgument() throws Exception {
+        return noArgument.get(environment);
+    }
+
+    @Benchmark
+    public Object twoArguments() throws Exception {
+        return twoArguments.get(environment);
+    }
+
+    private static MethodInvokerFactory createFactory(String strategy) {
+        switch (strategy) {
+            case "reflection":
+                return new ReflectionMethodInvokerFactory();
+            case "methodHandle":
+                return new MethodHandleInvokerFactory();
+            case "lambda":
+                return new LambdaMethodInvokerFactory();
+            default:
+                throw new IllegalArgumentException(String.format("Unknown invocation strategy '%s'", strategy));
+        }
+    }
+
+    public static class Service {
+
+        public String hello() {
+            return "hello";
+        }
+
+        public String concat(String name, Integer count) {
+            return name.length() > count ? name : null;
+        }
+    }
+}
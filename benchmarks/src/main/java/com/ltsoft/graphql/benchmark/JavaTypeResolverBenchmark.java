@@ -0,0 +1,88 @@
+package com.ltsoft.graphql.benchmark;
+
+import com.ltsoft.graphql.GraphQLSchemaBuilder;
+import com.ltsoft.graphql.annotations.*;
+import com.ltsoft.graphql.impl.DefaultInstanceFactory;
+import com.ltsoft.graphql.impl.JavaTypeResolver;
+import com.ltsoft.graphql.resolver.StrategyRegistry;
+import graphql.TypeResolutionEnvironment;
+import graphql.schema.GraphQLSchema;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JavaTypeResolver} 解析 Interface 实际类型的开销，分别以类型本身与未声明 GraphQL 类型的子类（如代理类）作为数据
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JavaTypeResolverBenchmark {
+
+    private JavaTypeResolver typeResolver;
+    private TypeResolutionEnvironment direct;
+    private TypeResolutionEnvironment subclass;
+
+    @Setup
+    public void setup() {
+        GraphQLSchema schema = new GraphQLSchemaBuilder()
+                .addType(Query.class, Node.class, Entity.class)
+                .build();
+
+        typeResolver = new JavaTypeResolver(new StrategyRegistry(new DefaultInstanceFactory()));
+        direct = environment(new Entity(), schema);
+        subclass = environment(new EntityProxy(), schema);
+    }
+
+    @Benchmark
+    public Object direct() {
+        return typeResolver.getType(direct);
+    }
+
+    @Benchmark
+    public Object subclass() {
+        return typeResolver.getType(subclass);
+    }
+
+    private static TypeResolutionEnvironment environment(Object object, GraphQLSchema schema) {
+        return new TypeResolutionEnvironment(object, Collections.emptyMap(), null, schema.getType("Node"), schema, null);
+    }
+
+    @GraphQLName(GraphQLName.ROOT_QUERY)
+    @GraphQLType
+    public static class Query {
+
+        @GraphQLDataFetcher
+        public Node node() {
+            return new Entity();
+        }
+    }
+
+    @GraphQLInterface
+    public interface Node {
+
+        Long getId();
+    }
+
+    @GraphQLType
+    public static class Entity implements Node {
+
+        private Long id;
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+
+    public static class EntityProxy extends Entity {
+    }
+}
@@ -0,0 +1,32 @@
+package com.ltsoft.graphql.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 以 GC profiler 运行请求处理路径上的基准测试，吞吐量与每次操作分配的字节数（{@code gc.alloc.rate.norm}）一并输出：
+ * {@code java -cp target/benchmarks.jar com.ltsoft.graphql.benchmark.RuntimeBenchmarks}。
+ * <p>
+ * 额外的参数按 JMH 命令行参数解析，如 {@code -f 1 -wi 3} 或只运行部分基准测试的正则表达式。
+ */
+public class RuntimeBenchmarks {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(DataFetcherBenchmark.class.getSimpleName())
+                    .include(ArgumentProviderBenchmark.class.getSimpleName())
+                    .include(ArgumentConverterBenchmark.class.getSimpleName())
+                    .include(CoercingBenchmark.class.getSimpleName())
+                    .include(JavaTypeResolverBenchmark.class.getSimpleName());
+        }
+
+        new Runner(builder.parent(commandLine).addProfiler(GCProfiler.class).build()).run();
+    }
+}
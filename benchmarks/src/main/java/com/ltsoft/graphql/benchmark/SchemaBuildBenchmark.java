@@ -0,0 +1,108 @@
+package com.ltsoft.graphql.benchmark;
+
+import com.ltsoft.graphql.GraphQLSchemaBuilder;
+import graphql.schema.GraphQLSchema;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GraphQLSchemaBuilder#build()} 在不同规模类型图下的耗时、内存分配与 Schema 占用的堆内存，类型图由 {@link SchemaGraphGenerator} 生成。
+ * <ul>
+ * <li>{@link #coldBuild(Graph, Classes)}：每次构建使用新加载的 Class，与应用启动时首次构建一致</li>
+ * <li>{@link #warmBuild(Graph)}：重复构建同一组 Class，类元数据等缓存已命中</li>
+ * <li>{@link #retainedHeap(Graph, Classes, HeapCounter)}：构建完成后 Schema 仍可达时的堆内存增量，以 {@code retainedBytes} 输出</li>
+ * </ul>
+ * 内存分配需要开启 GC profiler：{@code java -jar target/benchmarks.jar SchemaBuildBenchmark -prof gc}，
+ * 以 {@code gc.alloc.rate.norm} 查看每次构建分配的字节数。
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SchemaBuildBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Graph {
+
+        @Param({"100", "1000", "10000"})
+        private int size;
+
+        private SchemaGraphGenerator generator;
+        private List<Class<?>> classes;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            generator = SchemaGraphGenerator.generate(size);
+            classes = generator.loadClasses();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            generator.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Classes {
+
+        private List<Class<?>> classes;
+
+        @Setup(Level.Invocation)
+        public void setup(Graph graph) {
+            classes = graph.generator.loadClasses();
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class HeapCounter {
+
+        public long retainedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+    }
+
+    @Benchmark
+    public GraphQLSchema coldBuild(Graph graph, Classes classes) {
+        return build(classes.classes);
+    }
+
+    @Benchmark
+    public GraphQLSchema warmBuild(Graph graph) {
+        return build(graph.classes);
+    }
+
+    @Benchmark
+    public GraphQLSchema retainedHeap(Graph graph, Classes classes, HeapCounter counter) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        long before = usedHeap(memory);
+        GraphQLSchema schema = build(classes.classes);
+        counter.retainedBytes += usedHeap(memory) - before;
+
+        return schema;
+    }
+
+    private static GraphQLSchema build(List<Class<?>> classes) {
+        return new GraphQLSchemaBuilder()
+                .addType(classes.toArray(new Class<?>[0]))
+                .build();
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,248 @@
+package com.ltsoft.graphql.benchmark;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 生成由注解声明的 GraphQL 类型图，并在运行时编译。
+ * <p>
+ * 每 10 个类型为一组，包含接口、实现接口的对象、Union、枚举、输入对象、对象扩展、分页对象、
+ * 继承泛型基类并声明 {@link com.ltsoft.graphql.annotations.GraphQLView} 参数的服务，以及扩展根查询的入口。
+ * 各组的对象引用前一组的对象，形成一条贯穿全部类型的依赖链。
+ * <p>
+ * 编译时不执行注解处理器，类型解析与调用方式和未使用编译期生成代码的项目一致。
+ */
+final class SchemaGraphGenerator implements AutoCloseable {
+
+    static final int TYPES_PER_GROUP = 10;
+
+    private static final String PACKAGE = "com.ltsoft.graphql.benchmark.generated";
+
+    private final Path directory;
+    private final List<String> classNames = new ArrayList<>();
+
+    private SchemaGraphGenerator(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 生成并编译类型图
+     *
+     * @param size 类型数量，不包括共享的根查询、泛型基类与视图
+     * @return SchemaGraphGenerator
+     * @throws IOException 写入或编译失败
+     */
+    static SchemaGraphGenerator generate(int size) throws IOException {
+        SchemaGraphGenerator generator = new SchemaGraphGenerator(Files.createTempDirectory("graphql-benchmark"));
+
+        try {
+            generator.writeSources(size / TYPES_PER_GROUP);
+            generator.compile();
+        } catch (IOException | RuntimeException e) {
+            generator.close();
+            throw e;
+        }
+
+        return generator;
+    }
+
+    /**
+     * 使用新的 ClassLoader 加载全部类型，每次调用得到的 Class 都未被解析过
+     *
+     * @return 全部生成的类型
+     */
+    List<Class<?>> loadClasses() {
+        try {
+            URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.resolve("classes").toUri().toURL()}, getClass().getClassLoader());
+            List<Class<?>> result = new ArrayList<>();
+
+            for (String className : classNames) {
+                result.add(Class.forName(className, false, classLoader));
+            }
+
+            return result;
+        } catch (MalformedURLException | ClassNotFoundException e) {
+            throw new IllegalStateException("Load generated classes but fail", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void writeSources(int groups) throws IOException {
+        write("CreateView", "public interface CreateView {\n}\n");
+        write("UpdateView", "public interface UpdateView {\n}\n");
+        write("Query", "@GraphQLName(GraphQLName.ROOT_QUERY)\n" +
+                "@GraphQLType\n" +
+                "public class Query {\n" +
+                "    @GraphQLDataFetcher\n" +
+                "    public String hello() {\n" +
+                "        return \"hello\";\n" +
+                "    }\n" +
+                "}\n");
+        write("AbstractService", "public abstract class AbstractService<E, I> {\n" +
+                "    @GraphQLDataFetcher\n" +
+                "    public E find(@GraphQLArgument(\"id\") @GraphQLNotNull Long id) {\n" +
+                "        return null;\n" +
+                "    }\n" +
+                "    @GraphQLDataFetcher\n" +
+                "    public List<E> findAll(@GraphQLArgument(\"ids\") List<Long> ids) {\n" +
+                "        return Collections.emptyList();\n" +
+                "    }\n" +
+                "    @GraphQLDataFetcher\n" +
+                "    @GraphQLView(CreateView.class)\n" +
+                "    public E create(@GraphQLArgument I input) {\n" +
+                "        return null;\n" +
+                "    }\n" +
+                "    @GraphQLDataFetcher\n" +
+                "    @GraphQLView(UpdateView.class)\n" +
+                "    public E update(@GraphQLArgument I input) {\n" +
+                "        return null;\n" +
+                "    }\n" +
+                "}\n");
+
+        for (int i = 0; i < groups; i++) {
+            writeGroup(i);
+        }
+    }
+
+    private void writeGroup(int i) throws IOException {
+        String previous = i > 0 ? "Entity" + (i - 1) : "Entity" + i;
+
+        write("Node" + i, format(i, "@GraphQLInterface\n" +
+                "public interface Node{i} {\n" +
+                "    Long getId();\n" +
+                "}\n"));
+        write("Kind" + i, format(i, "@GraphQLType\n" +
+                "public enum Kind{i} {\n" +
+                "    FIRST, SECOND, THIRD\n" +
+                "}\n"));
+        write("Entity" + i, format(i, "@GraphQLType\n" +
+                "public class Entity{i} implements Node{i} {\n" +
+                property("@GraphQLNotNull", "Long", "id") +
+                property("", "String", "name") +
+                property("", "Kind{i}", "kind") +
+                property("", previous, "previous") +
+                "}\n"));
+        write("Other" + i, format(i, "@GraphQLType\n" +
+                "public class Other{i} implements Node{i} {\n" +
+                property("@GraphQLNotNull", "Long", "id") +
+                property("", "String", "label") +
+                "}\n"));
+        write("Result" + i, format(i, "@GraphQLUnion(possibleTypes = {Entity{i}.class, Other{i}.class})\n" +
+                "public interface Result{i} {\n" +
+                "}\n"));
+        write("Entity" + i + "Input", format(i, "@GraphQLInput\n" +
+                "public class Entity{i}Input {\n" +
+                property("@GraphQLIgnore(view = CreateView.class) @GraphQLNotNull(view = UpdateView.class)", "Long", "id") +
+                property("@GraphQLNotNull(view = CreateView.class)", "String", "name") +
+                property("", "Kind{i}", "kind") +
+                "}\n"));
+        write("Entity" + i + "Extension", format(i, "@GraphQLTypeExtension(Entity{i}.class)\n" +
+                "public class Entity{i}Extension {\n" +
+                property("@GraphQLDescription(\"Tags of Entity{i}\")", "String[]", "tags") +
+                "}\n"));
+        write("Page" + i, format(i, "@GraphQLType\n" +
+                "public class Page{i} {\n" +
+                property("", "List<Entity{i}>", "items") +
+                property("@GraphQLNotNull", "Integer", "total") +
+                "}\n"));
+        write("Service" + i, format(i, "@GraphQLType\n" +
+                "public class Service{i} extends AbstractService<Entity{i}, Entity{i}Input> {\n" +
+                "    @GraphQLDataFetcher\n" +
+                "    public Result{i} search(@GraphQLArgument(\"keyword\") String keyword) {\n" +
+                "        return null;\n" +
+                "    }\n" +
+                "    @GraphQLDataFetcher\n" +
+                "    public Node{i} node(@GraphQLArgument(\"id\") @GraphQLNotNull Long id) {\n" +
+                "        return null;\n" +
+                "    }\n" +
+                "    @GraphQLDataFetcher\n" +
+                "    public Page{i} page(@GraphQLArgument(\"offset\") @GraphQLDefaultValue(\"0\") Integer offset, @GraphQLArgument(\"limit\") @GraphQLDefaultValue(\"20\") Integer limit) {\n" +
+                "        return null;\n" +
+                "    }\n" +
+                "}\n"));
+        write("Query" + i + "Extension", format(i, "@GraphQLTypeExtension(Query.class)\n" +
+                "public class Query{i}Extension {\n" +
+                "    @GraphQLDataFetcher\n" +
+                "    public Service{i} service{i}() {\n" +
+                "        return new Service{i}();\n" +
+                "    }\n" +
+                "}\n"));
+    }
+
+    private static String property(String annotations, String type, String name) {
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+        return String.format("    %s\n    private %s %s;\n", annotations, type, name) +
+                String.format("    public %s get%s() {\n        return %s;\n    }\n", type, capitalized, name) +
+                String.format("    public void set%s(%s %s) {\n        this.%s = %s;\n    }\n", capitalized, type, name, name, name);
+    }
+
+    private static String format(int group, String template) {
+        return template.replace("{i}", String.valueOf(group));
+    }
+
+    private void write(String simpleName, String body) throws IOException {
+        Path file = directory.resolve("sources").resolve(PACKAGE.replace('.', '/')).resolve(simpleName + ".java");
+        String source = "package " + PACKAGE + ";\n\n" +
+                "import com.ltsoft.graphql.annotations.*;\n" +
+                "import java.util.*;\n\n" +
+                body;
+
+        Files.createDirectories(file.getParent());
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+        classNames.add(PACKAGE + "." + simpleName);
+    }
+
+    private void compile() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        if (compiler == null) {
+            throw new IllegalStateException("Java compiler is not available, benchmarks must run on a JDK");
+        }
+
+        Path output = Files.createDirectories(directory.resolve("classes"));
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, Locale.ROOT, StandardCharsets.UTF_8);
+             Stream<Path> paths = Files.walk(directory.resolve("sources"))) {
+            List<java.io.File> files = paths.filter(path -> path.toString().endsWith(".java"))
+                    .map(Path::toFile)
+                    .collect(Collectors.toList());
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(files);
+            List<String> options = Arrays.asList(
+                    "-proc:none",
+                    "-encoding", "UTF-8",
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", output.toString()
+            );
+
+            if (!compiler.getTask(null, fileManager, null, options, null, units).call()) {
+                throw new IllegalStateException("Compile generated types but fail");
+            }
+        }
+    }
+}
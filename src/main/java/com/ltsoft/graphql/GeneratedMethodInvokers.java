@@ -0,0 +1,21 @@
+package com.ltsoft.graphql;
+
+import java.util.Map;
+
+/**
+ * 编译时生成的方法调用器集合。
+ * 由 {@link com.ltsoft.graphql.processor.GraphQLInvokerProcessor} 为 GraphQL 类型生成，以 {@link java.util.ServiceLoader} 注册。
+ * 生成的调用器以普通的方法调用执行 {@link com.ltsoft.graphql.annotations.GraphQLDataFetcher} 方法，不依赖反射或 MethodHandle。
+ *
+ * @see com.ltsoft.graphql.impl.GeneratedMethodInvokerFactory
+ */
+public interface GeneratedMethodInvokers {
+
+    /**
+     * 获取生成的方法调用器
+     *
+     * @return 以方法签名为 Key 的调用器，签名格式见 {@link com.ltsoft.graphql.impl.GeneratedMethodInvokerFactory#signature(java.lang.reflect.Method)}
+     */
+    Map<String, MethodInvoker> getInvokers();
+
+}
@@ -1,9 +1,15 @@
 package com.ltsoft.graphql;
 
-import com.google.common.reflect.ClassPath;
+import com.ltsoft.graphql.impl.BatchLoaderStatistics;
+import com.ltsoft.graphql.impl.BuildReport;
 import com.ltsoft.graphql.impl.DefaultInstanceFactory;
-import com.ltsoft.graphql.resolver.ResolveUtil;
+import com.ltsoft.graphql.impl.GeneratedMethodInvokerFactory;
+import com.ltsoft.graphql.impl.MethodHandleInvokerFactory;
+import com.ltsoft.graphql.impl.PackageScanner;
+import com.ltsoft.graphql.impl.SchemaSnapshot;
+import com.ltsoft.graphql.resolver.StrategyRegistry;
 import com.ltsoft.graphql.resolver.TypeProviderFactory;
+import graphql.language.Definition;
 import graphql.language.Document;
 import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
@@ -11,10 +17,18 @@ import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.SchemaGenerator;
 import graphql.schema.idl.SchemaParser;
 import graphql.schema.idl.TypeDefinitionRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -22,9 +36,12 @@ import static java.util.Objects.requireNonNull;
 @SuppressWarnings("WeakerAccess")
 public final class GraphQLSchemaBuilder {
 
-    private final Map<GraphQLScalarType, Class<?>> scalarTypeMap = new HashMap<>();
-    private final Set<String> packageNames = new HashSet<>();
-    private final Set<Class<?>> types = new HashSet<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(GraphQLSchemaBuilder.class);
+
+    //保持注册顺序，同样的输入总是生成同样的 Schema 与快照指纹
+    private final Map<GraphQLScalarType, Class<?>> scalarTypeMap = new LinkedHashMap<>();
+    private final Set<String> packageNames = new LinkedHashSet<>();
+    private final Set<Class<?>> types = new LinkedHashSet<>();
     private final List<ArgumentProviderFactory<?>> argumentProviderFactories = new ArrayList<>();
     private final List<ArgumentConverter<?>> argumentConverters = new ArrayList<>();
     private final List<TypeDefinitionRegistry> typeDefinitionRegistries = new ArrayList<>();
@@ -32,20 +49,61 @@ public final class GraphQLSchemaBuilder {
     private final List<TypeProvider<?>> typeProviders = new ArrayList<>();
     private final List<UnaryOperator<Document.Builder>> documentProcessors = new ArrayList<>();
     private final List<UnaryOperator<RuntimeWiring.Builder>> runtimeWiringProcessors = new ArrayList<>();
+    private final List<Object> strategies = new ArrayList<>();
 
     private SchemaGenerator.Options options = SchemaGenerator.Options.defaultOptions();
     private InstanceFactory instanceFactory = new DefaultInstanceFactory();
+    private boolean lazyInstance;
+    private MethodInvokerFactory methodInvokerFactory = new GeneratedMethodInvokerFactory();
+    private Executor dataFetcherExecutor;
+    private BatchLoaderStatistics batchLoaderStatistics = new BatchLoaderStatistics();
+    private ForkJoinPool typeResolvingPool;
+    private Path snapshotDirectory;
+    private BuildReport buildReport;
+    private ClassLoader classLoader;
+    private boolean typeIndexOnly;
 
     public GraphQLSchemaBuilder addScalar(GraphQLScalarType scalarType, Class<?> javaType) {
         scalarTypeMap.put(scalarType, javaType);
         return this;
     }
 
+    /**
+     * 添加包中可被解析的顶层类。全部包在每次构建时合并为一次 classpath 扫描，
+     * 开启 {@link #typeIndexOnly(boolean)} 时，存在索引的包直接读取索引。
+     *
+     * @param packages 包名
+     * @return GraphQLSchemaBuilder
+     */
     public GraphQLSchemaBuilder addPackage(String... packages) {
         Collections.addAll(packageNames, packages);
         return this;
     }
 
+    /**
+     * 设置查找包中类型、读取类型索引与校验快照时使用的 ClassLoader，默认为加载 GraphQLSchemaBuilder 的 ClassLoader
+     *
+     * @param classLoader ClassLoader，为 null 时使用默认值
+     * @return GraphQLSchemaBuilder
+     */
+    public GraphQLSchemaBuilder classLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        return this;
+    }
+
+    /**
+     * 设置存在 {@link com.ltsoft.graphql.processor.GraphQLTypeIndexProcessor} 生成的索引时，是否仅读取索引而不扫描 classpath，默认关闭。
+     * 索引只包含生成它的 jar 或目录中的类：同一个包分布在多个 jar 或输出目录中，且其中部分未经该注解处理器编译时，
+     * 仅读取索引会遗漏这些类型，只有确认包中的全部类都生成了索引时才应开启。
+     *
+     * @param typeIndexOnly 是否仅读取索引
+     * @return GraphQLSchemaBuilder
+     */
+    public GraphQLSchemaBuilder typeIndexOnly(boolean typeIndexOnly) {
+        this.typeIndexOnly = typeIndexOnly;
+        return this;
+    }
+
     public GraphQLSchemaBuilder addType(Class<?>... classes) {
         Collections.addAll(types, classes);
         return this;
@@ -93,41 +151,365 @@ public final class GraphQLSchemaBuilder {
         return this;
     }
 
+    /**
+     * 设置是否延迟创建声明了 {@link com.ltsoft.graphql.annotations.GraphQLDataFetcher} 或 {@link com.ltsoft.graphql.annotations.GraphQLBatch} 方法的实例，默认关闭。
+     * 未声明 {@link com.ltsoft.graphql.annotations.GraphQLRequestScope} 或 {@link com.ltsoft.graphql.annotations.GraphQLPooled} 时，
+     * 同一类型的所有方法共享一个通过 {@link InstanceFactory} 创建的实例；
+     * 开启后实例在首次获取该类型的字段数据时创建，未被查询的类型不会创建实例，创建失败时作为字段错误返回。
+     *
+     * @param lazyInstance 是否延迟创建实例
+     * @return GraphQLSchemaBuilder
+     */
+    public GraphQLSchemaBuilder lazyInstance(boolean lazyInstance) {
+        this.lazyInstance = lazyInstance;
+        return this;
+    }
+
+    /**
+     * 注册已创建的策略实例，如 {@link com.ltsoft.graphql.annotations.GraphQLFieldName}、
+     * {@link com.ltsoft.graphql.annotations.GraphQLFieldFilter} 与 {@link com.ltsoft.graphql.annotations.GraphQLFieldDescription} 的实现。
+     * 注解中声明的类型与实例的类型相同时使用该实例，其它策略在每次构建时通过 {@link InstanceFactory} 创建一次。
+     *
+     * @param instances 策略实例
+     * @return GraphQLSchemaBuilder
+     * @see StrategyRegistry
+     */
+    public GraphQLSchemaBuilder strategy(Object... instances) {
+        Arrays.stream(instances).map(Objects::requireNonNull).forEach(strategies::add);
+        return this;
+    }
+
+    /**
+     * 设置 {@link com.ltsoft.graphql.annotations.GraphQLDataFetcher} 方法的调用方式，默认使用 {@link GeneratedMethodInvokerFactory}：
+     * 优先使用 {@link com.ltsoft.graphql.processor.GraphQLInvokerProcessor} 在编译时生成的调用器，否则使用 {@link MethodHandleInvokerFactory}
+     *
+     * @param methodInvokerFactory 方法调用器工厂
+     * @return GraphQLSchemaBuilder
+     * @see com.ltsoft.graphql.impl.ReflectionMethodInvokerFactory
+     * @see com.ltsoft.graphql.impl.LambdaMethodInvokerFactory
+     */
+    public GraphQLSchemaBuilder methodInvokerFactory(MethodInvokerFactory methodInvokerFactory) {
+        this.methodInvokerFactory = requireNonNull(methodInvokerFactory);
+        return this;
+    }
+
+    /**
+     * 设置执行 {@link com.ltsoft.graphql.annotations.GraphQLDataFetcher} 方法的 Executor，默认在 graphql-java 的调用线程中执行。
+     * 设置后，未返回 {@link java.util.concurrent.CompletionStage} 的方法将提交到该 Executor 中执行，
+     * 配合 {@link graphql.execution.AsyncExecutionStrategy} 可以并行获取同级字段。
+     * 运行在支持虚拟线程的 JDK 上时，可使用 {@link com.ltsoft.graphql.impl.AsyncExecutors#newVirtualThreadPerTaskExecutor()}。
+     *
+     * @param dataFetcherExecutor 执行方法的 Executor，为 null 时关闭
+     * @return GraphQLSchemaBuilder
+     */
+    public GraphQLSchemaBuilder dataFetcherExecutor(Executor dataFetcherExecutor) {
+        this.dataFetcherExecutor = dataFetcherExecutor;
+        return this;
+    }
+
+    /**
+     * 设置收集 {@link com.ltsoft.graphql.annotations.GraphQLBatch} 方法 DataLoader 统计数据的对象，
+     * 可用于观察各个 DataLoader 的批量调用次数与批量大小。
+     *
+     * @param batchLoaderStatistics DataLoader 统计数据
+     * @return GraphQLSchemaBuilder
+     */
+    public GraphQLSchemaBuilder batchLoaderStatistics(BatchLoaderStatistics batchLoaderStatistics) {
+        this.batchLoaderStatistics = requireNonNull(batchLoaderStatistics);
+        return this;
+    }
+
+    /**
+     * 设置并行解析 Java 类型的 ForkJoinPool，默认在调用 {@link #build()} 的线程中逐个解析。
+     * 类型较多时可以缩短构建时间，生成的 Schema 与串行解析一致。
+     * 开启后，自定义的 {@link TypeResolver} 与 {@link InstanceFactory} 需要支持多线程调用。
+     * 查找包中的类型时同样使用该 ForkJoinPool 并行加载类，未设置时使用 {@link ForkJoinPool#commonPool()}。
+     *
+     * @param typeResolvingPool 解析类型的 ForkJoinPool，为 null 时关闭
+     * @return GraphQLSchemaBuilder
+     */
+    public GraphQLSchemaBuilder typeResolvingPool(ForkJoinPool typeResolvingPool) {
+        this.typeResolvingPool = typeResolvingPool;
+        return this;
+    }
+
     public GraphQLSchemaBuilder options(SchemaGenerator.Options options) {
         this.options = options;
         return this;
     }
 
+    /**
+     * 设置 Schema 快照目录，默认不使用快照。
+     * 快照保存已解析的 GraphQL Definition，以注册的类型、Scalar、解析器与构建选项的指纹命名，
+     * 并记录全部已解析类型的字节码摘要。再次构建时若快照有效，则跳过类型解析，仅重新生成 RuntimeWiring；
+     * 快照无效时完整构建并覆盖快照。{@link #typeProvider(TypeProvider[])} 等其它设置不受影响。
+     * <p>
+     * 快照不会记录自定义 {@link TypeResolver} 与 {@link ArgumentProviderFactory} 等对象的状态，仅记录其类名，
+     * 其行为由运行时状态决定时不应开启快照。通过 {@link #strategy(Object...)} 注册了策略实例时，
+     * 策略的配置会影响解析结果且无法从类名判断，不使用快照。
+     *
+     * @param snapshotDirectory 快照目录，为 null 时关闭
+     * @return GraphQLSchemaBuilder
+     */
+    public GraphQLSchemaBuilder snapshot(Path snapshotDirectory) {
+        this.snapshotDirectory = snapshotDirectory;
+        return this;
+    }
+
+    /**
+     * 设置记录构建耗时的 BuildReport，默认不记录。
+     * 每次构建时清空并重新记录各阶段耗时、各个 TypeResolver 与各类型的解析耗时，以及期间的反射调用次数与缓存命中率。
+     * {@link #buildIncremental()} 的首次构建与每次重新构建同样会被记录，但不包含查找类型的耗时。
+     *
+     * @param buildReport 构建报告，为 null 时关闭
+     * @return GraphQLSchemaBuilder
+     */
+    public GraphQLSchemaBuilder buildReport(BuildReport buildReport) {
+        this.buildReport = buildReport;
+        return this;
+    }
+
     public GraphQLSchema build() {
+        StrategyRegistry strategies = newStrategyRegistry();
+
+        return strategies.bind(() -> report(() -> resolveAndGenerate(strategies)));
+    }
+
+    private GraphQLSchema resolveAndGenerate(StrategyRegistry strategies) {
         Document.Builder documentBuilder = Document.newDocument();
         RuntimeWiring.Builder runtimeWiringBuilder = RuntimeWiring.newRuntimeWiring();
 
+        List<Class<?>> classes = measure(BuildReport.PHASE_SCAN, this::searchTypes);
+
+        if (snapshotDirectory == null || !this.strategies.isEmpty()) {
+            resolveTypes(newTypeProviderFactory(classes, strategies), documentBuilder, runtimeWiringBuilder);
+        } else {
+            String fingerprint = fingerprint(classes);
+            Document.Builder restoredDocumentBuilder = documentBuilder;
+            RuntimeWiring.Builder restoredWiringBuilder = runtimeWiringBuilder;
+            boolean restored = measure(BuildReport.PHASE_SNAPSHOT, () -> SchemaSnapshot.read(snapshotDirectory, fingerprint)
+                    .filter(ele -> ele.isValid(getClassLoader()))
+                    .filter(ele -> restoreSnapshot(ele, newTypeProviderFactory(classes, strategies), restoredDocumentBuilder, restoredWiringBuilder))
+                    .isPresent());
+
+            if (!restored) {
+                documentBuilder = Document.newDocument();
+                runtimeWiringBuilder = RuntimeWiring.newRuntimeWiring();
+
+                TypeProviderFactory factory = newTypeProviderFactory(classes, strategies);
+                List<Definition> definitions = resolveTypes(factory, documentBuilder, runtimeWiringBuilder);
+
+                measure(BuildReport.PHASE_SNAPSHOT, () -> {
+                    saveSnapshot(fingerprint, factory.getResolvedTypeNames(), definitions);
+                    return null;
+                });
+            }
+        }
+
+        return generate(documentBuilder, runtimeWiringBuilder);
+    }
+
+    /**
+     * 构建可增量更新的 Schema。首次构建与 {@link #build()} 相同，之后可以在部分类型变更时，
+     * 通过 {@link IncrementalSchemaBuilder#rebuild(Class[])} 仅重新解析变更的类型与依赖它们的类型。
+     * <p>
+     * 类型解析相关的设置在调用时确定，{@link #typeProvider(TypeProvider[])}、{@link #document(UnaryOperator[])} 等设置在每次构建时读取。
+     * 不使用 {@link #snapshot(Path)} 设置的快照。
+     *
+     * @return IncrementalSchemaBuilder
+     */
+    public IncrementalSchemaBuilder buildIncremental() {
+        StrategyRegistry strategies = newStrategyRegistry();
+
+        return new IncrementalSchemaBuilder(this, strategies, newTypeProviderFactory(searchTypes(), strategies));
+    }
+
+    /**
+     * 创建本次构建使用的 StrategyRegistry，包含已注册的策略实例
+     */
+    StrategyRegistry newStrategyRegistry() {
+        StrategyRegistry registry = new StrategyRegistry(instanceFactory);
+        strategies.forEach(registry::register);
+
+        return registry;
+    }
+
+    /**
+     * 合并自定义的 TypeProvider、Document 与 RuntimeWiring 处理器，生成 Schema
+     */
+    GraphQLSchema generate(Document.Builder documentBuilder, RuntimeWiring.Builder runtimeWiringBuilder) {
+        Document document = measure(BuildReport.PHASE_DOCUMENT, () -> {
+            for (TypeProvider<?> provider : typeProviders) {
+                provider.getDefinitionOperator().apply(documentBuilder);
+                provider.getWiringOperator().apply(runtimeWiringBuilder);
+            }
+
+            return combineUnaryOperator(documentProcessors).apply(documentBuilder).build();
+        });
+
+        TypeDefinitionRegistry parsedRegistry = measure(BuildReport.PHASE_PARSE, () -> new SchemaParser().buildRegistry(document));
+        TypeDefinitionRegistry typeDefinitionRegistry = measure(BuildReport.PHASE_MERGE, () -> {
+            TypeDefinitionRegistry result = parsedRegistry;
+
+            for (TypeDefinitionRegistry registry : typeDefinitionRegistries) {
+                result = result.merge(registry);
+            }
+
+            return result;
+        });
+
+        RuntimeWiring runtimeWiring = measure(BuildReport.PHASE_WIRING, () -> combineUnaryOperator(runtimeWiringProcessors).apply(runtimeWiringBuilder).build());
+
+        return measure(BuildReport.PHASE_GENERATE, () -> new SchemaGenerator().makeExecutableSchema(options, typeDefinitionRegistry, runtimeWiring));
+    }
+
+    /**
+     * 记录一次构建，未设置 BuildReport 时直接执行
+     */
+    <T> T report(Supplier<T> build) {
+        if (buildReport == null) {
+            return build.get();
+        }
+
+        buildReport.start();
+
+        try {
+            return build.get();
+        } finally {
+            buildReport.finish();
+        }
+    }
+
+    /**
+     * 记录构建阶段的耗时，未设置 BuildReport 时直接执行
+     */
+    <T> T measure(String phase, Supplier<T> action) {
+        if (buildReport == null) {
+            return action.get();
+        }
+
+        long startTime = System.nanoTime();
+
+        try {
+            return action.get();
+        } finally {
+            buildReport.recordPhase(phase, System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * 查找注册的类型与包中可被解析的类型。全部包合并为一次 classpath 扫描，
+     * 开启 {@link #typeIndexOnly(boolean)} 时使用 {@link com.ltsoft.graphql.processor.GraphQLTypeIndexProcessor} 在编译时生成的索引。
+     */
+    private List<Class<?>> searchTypes() {
+        List<Class<?>> packageTypes = packageNames.isEmpty()
+                ? Collections.emptyList()
+                : new PackageScanner(getClassLoader(), typeResolvingPool, typeIndexOnly).scan(packageNames);
+
+        return Stream.concat(types.stream(), packageTypes.stream())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private TypeProviderFactory newTypeProviderFactory(List<Class<?>> classes, StrategyRegistry strategies) {
         TypeProviderFactory factory = new TypeProviderFactory();
         factory.setArgumentProviderFactories(argumentProviderFactories);
         factory.setArgumentConverters(argumentConverters);
-        factory.setInstanceFactory(instanceFactory);
+        factory.setInstanceFactory(instanceFactory, lazyInstance);
+        factory.setStrategyRegistry(strategies);
+        factory.setMethodInvokerFactory(methodInvokerFactory);
+        factory.setDataFetcherExecutor(dataFetcherExecutor);
+        factory.setBatchLoaderStatistics(batchLoaderStatistics);
+        factory.setTypeResolvingPool(typeResolvingPool);
+        factory.setBuildReport(buildReport);
 
         scalarTypeMap.forEach(factory::addScalar);
         typeResolvers.forEach(factory::addTypeResolvers);
-        Stream.concat(types.stream(), packageNames.stream().flatMap(this::searchPackage))
-                .distinct()
-                .forEach(factory::addClass);
+        classes.forEach(factory::addClass);
 
-        Stream.concat(factory.getProviders(), typeProviders.stream()).forEach(provider -> {
-            provider.getDefinitionOperator().apply(documentBuilder);
-            provider.getWiringOperator().apply(runtimeWiringBuilder);
+        return factory;
+    }
+
+    /**
+     * 解析全部类型
+     *
+     * @return 解析出的 Definition
+     */
+    private List<Definition> resolveTypes(TypeProviderFactory factory, Document.Builder documentBuilder, RuntimeWiring.Builder runtimeWiringBuilder) {
+        Document.Builder resolvedBuilder = Document.newDocument();
+
+        measure(BuildReport.PHASE_RESOLVE, () -> {
+            factory.getProviders().forEach(provider -> {
+                provider.getDefinitionOperator().apply(resolvedBuilder);
+                provider.getWiringOperator().apply(runtimeWiringBuilder);
+            });
+
+            return null;
         });
 
-        Document document = combineUnaryOperator(documentProcessors).apply(documentBuilder).build();
-        TypeDefinitionRegistry typeDefinitionRegistry = new SchemaParser().buildRegistry(document);
+        List<Definition> definitions = resolvedBuilder.build().getDefinitions();
+        definitions.forEach(documentBuilder::definition);
 
-        for (TypeDefinitionRegistry registry : typeDefinitionRegistries) {
-            typeDefinitionRegistry = typeDefinitionRegistry.merge(registry);
+        return definitions;
+    }
+
+    /**
+     * 从快照恢复 Definition，并重新生成 RuntimeWiring
+     *
+     * @return 是否恢复成功，失败时 documentBuilder 与 runtimeWiringBuilder 可能已被修改
+     */
+    private boolean restoreSnapshot(SchemaSnapshot snapshot, TypeProviderFactory factory, Document.Builder documentBuilder, RuntimeWiring.Builder runtimeWiringBuilder) {
+        try {
+            List<Definition> definitions = snapshot.getDefinitions();
+            Map<Type, String> typeNames = new LinkedHashMap<>(snapshot.getTypeNames(getClassLoader()));
+
+            factory.getWiringOperators(typeNames).forEach(operator -> operator.apply(runtimeWiringBuilder));
+            definitions.forEach(documentBuilder::definition);
+
+            return true;
+        } catch (RuntimeException e) {
+            LOGGER.warn("Restore schema snapshot in '{}' but fail, fallback to resolve types", snapshotDirectory, e);
+            return false;
         }
+    }
 
-        RuntimeWiring runtimeWiring = combineUnaryOperator(runtimeWiringProcessors).apply(runtimeWiringBuilder).build();
+    private void saveSnapshot(String fingerprint, Map<Type, String> typeNames, List<Definition> definitions) {
+        Map<Class<?>, String> classNames = new LinkedHashMap<>();
+
+        for (Map.Entry<Type, String> entry : typeNames.entrySet()) {
+            if (!(entry.getKey() instanceof Class)) {
+                LOGGER.debug("Skip saving schema snapshot case type '{}' is not a class", entry.getKey());
+                return;
+            }
+
+            classNames.put((Class<?>) entry.getKey(), entry.getValue());
+        }
 
-        return new SchemaGenerator().makeExecutableSchema(options, typeDefinitionRegistry, runtimeWiring);
+        try {
+            SchemaSnapshot.create(classNames, definitions, getClassLoader()).write(snapshotDirectory, fingerprint);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Save schema snapshot to '{}' but fail", snapshotDirectory, e);
+        }
+    }
+
+    /**
+     * 快照指纹，包含影响类型解析结果的全部输入
+     */
+    private String fingerprint(List<Class<?>> classes) {
+        SchemaSnapshot.Fingerprint fingerprint = SchemaSnapshot.fingerprint();
+
+        classes.forEach(fingerprint::putClass);
+        scalarTypeMap.forEach((scalarType, javaType) -> fingerprint.putString(scalarType.getName()).putClass(javaType));
+        Stream.of(typeResolvers, argumentProviderFactories, argumentConverters)
+                .flatMap(Collection::stream)
+                .forEach(ele -> fingerprint.putClass(ele.getClass()));
+        fingerprint.putString(String.valueOf(options.isEnforceSchemaDirectives()));
+
+        return fingerprint.build();
+    }
+
+    private ClassLoader getClassLoader() {
+        return classLoader != null ? classLoader : getClass().getClassLoader();
     }
 
     private <T> UnaryOperator<T> combineUnaryOperator(Collection<UnaryOperator<T>> unaryOperators) {
@@ -135,15 +517,4 @@ public final class GraphQLSchemaBuilder {
                 .reduce((left, right) -> builder -> right.apply(left.apply(builder)))
                 .orElse(UnaryOperator.identity());
     }
-
-    private Stream<? extends Class<?>> searchPackage(String packageName) {
-        try {
-            //noinspection UnstableApiUsage
-            return ClassPath.from(getClass().getClassLoader()).getTopLevelClasses(packageName).stream()
-                    .map(ClassPath.ClassInfo::load)
-                    .filter(ResolveUtil::canResolve);
-        } catch (IOException e) {
-            throw new IllegalStateException(String.format("Search package '%s' but fail", packageName), e);
-        }
-    }
 }
@@ -0,0 +1,71 @@
+package com.ltsoft.graphql;
+
+import com.ltsoft.graphql.impl.BuildReport;
+import com.ltsoft.graphql.resolver.StrategyRegistry;
+import com.ltsoft.graphql.resolver.TypeProviderFactory;
+import graphql.language.Document;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * 可增量更新的 Schema，由 {@link GraphQLSchemaBuilder#buildIncremental()} 创建。
+ * <p>
+ * 保留已解析的 TypeProvider 与类型间的依赖关系，类型变更后仅重新解析变更的类型与直接或间接依赖它们的类型，
+ * 生成的 Schema 与使用相同类型完整构建一致。生成 Document 与 RuntimeWiring、创建 GraphQLSchema 仍会处理全部类型。
+ */
+public final class IncrementalSchemaBuilder {
+
+    private final GraphQLSchemaBuilder schemaBuilder;
+    private final StrategyRegistry strategies;
+    private final TypeProviderFactory factory;
+
+    private GraphQLSchema schema;
+
+    IncrementalSchemaBuilder(GraphQLSchemaBuilder schemaBuilder, StrategyRegistry strategies, TypeProviderFactory factory) {
+        this.schemaBuilder = schemaBuilder;
+        this.strategies = strategies;
+        this.factory = factory;
+        this.schema = strategies.bind(() -> schemaBuilder.report(() -> generate(factory.getProviders())));
+    }
+
+    /**
+     * 获取最近一次构建的 Schema
+     *
+     * @return GraphQLSchema
+     */
+    public synchronized GraphQLSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * 部分类型变更后重新构建 Schema。
+     * 与已解析类型同名但不是同一个 Class 的类型（如使用新的 ClassLoader 重新加载）将替换原类型，尚未解析过的类型作为新的类型加入。
+     *
+     * @param changedClasses 变更的类型
+     * @return 新的 GraphQLSchema
+     */
+    public synchronized GraphQLSchema rebuild(Class<?>... changedClasses) {
+        schema = strategies.bind(() -> schemaBuilder.report(() -> generate(factory.rebuildProviders(Arrays.asList(changedClasses)))));
+
+        return schema;
+    }
+
+    private GraphQLSchema generate(Stream<TypeProvider<?>> providers) {
+        Document.Builder documentBuilder = Document.newDocument();
+        RuntimeWiring.Builder runtimeWiringBuilder = RuntimeWiring.newRuntimeWiring();
+
+        schemaBuilder.measure(BuildReport.PHASE_RESOLVE, () -> {
+            providers.forEach(provider -> {
+                provider.getDefinitionOperator().apply(documentBuilder);
+                provider.getWiringOperator().apply(runtimeWiringBuilder);
+            });
+
+            return null;
+        });
+
+        return schemaBuilder.generate(documentBuilder, runtimeWiringBuilder);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ltsoft.graphql;
+
+import com.ltsoft.graphql.impl.ServiceDataFetcher;
+
+/**
+ * ServiceDataFetcher 方法调用器。在构建 RuntimeWiring 时绑定到具体的 Java 方法，每次获取字段数据时调用。
+ * 对不超过 4 个参数的方法，{@link ServiceDataFetcher} 会调用对应参数数量的重载方法，实现类可以覆盖这些方法以避免创建参数数组。
+ *
+ * @see ServiceDataFetcher
+ * @see MethodInvokerFactory
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+
+    /**
+     * 调用绑定的方法
+     *
+     * @param instance  方法所属的实例
+     * @param arguments 方法参数
+     * @return 方法返回值，void 方法返回 null
+     * @throws Throwable 方法抛出的原始异常
+     */
+    Object invoke(Object instance, Object[] arguments) throws Throwable;
+
+    default Object invoke(Object instance) throws Throwable {
+        return invoke(instance, new Object[0]);
+    }
+
+    default Object invoke(Object instance, Object arg0) throws Throwable {
+        return invoke(instance, new Object[]{arg0});
+    }
+
+    default Object invoke(Object instance, Object arg0, Object arg1) throws Throwable {
+        return invoke(instance, new Object[]{arg0, arg1});
+    }
+
+    default Object invoke(Object instance, Object arg0, Object arg1, Object arg2) throws Throwable {
+        return invoke(instance, new Object[]{arg0, arg1, arg2});
+    }
+
+    default Object invoke(Object instance, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+        return invoke(instance, new Object[]{arg0, arg1, arg2, arg3});
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.ltsoft.graphql;
+
+import java.lang.reflect.Method;
+
+/**
+ * ServiceDataFetcher 方法调用器工厂，决定 {@link com.ltsoft.graphql.annotations.GraphQLDataFetcher} 方法的调用方式
+ *
+ * @see com.ltsoft.graphql.impl.ReflectionMethodInvokerFactory
+ * @see com.ltsoft.graphql.impl.MethodHandleInvokerFactory
+ * @see com.ltsoft.graphql.impl.LambdaMethodInvokerFactory
+ * @see com.ltsoft.graphql.impl.GeneratedMethodInvokerFactory
+ */
+public interface MethodInvokerFactory {
+
+    /**
+     * 为方法构造调用器。该方法仅在构建 RuntimeWiring 时调用一次。
+     *
+     * @param method 需要调用的方法
+     * @return 方法调用器
+     */
+    MethodInvoker build(Method method);
+
+}
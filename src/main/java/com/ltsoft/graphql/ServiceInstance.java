@@ -0,0 +1,53 @@
+package com.ltsoft.graphql;
+
+import com.ltsoft.graphql.impl.BatchDataFetcher;
+import com.ltsoft.graphql.impl.ServiceDataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * {@link ServiceDataFetcher} 与 {@link BatchDataFetcher} 调用方法时使用的实例。
+ * 每次获取字段数据时通过 {@link #get(DataFetchingEnvironment)} 取得实例，实现类决定实例的创建时机与共享范围。
+ *
+ * @see com.ltsoft.graphql.impl.SharedServiceInstance
+ * @see com.ltsoft.graphql.impl.RequestScopedServiceInstance
+ * @see com.ltsoft.graphql.impl.PooledServiceInstance
+ */
+public interface ServiceInstance {
+
+    /**
+     * @return 实例的类型，用于解析字段名称
+     */
+    Class<?> getType();
+
+    /**
+     * 获取本次调用使用的实例
+     *
+     * @param environment 当前字段的 DataFetchingEnvironment
+     * @return 方法所属的实例
+     */
+    Object get(DataFetchingEnvironment environment);
+
+    /**
+     * 方法调用完成后归还实例，返回 {@link java.util.concurrent.CompletionStage} 的方法在其完成后归还。
+     * 仅在 {@link #isReleaseRequired()} 时调用。
+     *
+     * @param instance 通过 {@link #get(DataFetchingEnvironment)} 获取的实例
+     */
+    default void release(Object instance) {
+    }
+
+    /**
+     * @return 调用完成后是否需要通过 {@link #release(Object)} 归还实例
+     */
+    default boolean isReleaseRequired() {
+        return false;
+    }
+
+    /**
+     * @return 返回 {@link java.util.concurrent.CompletionStage} 的方法是否在其完成后才归还实例，为 false 时在方法返回后立即归还
+     */
+    default boolean isReleaseOnCompletion() {
+        return true;
+    }
+
+}
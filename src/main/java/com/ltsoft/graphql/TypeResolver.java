@@ -1,9 +1,11 @@
 package com.ltsoft.graphql;
 
 import graphql.language.Definition;
+import graphql.schema.idl.RuntimeWiring;
 
 import java.lang.reflect.Type;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 /**
  * GraphQL Definition 解析器
@@ -29,4 +31,16 @@ public interface TypeResolver<T extends Definition> {
      * @return TypeProvider
      */
     TypeProvider<T> resolve(Type javaType, Function<Type, TypeProvider<?>> resolver);
+
+    /**
+     * 仅解析 Java Type 的 RuntimeWiring，从 Schema 快照恢复时使用，可跳过 Definition 的解析。
+     * 默认完整解析后返回 {@link TypeProvider#getWiringOperator()}。
+     *
+     * @param javaType Java 类型
+     * @param resolver 同 {@link #resolve(Type, Function)}，但返回的 TypeProvider 仅支持获取类型名称
+     * @return RuntimeWiring 处理器
+     */
+    default UnaryOperator<RuntimeWiring.Builder> resolveWiring(Type javaType, Function<Type, TypeProvider<?>> resolver) {
+        return resolve(javaType, resolver).getWiringOperator();
+    }
 }
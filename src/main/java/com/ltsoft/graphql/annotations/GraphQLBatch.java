@@ -0,0 +1,38 @@
+package com.ltsoft.graphql.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 声明批量获取字段数据的方法，方法将被包装为每个请求独立的 {@link org.dataloader.DataLoader}。
+ * <p>
+ * 方法只能有一个 {@link java.util.List} 参数，接收一批父对象（即 {@code DataFetchingEnvironment#getSource()}）；
+ * 返回值为与参数顺序一致的 {@link java.util.List}，或以父对象为 Key 的 {@link java.util.Map}，也可以是二者的 {@link java.util.concurrent.CompletionStage}。
+ * 字段类型为 List 的元素类型或 Map 的值类型。
+ * <p>
+ * 执行请求时需要在 {@link graphql.ExecutionInput} 中设置 {@link org.dataloader.DataLoaderRegistry}，
+ * 推荐使用 {@link com.ltsoft.graphql.impl.BatchLoaders#newRegistry()} 在执行前注册全部 DataLoader，
+ * 否则 DataLoader 将在首次获取字段时自动注册。未设置时每个父对象单独调用一次方法。
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+@Inherited
+public @interface GraphQLBatch {
+
+    /**
+     * @return 单次批量调用的最大 Key 数量，不大于 0 时不限制
+     */
+    int maxBatchSize() default -1;
+
+    /**
+     * @return 同一请求中是否缓存相同父对象的结果
+     */
+    boolean cached() default true;
+
+}
@@ -0,0 +1,36 @@
+package com.ltsoft.graphql.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 声明 {@link GraphQLDataFetcher} 与 {@link GraphQLBatch} 方法所属的实例从对象池中获取，适用于保存调用状态、不能被多线程共享的类型。
+ * <p>
+ * 每次调用方法前从池中借出一个实例，方法返回后归还；返回 {@link java.util.concurrent.CompletionStage} 的方法在其完成后归还。
+ * 池中没有空闲实例且实例总数小于 {@link #maxSize()} 时通过 {@link com.ltsoft.graphql.InstanceFactory} 创建新实例，
+ * 否则等待其它调用归还实例。
+ *
+ * @see GraphQLRequestScope
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+@Inherited
+public @interface GraphQLPooled {
+
+    /**
+     * @return 池中实例的最大数量
+     */
+    int maxSize() default 8;
+
+    /**
+     * @return 等待空闲实例的最长时间，单位为毫秒，小于 0 时一直等待
+     */
+    long maxWait() default 10_000;
+
+}
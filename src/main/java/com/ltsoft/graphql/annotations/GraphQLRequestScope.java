@@ -0,0 +1,29 @@
+package com.ltsoft.graphql.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 声明 {@link GraphQLDataFetcher} 与 {@link GraphQLBatch} 方法所属的实例在每个请求中单独创建。
+ * <p>
+ * 实例在请求中首次获取该类型的字段数据时通过 {@link com.ltsoft.graphql.InstanceFactory} 创建，
+ * 保存在请求的 {@link graphql.GraphQLContext} 中，同一请求的所有字段共享该实例。
+ * 执行请求时 {@link graphql.ExecutionInput} 的 context 需要是 GraphQLContext（graphql-java 的默认值）。
+ * <p>
+ * 同一请求中的字段可能被并行获取（如设置了 dataFetcherExecutor），此时对该实例的方法调用按请求互斥、逐个进行，
+ * 实例无需支持并发调用。返回 {@link java.util.concurrent.CompletionStage} 的方法仅在返回前互斥，
+ * 其异步执行的部分仍需要自行保证线程安全。
+ *
+ * @see GraphQLPooled
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+@Inherited
+public @interface GraphQLRequestScope {
+}
@@ -0,0 +1,87 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.reflect.TypeToken;
+import com.ltsoft.graphql.ArgumentConverter;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+/**
+ * 参数转换计划。
+ * 每组（输入数据类型，输出类型）只在首次转换时遍历 {@link ArgumentConverter} 并选定转换器，之后直接使用缓存的转换过程。
+ * 嵌套数据（如 List、输入对象的字段）经由 {@link ArgumentConverter#convert} 的 orElse 参数回到本计划，同样命中缓存。
+ * <p>
+ * 缓存假定 {@link ArgumentConverter#isSupport} 的结果只由输入与输出类型决定。
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class ArgumentConversionPlan {
+
+    private final List<ArgumentConverter<?>> converters;
+    private final BiFunction<Object, TypeToken<?>, ?> orElse = this::convert;
+
+    //缓存由计划持有，不挂在输入数据的类型上，计划不再使用时可随之回收
+    private final ConcurrentMap<Class<?>, ConcurrentMap<TypeToken<?>, Conversion>> conversions = new ConcurrentHashMap<>();
+
+    public ArgumentConversionPlan(List<ArgumentConverter<?>> converters) {
+        this.converters = converters;
+    }
+
+    /**
+     * 将输入数据转换为指定类型
+     *
+     * @param source 输入数据
+     * @param type   输出类型
+     * @return 转换结果，输入为 null 时返回 null
+     */
+    public Object convert(Object source, TypeToken<?> type) {
+        if (source == null) {
+            return null;
+        }
+
+        return lookup(source.getClass(), type).convert(source);
+    }
+
+    Conversion lookup(Class<?> sourceType, TypeToken<?> type) {
+        ConcurrentMap<TypeToken<?>, Conversion> cache = conversions.get(sourceType);
+
+        if (cache == null) {
+            cache = conversions.computeIfAbsent(sourceType, key -> new ConcurrentHashMap<>());
+        }
+        Conversion conversion = cache.get(type);
+
+        if (conversion == null) {
+            conversion = cache.computeIfAbsent(type, key -> compile(sourceType, key));
+        }
+
+        return conversion;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Conversion compile(Class<?> sourceType, TypeToken<?> type) {
+        TypeToken<?> from = TypeToken.of(sourceType);
+        TypeToken<Object> to = (TypeToken<Object>) type;
+
+        for (ArgumentConverter<?> converter : converters) {
+            if (converter.isSupport(from, type)) {
+                ArgumentConverter<Object> target = (ArgumentConverter<Object>) converter;
+
+                return source -> target.convert(source, to, orElse);
+            }
+        }
+
+        return source -> {
+            throw new IllegalArgumentException(String.format("can not cast '%s' to '%s'", sourceType.getSimpleName(), type.toString()));
+        };
+    }
+
+    /**
+     * 已选定转换器的转换过程
+     */
+    @FunctionalInterface
+    interface Conversion {
+
+        Object convert(Object source);
+    }
+}
@@ -0,0 +1,38 @@
+package com.ltsoft.graphql.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 创建用于 {@link ServiceDataFetcher} 的 Executor
+ */
+public final class AsyncExecutors {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncExecutors.class);
+
+    private AsyncExecutors() {
+    }
+
+    /**
+     * 创建为每个任务启动一个虚拟线程的 Executor。
+     * 当前 JDK 不支持虚拟线程时返回 {@link Optional#empty()}，调用方可自行选择其它 Executor。
+     *
+     * @return 虚拟线程 Executor
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) method.invoke(null));
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Can not create virtual thread executor", e);
+            return Optional.empty();
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.ltsoft.graphql.impl;
 
-import com.google.common.collect.BiMap;
 import com.ltsoft.graphql.GraphQLDirectiveBuilder;
+import com.ltsoft.graphql.provider.EnumValueMapping;
 import graphql.language.*;
 
 import java.lang.annotation.Annotation;
@@ -13,8 +13,6 @@ import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static com.ltsoft.graphql.resolver.ResolveUtil.resolveEnumValueMap;
-
 public abstract class BasicDirectiveBuilder<T extends Annotation> implements GraphQLDirectiveBuilder<T> {
 
     //使用 ThreadLocal 将参数暂存……这个用法有点 Hack 了
@@ -70,8 +68,8 @@ public abstract class BasicDirectiveBuilder<T extends Annotation> implements Gra
             throw new IllegalArgumentException(String.format("Unsupported directive argument type '%s'", itemType.getName()));
         }
 
-        BiMap<Object, String> valueMap = resolveEnumValueMap(itemType).inverse();
-        String[] itemNames = Arrays.stream(items).map(valueMap::get).toArray(String[]::new);
+        EnumValueMapping mapping = EnumValueMapping.of(itemType);
+        String[] itemNames = Arrays.stream(items).map(mapping::getName).toArray(String[]::new);
 
         arguments(name, itemNames, EnumValue::new);
     }
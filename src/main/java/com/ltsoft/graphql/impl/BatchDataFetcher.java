@@ -0,0 +1,240 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.MethodInvoker;
+import com.ltsoft.graphql.MethodInvokerFactory;
+import com.ltsoft.graphql.ServiceInstance;
+import com.ltsoft.graphql.annotations.GraphQLBatch;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentationState;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.BatchLoaderWithContext;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderOptions;
+import org.dataloader.DataLoaderRegistry;
+import org.dataloader.stats.DelegatingStatisticsCollector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.ltsoft.graphql.resolver.ResolveUtil.resolveFieldName;
+
+/**
+ * 通过 {@link DataLoader} 调用 {@link GraphQLBatch} 方法获取字段数据。
+ * DataLoader 以 {@link #getLoaderName()} 为名称注册到当前请求的 {@link DataLoaderRegistry} 中，
+ * 同一请求内的所有父对象将合并为一次或多次批量调用。
+ * 推荐通过 {@link BatchLoaders#newRegistry()} 在执行前注册全部 DataLoader，未注册时在首次获取字段数据时注册。
+ */
+public class BatchDataFetcher implements DataFetcher<CompletableFuture<Object>> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchDataFetcher.class);
+
+    private final String fieldName;
+    private final String loaderName;
+    private final ServiceInstance instance;
+    private final Method method;
+    private final MethodInvoker invoker;
+    private final Executor executor;
+    private final DataLoaderOptions options;
+    private final boolean releaseRequired;
+    private final boolean releaseOnCompletion;
+    private final AtomicBoolean warned = new AtomicBoolean();
+
+    /**
+     * @param parentType     字段所属的 GraphQL 类型名称
+     * @param instance       方法所属的实例
+     * @param method         批量方法
+     * @param invokerFactory 方法调用器工厂
+     * @param executor       执行批量方法的 Executor，为 null 时在 DataLoader 分发线程中执行
+     * @param statistics     DataLoader 统计数据
+     */
+    public BatchDataFetcher(String parentType, Object instance, Method method, MethodInvokerFactory invokerFactory, Executor executor, BatchLoaderStatistics statistics) {
+        this(parentType, SharedServiceInstance.of(instance), method, invokerFactory, executor, statistics);
+    }
+
+    /**
+     * @param parentType     字段所属的 GraphQL 类型名称
+     * @param instance       获取方法所属实例的 ServiceInstance，同一请求内的批量调用使用首次获取字段数据时的 DataFetchingEnvironment
+     * @param method         批量方法
+     * @param invokerFactory 方法调用器工厂
+     * @param executor       执行批量方法的 Executor，为 null 时在 DataLoader 分发线程中执行
+     * @param statistics     DataLoader 统计数据
+     */
+    public BatchDataFetcher(String parentType, ServiceInstance instance, Method method, MethodInvokerFactory invokerFactory, Executor executor, BatchLoaderStatistics statistics) {
+        checkArgument(method.getParameterCount() == 1 && method.getParameterTypes()[0].isAssignableFrom(List.class),
+                String.format("Batch method %s#%s must have only one List parameter", method.getDeclaringClass().getName(), method.getName()));
+
+        GraphQLBatch batch = method.getAnnotation(GraphQLBatch.class);
+
+        this.fieldName = resolveFieldName(instance.getType(), method, null);
+        this.loaderName = String.format("%s.%s", parentType, fieldName);
+        this.instance = instance;
+        this.method = method;
+        this.invoker = invokerFactory.build(method);
+        //异步方法自行管理执行线程，不再提交到 Executor
+        this.executor = CompletionStage.class.isAssignableFrom(method.getReturnType()) ? null : executor;
+        this.releaseRequired = instance.isReleaseRequired();
+        this.releaseOnCompletion = instance.isReleaseOnCompletion();
+        this.options = DataLoaderOptions.newOptions()
+                .setMaxBatchSize(batch.maxBatchSize())
+                .setCachingEnabled(batch.cached())
+                .setStatisticsCollector(() -> new DelegatingStatisticsCollector(statistics.getCollector(loaderName)));
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getLoaderName() {
+        return loaderName;
+    }
+
+    /**
+     * 创建批量方法的 DataLoader，批量调用时使用第一个 Key 对应的 DataFetchingEnvironment
+     *
+     * @return DataLoader
+     */
+    public DataLoader<Object, Object> newDataLoader() {
+        BatchLoaderWithContext<Object, Object> batchLoader = (keys, env) -> load(keys, (DataFetchingEnvironment) env.getKeyContextsList().get(0));
+
+        return DataLoader.newDataLoader(batchLoader, options);
+    }
+
+    @Override
+    public CompletableFuture<Object> get(DataFetchingEnvironment environment) {
+        DataLoaderRegistry registry = environment.getDataLoaderRegistry();
+        Object source = environment.getSource();
+
+        if (registry == null || registry == DataLoaderDispatcherInstrumentationState.EMPTY_DATALOADER_REGISTRY) {
+            //未设置 DataLoaderRegistry 时不能注册 DataLoader，退化为逐个调用
+            warnOnce("DataLoaderRegistry is not set, batch field '{}' will be loaded one by one, create one by BatchLoaders#newRegistry");
+            return load(Collections.singletonList(source), environment).thenApply(values -> values.get(0));
+        }
+
+        DataLoader<Object, Object> dataLoader = registry.getDataLoader(loaderName);
+
+        if (dataLoader == null) {
+            warnOnce("DataLoader of batch field '{}' is not registered before execution, create DataLoaderRegistry by BatchLoaders#newRegistry");
+            dataLoader = registry.computeIfAbsent(loaderName, name -> newDataLoader());
+        }
+
+        return dataLoader.load(source, environment);
+    }
+
+    private void warnOnce(String message) {
+        if (warned.compareAndSet(false, true)) {
+            LOGGER.warn(message, loaderName);
+        }
+    }
+
+    private CompletableFuture<List<Object>> load(List<Object> keys, DataFetchingEnvironment environment) {
+        if (executor == null) {
+            return invoke(keys, environment);
+        }
+
+        CompletableFuture<List<Object>> future = new CompletableFuture<>();
+
+        try {
+            executor.execute(() -> invoke(keys, environment).whenComplete((values, e) -> {
+                if (e != null) {
+                    future.completeExceptionally(e);
+                } else {
+                    future.complete(values);
+                }
+            }));
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    private CompletableFuture<List<Object>> invoke(List<Object> keys, DataFetchingEnvironment environment) {
+        Object target;
+        Object result;
+
+        try {
+            target = instance.get(environment);
+        } catch (Throwable e) {
+            return failed(e);
+        }
+
+        try {
+            result = invoker.invoke(target, keys);
+        } catch (Throwable e) {
+            release(target);
+            return failed(e instanceof Exception || e instanceof Error ? e : new UndeclaredThrowableException(e));
+        }
+
+        if (result instanceof CompletionStage) {
+            CompletionStage<?> stage = (CompletionStage<?>) result;
+
+            if (releaseOnCompletion) {
+                stage = stage.whenComplete((values, e) -> release(target));
+            } else {
+                release(target);
+            }
+
+            return stage.thenApply(values -> toValues(keys, values)).toCompletableFuture();
+        }
+
+        release(target);
+
+        try {
+            return CompletableFuture.completedFuture(toValues(keys, result));
+        } catch (RuntimeException e) {
+            return failed(e);
+        }
+    }
+
+    private void release(Object target) {
+        if (releaseRequired) {
+            instance.release(target);
+        }
+    }
+
+    private static CompletableFuture<List<Object>> failed(Throwable e) {
+        CompletableFuture<List<Object>> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+
+    /**
+     * 将批量方法的返回值按 Key 的顺序转换为 List
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> toValues(List<Object> keys, Object result) {
+        if (result == null) {
+            return new ArrayList<>(Collections.nCopies(keys.size(), null));
+        }
+
+        if (result instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) result;
+            List<Object> values = new ArrayList<>(keys.size());
+
+            for (Object key : keys) {
+                values.add(map.get(key));
+            }
+
+            return values;
+        }
+
+        List<Object> values = (List<Object>) result;
+
+        if (values.size() != keys.size()) {
+            throw new IllegalStateException(String.format("Batch method %s#%s must return %d values, but found %d", method.getDeclaringClass().getName(), method.getName(), keys.size(), values.size()));
+        }
+
+        return values;
+    }
+}
@@ -0,0 +1,42 @@
+package com.ltsoft.graphql.impl;
+
+import org.dataloader.stats.SimpleStatisticsCollector;
+import org.dataloader.stats.Statistics;
+import org.dataloader.stats.StatisticsCollector;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 汇总各个 {@link BatchDataFetcher} 在所有请求中的 DataLoader 统计数据。
+ * {@link Statistics#getBatchInvokeCount()} 为批量方法的调用次数，
+ * {@link Statistics#getBatchLoadCount()} 为批量加载的 Key 总数，二者之比即平均批量大小。
+ */
+public class BatchLoaderStatistics {
+
+    private final ConcurrentMap<String, StatisticsCollector> collectors = new ConcurrentHashMap<>();
+
+    StatisticsCollector getCollector(String loaderName) {
+        return collectors.computeIfAbsent(loaderName, name -> new SimpleStatisticsCollector());
+    }
+
+    /**
+     * @param loaderName DataLoader 名称，格式为 {@code 类型名.字段名}
+     * @return 对应 DataLoader 的统计数据，未使用时返回空统计
+     */
+    public Statistics getStatistics(String loaderName) {
+        StatisticsCollector collector = collectors.get(loaderName);
+
+        return collector != null ? collector.getStatistics() : new Statistics();
+    }
+
+    /**
+     * @return 全部 DataLoader 的统计数据
+     */
+    public Map<String, Statistics> getStatistics() {
+        Map<String, Statistics> result = new ConcurrentHashMap<>();
+        collectors.forEach((name, collector) -> result.put(name, collector.getStatistics()));
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ltsoft.graphql.impl;
+
+import graphql.ExecutionInput;
+import graphql.GraphQL;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
+import org.dataloader.DataLoaderRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 从已构建的 Schema 中收集全部 {@link BatchDataFetcher}，为每个请求创建注册了全部 DataLoader 的 {@link DataLoaderRegistry}。
+ * 同一 Schema 只需创建一次，随后每个请求调用 {@link #newRegistry()} 或 {@link #newExecutionInput()}。
+ */
+public final class BatchLoaders {
+
+    private final GraphQLSchema schema;
+    private final Map<String, BatchDataFetcher> dataFetchers;
+
+    private BatchLoaders(GraphQLSchema schema, Map<String, BatchDataFetcher> dataFetchers) {
+        this.schema = schema;
+        this.dataFetchers = dataFetchers;
+    }
+
+    /**
+     * @param schema 由 {@link com.ltsoft.graphql.GraphQLSchemaBuilder} 构建的 Schema
+     * @return Schema 中全部批量字段的 DataLoader
+     */
+    public static BatchLoaders of(GraphQLSchema schema) {
+        GraphQLCodeRegistry codeRegistry = schema.getCodeRegistry();
+        Map<String, BatchDataFetcher> dataFetchers = new LinkedHashMap<>();
+
+        for (GraphQLType type : schema.getAllTypesAsList()) {
+            if (type instanceof GraphQLObjectType) {
+                GraphQLObjectType objectType = (GraphQLObjectType) type;
+
+                for (GraphQLFieldDefinition field : objectType.getFieldDefinitions()) {
+                    DataFetcher<?> dataFetcher = codeRegistry.getDataFetcher(objectType, field);
+
+                    if (dataFetcher instanceof BatchDataFetcher) {
+                        BatchDataFetcher batchDataFetcher = (BatchDataFetcher) dataFetcher;
+                        dataFetchers.putIfAbsent(batchDataFetcher.getLoaderName(), batchDataFetcher);
+                    }
+                }
+            }
+        }
+
+        return new BatchLoaders(schema, Collections.unmodifiableMap(dataFetchers));
+    }
+
+    /**
+     * @return 全部 DataLoader 的名称
+     */
+    public List<String> getLoaderNames() {
+        return new ArrayList<>(dataFetchers.keySet());
+    }
+
+    /**
+     * 创建单个请求使用的 DataLoaderRegistry，DataLoader 会缓存加载结果，不可在请求间共享
+     *
+     * @return 注册了全部 DataLoader 的 DataLoaderRegistry
+     */
+    public DataLoaderRegistry newRegistry() {
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+        dataFetchers.forEach((name, dataFetcher) -> registry.register(name, dataFetcher.newDataLoader()));
+        return registry;
+    }
+
+    /**
+     * @return 设置了新 DataLoaderRegistry 的 ExecutionInput.Builder
+     */
+    public ExecutionInput.Builder newExecutionInput() {
+        return ExecutionInput.newExecutionInput().dataLoaderRegistry(newRegistry());
+    }
+
+    /**
+     * @return 使用 {@link DataLoaderDispatcherInstrumentation} 分发 DataLoader 的 GraphQL.Builder
+     */
+    public GraphQL.Builder newGraphQL() {
+        return GraphQL.newGraphQL(schema).instrumentation(new DataLoaderDispatcherInstrumentation());
+    }
+}
@@ -1,61 +1,46 @@
 package com.ltsoft.graphql.impl;
 
-import com.google.common.base.CaseFormat;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.reflect.TypeToken;
 import com.ltsoft.graphql.ArgumentConverter;
 import com.ltsoft.graphql.InstanceFactory;
+import com.ltsoft.graphql.resolver.StrategyRegistry;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
 
 @SuppressWarnings("UnstableApiUsage")
 public class BeanArgumentConverter implements ArgumentConverter<Object> {
 
-    private static Cache<String, Optional<Method>> METHOD_CACHE = CacheBuilder.newBuilder()
-            .expireAfterAccess(1, TimeUnit.HOURS)
-            .build();
-
     private final InstanceFactory instanceFactory;
+    private final StrategyRegistry strategies;
+    private final ConcurrentMap<Class<?>, BeanBinder> binders = new ConcurrentHashMap<>();
 
     public BeanArgumentConverter(InstanceFactory instanceFactory) {
-        this.instanceFactory = instanceFactory;
+        this(instanceFactory, new StrategyRegistry(instanceFactory));
     }
 
-    private Method findSetter(TypeToken<?> type, String key, Object val) {
-        Class<?> rawType = type.getRawType();
-        String methodName = "set" + CaseFormat.LOWER_CAMEL.to(CaseFormat.UPPER_CAMEL, key);
-
-        try {
-            return METHOD_CACHE.get(rawType.getName() + "#" + key, () -> {
-                try {
-                    if (val != null) {
-                        return Optional.of(rawType.getMethod(methodName, val.getClass()));
-                    } else {
-                        return findSetterByName(rawType, methodName);
-                    }
-                } catch (NoSuchMethodException e) {
-                    return findSetterByName(rawType, methodName);
-                }
-            }).orElse(null);
-        } catch (ExecutionException e) {
-            throw new IllegalStateException(String.format("Find method '%s' of class '%s' fail.", methodName, rawType.getName()), e);
-        }
+    /**
+     * @param instanceFactory 创建输入对象的 InstanceFactory
+     * @param strategies      构建 Schema 所用的策略注册表，转换在查询时执行，输入对象的字段名称需要与构建时一致
+     */
+    public BeanArgumentConverter(InstanceFactory instanceFactory, StrategyRegistry strategies) {
+        this.instanceFactory = requireNonNull(instanceFactory);
+        this.strategies = requireNonNull(strategies);
     }
 
-    private Optional<Method> findSetterByName(Class<?> type, String methodName) {
-        return Arrays.stream(type.getMethods())
-                .filter(method -> methodName.equals(method.getName()))
-                .findFirst();
+    /**
+     * 检查输入对象的字段能否确定 setter，存在无法选择的重载 setter 时抛出异常。
+     * 构建 Schema 时解析输入对象即进行检查，使错误在构建时出现，而不是在首次转换参数时使查询失败
+     *
+     * @param type 输入对象类型
+     */
+    public static void checkSetters(Class<?> type) {
+        BeanBinder.selectSetters(type);
     }
 
     @Override
@@ -69,27 +54,36 @@ public class BeanArgumentConverter implements ArgumentConverter<Object> {
 
         //noinspection unchecked
         Map<String, Object> source = (Map<String, Object>) value;
-        Object bean = instanceFactory.provide(type.getRawType());
-
-        try {
-            for (Map.Entry<String, Object> entry : source.entrySet()) {
-                String key = entry.getKey();
-                Object val = entry.getValue();
+        Class<?> rawType = type.getRawType();
+        BeanBinder binder = getBinder(rawType);
+        Object bean = instanceFactory.provide(rawType);
 
-                Method method = findSetter(type, key, val);
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            BeanBinder.Setter setter = binder.getSetter(entry.getKey());
 
-                if (method == null) {
-                    continue;
-                }
+            if (setter == null) {
+                continue;
+            }
 
-                TypeToken<?> paramType = TypeToken.of(method.getParameters()[0].getParameterizedType());
+            Object val = orElse.apply(entry.getValue(), setter.getParameterType());
 
-                method.invoke(bean, orElse.apply(val, paramType));
+            try {
+                setter.set(bean, val);
+            } catch (Throwable e) {
+                throw new IllegalStateException(String.format("Convert data to %s fail", rawType.getName()), e);
             }
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new IllegalStateException(String.format("Convert data to %s fail", type.getRawType().getName()), e);
         }
 
         return bean;
     }
+
+    private BeanBinder getBinder(Class<?> type) {
+        BeanBinder binder = binders.get(type);
+
+        if (binder == null) {
+            binder = binders.computeIfAbsent(type, key -> strategies.bind(() -> new BeanBinder(key)));
+        }
+
+        return binder;
+    }
 }
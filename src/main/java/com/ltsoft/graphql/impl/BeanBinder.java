@@ -0,0 +1,182 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.base.CaseFormat;
+import com.google.common.reflect.TypeToken;
+import com.ltsoft.graphql.resolver.ClassMetadata;
+import com.ltsoft.graphql.resolver.FieldInformation;
+import com.ltsoft.graphql.resolver.ResolveUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 输入对象的字段绑定表，由 {@link BeanArgumentConverter} 为每个类型构建一次。
+ * 字段名称优先按 GraphQL 字段名称（含 {@link com.ltsoft.graphql.annotations.GraphQLName}）映射，
+ * 其次按 setter 方法名映射，与构建 Schema 时输入对象的字段定义保持一致。
+ * 字段名称依赖 {@link com.ltsoft.graphql.resolver.StrategyRegistry} 中的策略，构建时需要绑定构建 Schema 所用的注册表。
+ * 同一字段存在多个重载的 setter 时，选择参数类型与同名字段（或 getter）类型一致的方法，无法确定时抛出异常，
+ * 输入对象类型在构建 Schema 时已通过 {@link BeanArgumentConverter#checkSetters(Class)} 检查。
+ */
+@SuppressWarnings("UnstableApiUsage")
+final class BeanBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BeanBinder.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Map<String, Setter> setters = new HashMap<>();
+
+    BeanBinder(Class<?> type) {
+        selectSetters(type).forEach((name, method) -> setters.put(name, new Setter(method)));
+    }
+
+    /**
+     * 选择输入对象各字段的 setter，重载的 setter 无法确定时抛出异常
+     *
+     * @param type 输入对象类型
+     * @return 字段名称到 setter 的映射
+     */
+    static Map<String, Method> selectSetters(Class<?> type) {
+        Map<String, Method> selected = new HashMap<>();
+        Map<String, List<Method>> candidates = new LinkedHashMap<>();
+
+        for (Method method : type.getMethods()) {
+            if (isSetter(method)) {
+                String name = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, method.getName().substring(3));
+                candidates.computeIfAbsent(name, key -> new ArrayList<>()).add(method);
+            }
+        }
+
+        candidates.forEach((name, methods) -> selected.put(name, selectSetter(type, name, methods)));
+
+        if (!type.isInterface() && !type.isArray() && !type.isPrimitive()) {
+            Map<String, List<Method>> fields = new LinkedHashMap<>();
+
+            ResolveUtil.resolveFields(type)
+                    .filter(FieldInformation::isSetter)
+                    .filter(info -> info.getMethod() != null && isSetter(info.getMethod()))
+                    .forEach(info -> fields.computeIfAbsent(info.getName(), key -> new ArrayList<>()).add(info.getMethod()));
+
+            fields.forEach((name, methods) -> selected.put(name, selectSetter(type, name, methods)));
+        }
+
+        return selected;
+    }
+
+    /**
+     * @param name 输入对象字段名称
+     * @return 字段对应的 setter，不存在时返回 null
+     */
+    Setter getSetter(String name) {
+        return setters.get(name);
+    }
+
+    private static boolean isSetter(Method method) {
+        return method.getName().startsWith("set")
+                && method.getName().length() > 3
+                && method.getParameterCount() == 1
+                && !method.isBridge()
+                && !Modifier.isStatic(method.getModifiers());
+    }
+
+    /**
+     * 从重载的 setter 中选择参数类型与属性类型一致的方法，{@link Class#getMethods()} 的顺序不固定，不能按顺序选择
+     */
+    private static Method selectSetter(Class<?> type, String name, List<Method> methods) {
+        if (methods.size() == 1) {
+            return methods.get(0);
+        }
+
+        TypeToken<?> beanType = TypeToken.of(type);
+        Class<?> propertyType = findPropertyType(type, methods);
+        List<Method> matched = methods.stream()
+                .filter(method -> propertyType != null && beanType.resolveType(method.getGenericParameterTypes()[0]).getRawType() == propertyType)
+                .collect(Collectors.toList());
+
+        if (matched.size() != 1) {
+            throw new IllegalStateException(String.format("Input field '%s' of type '%s' has ambiguous setters %s, declare a field or getter of the same type to choose one",
+                    name, type.getName(), methods.stream().map(Method::toGenericString).collect(Collectors.toList())));
+        }
+
+        return matched.get(0);
+    }
+
+    private static Class<?> findPropertyType(Class<?> type, List<Method> methods) {
+        TypeToken<?> beanType = TypeToken.of(type);
+
+        for (Method method : methods) {
+            Field field = ClassMetadata.of(method.getDeclaringClass()).getMappingField(method);
+
+            if (field != null) {
+                return beanType.resolveType(field.getGenericType()).getRawType();
+            }
+        }
+
+        String property = methods.get(0).getName().substring(3);
+
+        for (String prefix : new String[]{"get", "is"}) {
+            try {
+                Method getter = type.getMethod(prefix + property);
+
+                if (getter.getReturnType() != void.class) {
+                    return beanType.resolveType(getter.getGenericReturnType()).getRawType();
+                }
+            } catch (NoSuchMethodException ignored) {
+                //尝试下一个前缀
+            }
+        }
+
+        return null;
+    }
+
+    static final class Setter {
+
+        private final Method method;
+        private final MethodHandle handle;
+        private final TypeToken<?> parameterType;
+
+        Setter(Method method) {
+            this.method = method;
+            this.handle = unreflect(method);
+            this.parameterType = TypeToken.of(method.getGenericParameterTypes()[0]);
+        }
+
+        TypeToken<?> getParameterType() {
+            return parameterType;
+        }
+
+        void set(Object bean, Object value) throws Throwable {
+            if (handle != null) {
+                handle.invokeExact(bean, value);
+            } else {
+                try {
+                    method.invoke(bean, value);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+
+        private static MethodHandle unreflect(Method method) {
+            try {
+                return MethodHandles.publicLookup().unreflect(method).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                LOGGER.debug("Can not access setter {}#{} as MethodHandle, fallback to reflection", method.getDeclaringClass().getName(), method.getName(), e);
+                return null;
+            }
+        }
+    }
+}
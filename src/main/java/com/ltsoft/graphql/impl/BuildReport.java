@@ -0,0 +1,158 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.resolver.ResolveStatistics;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 一次 Schema 构建的耗时与统计数据，由 {@link com.ltsoft.graphql.GraphQLSchemaBuilder#buildReport(BuildReport)} 设置，
+ * 每次构建开始时清空。
+ * <p>
+ * 各阶段耗时按首次记录的顺序排列；类型解析耗时不含其依赖类型的解析耗时，并行解析时不含等待其它类型的时间。
+ * 从快照恢复或增量构建时复用的类型不会被解析，也不会记录耗时。
+ */
+public class BuildReport {
+
+    public static final String PHASE_SCAN = "scan";
+    public static final String PHASE_SNAPSHOT = "snapshot";
+    public static final String PHASE_RESOLVE = "resolve";
+    public static final String PHASE_DOCUMENT = "document";
+    public static final String PHASE_PARSE = "parse";
+    public static final String PHASE_MERGE = "merge";
+    public static final String PHASE_WIRING = "wiring";
+    public static final String PHASE_GENERATE = "generate";
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<String, Long> resolvers = new LinkedHashMap<>();
+    private final Map<Type, Long> types = new HashMap<>();
+
+    private long startTime;
+    private long totalTime;
+    private ResolveStatistics initialStatistics;
+    private ResolveStatistics statistics;
+
+    /**
+     * 开始记录新的构建，清空已记录的数据
+     */
+    public synchronized void start() {
+        phases.clear();
+        resolvers.clear();
+        types.clear();
+
+        startTime = System.nanoTime();
+        totalTime = 0;
+        initialStatistics = ResolveStatistics.snapshot();
+        statistics = null;
+    }
+
+    /**
+     * 结束记录，计算总耗时与期间的反射、缓存统计
+     */
+    public synchronized void finish() {
+        if (initialStatistics != null) {
+            totalTime = System.nanoTime() - startTime;
+            statistics = ResolveStatistics.snapshot().since(initialStatistics);
+        }
+    }
+
+    /**
+     * 记录构建阶段的耗时，同一阶段多次记录时累加
+     *
+     * @param phase 阶段名称
+     * @param nanos 耗时，单位为纳秒
+     */
+    public synchronized void recordPhase(String phase, long nanos) {
+        phases.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * 记录类型的解析耗时
+     *
+     * @param javaType     Java 类型
+     * @param resolverType 解析该类型的 TypeResolver
+     * @param nanos        耗时，单位为纳秒
+     */
+    public synchronized void recordType(Type javaType, Class<?> resolverType, long nanos) {
+        types.merge(javaType, nanos, Long::sum);
+        resolvers.merge(resolverType.getName(), nanos, Long::sum);
+    }
+
+    /**
+     * @return 构建总耗时
+     */
+    public synchronized Duration getTotalTime() {
+        return Duration.ofNanos(totalTime);
+    }
+
+    /**
+     * @return 各阶段的耗时，按首次记录的顺序排列
+     */
+    public synchronized Map<String, Duration> getPhases() {
+        return toDurations(phases);
+    }
+
+    /**
+     * @return 各个 TypeResolver 解析类型的总耗时，以 TypeResolver 的类名为键
+     */
+    public synchronized Map<String, Duration> getResolverTimes() {
+        return toDurations(resolvers);
+    }
+
+    /**
+     * @return 已解析的类型数量
+     */
+    public synchronized int getResolvedTypeCount() {
+        return types.size();
+    }
+
+    /**
+     * 获取解析耗时最长的类型
+     *
+     * @param limit 最大数量
+     * @return 按耗时降序排列的类型及其耗时
+     */
+    public synchronized Map<Type, Duration> getSlowestTypes(int limit) {
+        return toDurations(types.entrySet().stream()
+                .sorted(Map.Entry.<Type, Long>comparingByValue().reversed())
+                .limit(limit)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (left, right) -> left, LinkedHashMap::new)));
+    }
+
+    /**
+     * @return 构建期间的反射调用次数与缓存命中情况，构建完成前为 null
+     */
+    public synchronized ResolveStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder(String.format("Schema built in %d ms, %d types resolved", getTotalTime().toMillis(), types.size()));
+
+        builder.append("\n  phases: ").append(format(getPhases()));
+        builder.append("\n  resolvers: ").append(format(getResolverTimes()));
+        builder.append("\n  slowest types: ").append(format(getSlowestTypes(10)));
+
+        if (statistics != null) {
+            builder.append("\n  ").append(statistics);
+        }
+
+        return builder.toString();
+    }
+
+    private static <K> Map<K, Duration> toDurations(Map<K, Long> nanos) {
+        Map<K, Duration> result = new LinkedHashMap<>();
+        nanos.forEach((key, value) -> result.put(key, Duration.ofNanos(value)));
+
+        return result;
+    }
+
+    private static String format(Map<?, Duration> durations) {
+        return durations.entrySet().stream()
+                .map(entry -> String.format("%s=%.3fms", entry.getKey() instanceof Type ? ((Type) entry.getKey()).getTypeName() : entry.getKey(), entry.getValue().toNanos() / 1e6))
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,289 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.reflect.ClassPath;
+import com.ltsoft.graphql.resolver.ResolveUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 扫描 classpath 时在加载类之前读取 class 文件，仅保留声明了 {@link ResolveUtil#TYPE_ANNOTATIONS} 中注解的类。
+ * <p>
+ * 先检查常量池中是否存在注解的类型描述符，存在时再读取类上的 RuntimeVisibleAnnotations 属性确认；
+ * 对声明了 {@link Inherited} 的注解，同时沿父类查找，父类的读取结果在同一个过滤器中复用。
+ * class 文件无法读取或格式无法识别时保留该类，交由加载后的 {@link ResolveUtil#canResolve(Class)} 判断。
+ * <p>
+ * 过滤器可被多个线程同时调用。
+ */
+public final class ClassFileAnnotationFilter implements Predicate<ClassPath.ClassInfo> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassFileAnnotationFilter.class);
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+    private static final Set<String> ROOT_CLASSES = new HashSet<>(Arrays.asList("java/lang/Object", "java/lang/Enum", "java/lang/Record"));
+
+    private final ClassLoader classLoader;
+    private final Set<String> descriptors;
+    private final Set<String> inheritedDescriptors;
+    //父类的内部名称到是否声明了可继承注解的缓存
+    private final ConcurrentMap<String, Boolean> inheritedClasses = new ConcurrentHashMap<>();
+
+    /**
+     * @param classLoader 读取父类 class 文件的 ClassLoader
+     */
+    public ClassFileAnnotationFilter(ClassLoader classLoader) {
+        this.classLoader = requireNonNull(classLoader);
+        this.descriptors = toDescriptors(ResolveUtil.TYPE_ANNOTATIONS);
+        this.inheritedDescriptors = toDescriptors(ResolveUtil.TYPE_ANNOTATIONS.stream()
+                .filter(ele -> ele.isAnnotationPresent(Inherited.class))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    @SuppressWarnings("UnstableApiUsage")
+    public boolean test(ClassPath.ClassInfo info) {
+        try {
+            ClassFile classFile = ClassFile.read(info.asByteSource().read(), descriptors);
+
+            return classFile.isAnnotated(descriptors) || isInheritedAnnotated(classFile.getSuperName());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Read class file of '{}' but fail, load it directly", info.getName(), e);
+            return true;
+        }
+    }
+
+    private boolean isInheritedAnnotated(String superName) {
+        if (inheritedDescriptors.isEmpty() || superName == null || ROOT_CLASSES.contains(superName)) {
+            return false;
+        }
+
+        Boolean cached = inheritedClasses.get(superName);
+
+        if (cached == null) {
+            cached = readInheritedAnnotated(superName);
+            inheritedClasses.putIfAbsent(superName, cached);
+        }
+
+        return cached;
+    }
+
+    private boolean readInheritedAnnotated(String internalName) {
+        try (InputStream input = classLoader.getResourceAsStream(internalName + ".class")) {
+            if (input == null) {
+                //父类不可读取时保留，由加载后的判断处理
+                return true;
+            }
+
+            ClassFile classFile = ClassFile.read(ByteStreams.toByteArray(input), inheritedDescriptors);
+
+            return classFile.isAnnotated(inheritedDescriptors) || isInheritedAnnotated(classFile.getSuperName());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Read class file of '{}' but fail, load subclasses directly", internalName, e);
+            return true;
+        }
+    }
+
+    private static Set<String> toDescriptors(Collection<Class<? extends Annotation>> annotationClasses) {
+        return annotationClasses.stream()
+                .map(ele -> "L" + ele.getName().replace('.', '/') + ";")
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * class 文件中的父类与类上声明的注解
+     */
+    static final class ClassFile {
+
+        private final String superName;
+        private final Set<String> annotations;
+
+        private ClassFile(String superName, Set<String> annotations) {
+            this.superName = superName;
+            this.annotations = annotations;
+        }
+
+        String getSuperName() {
+            return superName;
+        }
+
+        Set<String> getAnnotations() {
+            return annotations;
+        }
+
+        boolean isAnnotated(Set<String> descriptors) {
+            for (String annotation : annotations) {
+                if (descriptors.contains(annotation)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * 读取 class 文件。常量池中不存在任何关心的注解描述符时，不再读取字段、方法与属性
+         *
+         * @param bytes       class 文件内容
+         * @param descriptors 关心的注解描述符
+         * @return 父类的内部名称与类上声明的注解描述符
+         * @throws IOException class 文件格式无法识别
+         */
+        static ClassFile read(byte[] bytes, Set<String> descriptors) throws IOException {
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+
+            if (input.readInt() != MAGIC) {
+                throw new IOException("Invalid class file magic number");
+            }
+
+            input.skipBytes(4);
+
+            int constantCount = input.readUnsignedShort();
+            String[] utf8 = new String[constantCount];
+            int[] classNames = new int[constantCount];
+            boolean referenced = false;
+
+            for (int i = 1; i < constantCount; i++) {
+                int tag = input.readUnsignedByte();
+
+                switch (tag) {
+                    case 1:
+                        utf8[i] = input.readUTF();
+                        referenced |= descriptors.contains(utf8[i]);
+                        break;
+                    case 7:
+                        classNames[i] = input.readUnsignedShort();
+                        break;
+                    case 8:
+                    case 16:
+                    case 19:
+                    case 20:
+                        input.skipBytes(2);
+                        break;
+                    case 15:
+                        input.skipBytes(3);
+                        break;
+                    case 3:
+                    case 4:
+                    case 9:
+                    case 10:
+                    case 11:
+                    case 12:
+                    case 17:
+                    case 18:
+                        input.skipBytes(4);
+                        break;
+                    case 5:
+                    case 6:
+                        //long 与 double 占用两个常量池位置
+                        input.skipBytes(8);
+                        i++;
+                        break;
+                    default:
+                        throw new IOException(String.format("Unknown constant pool tag %d", tag));
+                }
+            }
+
+            input.skipBytes(4);
+
+            int superIndex = input.readUnsignedShort();
+            String superName = superIndex != 0 ? utf8[classNames[superIndex]] : null;
+
+            if (!referenced) {
+                return new ClassFile(superName, Collections.emptySet());
+            }
+
+            input.skipBytes(input.readUnsignedShort() * 2);
+            skipMembers(input);
+            skipMembers(input);
+
+            Set<String> annotations = new HashSet<>();
+            int attributeCount = input.readUnsignedShort();
+
+            for (int i = 0; i < attributeCount; i++) {
+                String name = utf8[input.readUnsignedShort()];
+                int length = input.readInt();
+
+                if (RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                    int annotationCount = input.readUnsignedShort();
+
+                    for (int j = 0; j < annotationCount; j++) {
+                        annotations.add(readAnnotation(input, utf8));
+                    }
+                } else {
+                    input.skipBytes(length);
+                }
+            }
+
+            return new ClassFile(superName, annotations);
+        }
+
+        private static void skipMembers(DataInputStream input) throws IOException {
+            int count = input.readUnsignedShort();
+
+            for (int i = 0; i < count; i++) {
+                input.skipBytes(6);
+
+                int attributeCount = input.readUnsignedShort();
+
+                for (int j = 0; j < attributeCount; j++) {
+                    input.skipBytes(2);
+                    input.skipBytes(input.readInt());
+                }
+            }
+        }
+
+        /**
+         * 读取一个注解，跳过其中的元素
+         *
+         * @return 注解的类型描述符
+         */
+        private static String readAnnotation(DataInputStream input, String[] utf8) throws IOException {
+            String type = utf8[input.readUnsignedShort()];
+            int pairCount = input.readUnsignedShort();
+
+            for (int i = 0; i < pairCount; i++) {
+                input.skipBytes(2);
+                skipElementValue(input, utf8);
+            }
+
+            return type;
+        }
+
+        private static void skipElementValue(DataInputStream input, String[] utf8) throws IOException {
+            int tag = input.readUnsignedByte();
+
+            switch (tag) {
+                case 'e':
+                    input.skipBytes(4);
+                    break;
+                case '@':
+                    readAnnotation(input, utf8);
+                    break;
+                case '[':
+                    int count = input.readUnsignedShort();
+
+                    for (int i = 0; i < count; i++) {
+                        skipElementValue(input, utf8);
+                    }
+                    break;
+                default:
+                    input.skipBytes(2);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.ArgumentProvider;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * 固定值参数提供者。{@link ServiceDataFetcher} 在构造时直接读取其值，获取数据时不再调用。
+ *
+ * @param <T> 参数类型
+ */
+public class ConstantArgumentProvider<T> implements ArgumentProvider<T> {
+
+    private static final ConstantArgumentProvider<?> NULL = new ConstantArgumentProvider<>(null);
+
+    private final T value;
+
+    public ConstantArgumentProvider(T value) {
+        this.value = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> ConstantArgumentProvider<T> empty() {
+        return (ConstantArgumentProvider<T>) NULL;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    @Override
+    public T provide(DataFetchingEnvironment environment) {
+        return value;
+    }
+}
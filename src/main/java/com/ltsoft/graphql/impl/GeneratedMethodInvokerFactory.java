@@ -0,0 +1,91 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.collect.MapMaker;
+import com.ltsoft.graphql.GeneratedMethodInvokers;
+import com.ltsoft.graphql.MethodInvoker;
+import com.ltsoft.graphql.MethodInvokerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 优先使用编译时生成的 {@link GeneratedMethodInvokers} 调用方法，没有生成调用器的方法使用 fallback 调用。
+ * 生成的调用器按方法所属类的 ClassLoader 以 {@link ServiceLoader} 加载，每个 ClassLoader 只加载一次。
+ * 加载结果由该 ClassLoader 中的类通过 {@link ClassValue} 持有，缓存本身弱引用 ClassLoader 与加载结果，
+ * 重新加载类型后旧的 ClassLoader 可以被回收。
+ */
+public class GeneratedMethodInvokerFactory implements MethodInvokerFactory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratedMethodInvokerFactory.class);
+
+    private final MethodInvokerFactory fallback;
+    private final ConcurrentMap<ClassLoader, Map<String, MethodInvoker>> loaded = new MapMaker().weakKeys().weakValues().makeMap();
+    private final ClassValue<Map<String, MethodInvoker>> invokers = new ClassValue<Map<String, MethodInvoker>>() {
+        @Override
+        protected Map<String, MethodInvoker> computeValue(Class<?> type) {
+            return loaded.computeIfAbsent(type.getClassLoader(), GeneratedMethodInvokerFactory::load);
+        }
+    };
+
+    public GeneratedMethodInvokerFactory() {
+        this(new MethodHandleInvokerFactory());
+    }
+
+    /**
+     * @param fallback 没有生成调用器时使用的方法调用器工厂
+     */
+    public GeneratedMethodInvokerFactory(MethodInvokerFactory fallback) {
+        this.fallback = requireNonNull(fallback);
+    }
+
+    /**
+     * 方法签名，格式为 {@code 所属类名#方法名(参数类型, ...)}，参数类型为擦除泛型后的规范名称，例如
+     * {@code com.example.Query#hello(java.lang.String,int[])}
+     *
+     * @param method 方法
+     * @return 方法签名
+     */
+    public static String signature(Method method) {
+        return Arrays.stream(method.getParameterTypes())
+                .map(Class::getCanonicalName)
+                .collect(Collectors.joining(",", method.getDeclaringClass().getName() + "#" + method.getName() + "(", ")"));
+    }
+
+    @Override
+    public MethodInvoker build(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+
+        if (declaringClass.getClassLoader() != null) {
+            MethodInvoker invoker = invokers.get(declaringClass).get(signature(method));
+
+            if (invoker != null) {
+                return invoker;
+            }
+        }
+
+        return fallback.build(method);
+    }
+
+    private static Map<String, MethodInvoker> load(ClassLoader classLoader) {
+        Map<String, MethodInvoker> result = new HashMap<>();
+
+        try {
+            for (GeneratedMethodInvokers generated : ServiceLoader.load(GeneratedMethodInvokers.class, classLoader)) {
+                //父 ClassLoader 中生成的调用器对应的是父 ClassLoader 中的同名类
+                if (generated.getClass().getClassLoader() == classLoader) {
+                    generated.getInvokers().forEach(result::putIfAbsent);
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            LOGGER.warn("Load generated method invokers fail, fallback to runtime invokers", e);
+        }
+
+        return result;
+    }
+}
@@ -19,10 +19,19 @@ public class GraphQLArgumentProvider implements ArgumentProvider<Object> {
 
     private final TypeToken<?> typeToken;
     private final String argumentName;
-    private final List<ArgumentConverter<?>> converters;
+    private final ArgumentConversionPlan conversionPlan;
     private boolean isGenericType;
 
+    /**
+     * 最近一次使用的转换过程。同一参数的输入数据类型通常不变，命中时无需查询转换计划
+     */
+    private volatile LastConversion lastConversion;
+
     public GraphQLArgumentProvider(Class<?> cls, Parameter parameter, List<ArgumentConverter<?>> converters) {
+        this(cls, parameter, new ArgumentConversionPlan(converters));
+    }
+
+    public GraphQLArgumentProvider(Class<?> cls, Parameter parameter, ArgumentConversionPlan conversionPlan) {
         checkArgument(parameter.isAnnotationPresent(com.ltsoft.graphql.annotations.GraphQLArgument.class));
 
         this.typeToken = resolveGenericType(cls, parameter.getParameterizedType());
@@ -37,7 +46,7 @@ public class GraphQLArgumentProvider implements ArgumentProvider<Object> {
             }
         }
 
-        this.converters = converters;
+        this.conversionPlan = conversionPlan;
     }
 
     @Override
@@ -49,22 +58,20 @@ public class GraphQLArgumentProvider implements ArgumentProvider<Object> {
         return convertTo(environment.getArgument(requireNonNull(argumentName)), typeToken);
     }
 
-    @SuppressWarnings("unchecked")
     private Object convertTo(Object argument, TypeToken<?> type) {
         if (argument == null) {
             return null;
         }
 
-        TypeToken<Object> typeToken = (TypeToken<Object>) type;
+        Class<?> sourceType = argument.getClass();
+        LastConversion last = lastConversion;
+
+        if (last == null || last.sourceType != sourceType) {
+            last = new LastConversion(sourceType, conversionPlan.lookup(sourceType, type));
+            lastConversion = last;
+        }
 
-        return converters.stream()
-                .filter(ele -> ele.isSupport(TypeToken.of(argument.getClass()), type))
-                .findFirst()
-                .map(ele -> (ArgumentConverter<Object>) ele)
-                .map(ele -> ele.convert(argument, typeToken, this::convertTo))
-                .orElseThrow(() -> new IllegalArgumentException(
-                        String.format("can not cast '%s' to '%s'", argument.getClass().getSimpleName(), type.toString())
-                ));
+        return last.conversion.convert(argument);
     }
 
     String getArgumentName() {
@@ -74,4 +81,15 @@ public class GraphQLArgumentProvider implements ArgumentProvider<Object> {
     boolean isGenericType() {
         return isGenericType;
     }
+
+    private static final class LastConversion {
+
+        private final Class<?> sourceType;
+        private final ArgumentConversionPlan.Conversion conversion;
+
+        LastConversion(Class<?> sourceType, ArgumentConversionPlan.Conversion conversion) {
+            this.sourceType = sourceType;
+            this.conversion = conversion;
+        }
+    }
 }
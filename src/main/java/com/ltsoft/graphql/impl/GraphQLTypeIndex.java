@@ -0,0 +1,66 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.base.Splitter;
+import com.google.common.io.Resources;
+import com.ltsoft.graphql.processor.GraphQLTypeIndexProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 读取 {@link GraphQLTypeIndexProcessor} 在编译时生成的类型索引。
+ * 索引按包存放在 {@value GraphQLTypeIndexProcessor#INDEX_LOCATION} 目录下，每行为一个可被解析的顶层类名。
+ */
+public final class GraphQLTypeIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GraphQLTypeIndex.class);
+
+    private static final Splitter LINE_SPLITTER = Splitter.on('\n').trimResults().omitEmptyStrings();
+
+    private GraphQLTypeIndex() {
+    }
+
+    /**
+     * 按索引加载某个包中的类型。类加载器中存在多个同名索引文件时（多个 jar 包含同一个包），合并全部索引。
+     * 索引中已不存在的类将被忽略。
+     *
+     * @param classLoader 类加载器
+     * @param packageName 包名
+     * @return 索引中的类型，类加载器中不存在该包的索引时返回 {@link Optional#empty()}
+     */
+    public static Optional<List<Class<?>>> load(ClassLoader classLoader, String packageName) {
+        Set<String> classNames = new LinkedHashSet<>();
+
+        try {
+            Enumeration<URL> resources = classLoader.getResources(GraphQLTypeIndexProcessor.INDEX_LOCATION + packageName);
+
+            if (!resources.hasMoreElements()) {
+                return Optional.empty();
+            }
+
+            while (resources.hasMoreElements()) {
+                //noinspection UnstableApiUsage
+                String content = Resources.toString(resources.nextElement(), StandardCharsets.UTF_8);
+                LINE_SPLITTER.split(content).forEach(classNames::add);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Read type index of package '%s' but fail", packageName), e);
+        }
+
+        List<Class<?>> result = new ArrayList<>(classNames.size());
+
+        for (String className : classNames) {
+            try {
+                result.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOGGER.debug("Ignore class '{}' in type index of package '{}'", className, packageName, e);
+            }
+        }
+
+        return Optional.of(result);
+    }
+}
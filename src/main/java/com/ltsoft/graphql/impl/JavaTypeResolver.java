@@ -1,17 +1,84 @@
 package com.ltsoft.graphql.impl;
 
+import com.google.common.collect.MapMaker;
+import com.ltsoft.graphql.resolver.StrategyRegistry;
 import graphql.TypeResolutionEnvironment;
 import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLType;
 import graphql.schema.TypeResolver;
 
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import static com.ltsoft.graphql.resolver.ResolveUtil.resolveTypeName;
+import static java.util.Objects.requireNonNull;
 
+/**
+ * 按 Java 类型解析 Interface 或 Union 的实际类型。
+ * 解析结果按 Schema 缓存，每个 Java 类型只解析一次；Schema 按弱引用持有，不再使用时缓存随之回收。
+ * 类型本身没有对应的 GraphQL 类型时（如 CGLIB 代理类或子类），沿父类向上查找。
+ * 类型名称使用创建时绑定的 {@link StrategyRegistry} 解析，与构建 Schema 时一致。
+ */
 public class JavaTypeResolver implements TypeResolver {
+
+    private final StrategyRegistry strategies;
+    private final ConcurrentMap<GraphQLSchema, SchemaTypes> schemaTypes = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * 使用当前线程绑定的 StrategyRegistry，通常在构建 Schema 时由 InstanceFactory 创建；未绑定时使用默认注册表
+     */
+    public JavaTypeResolver() {
+        this(StrategyRegistry.current());
+    }
+
+    public JavaTypeResolver(StrategyRegistry strategies) {
+        this.strategies = requireNonNull(strategies);
+    }
+
     @Override
     public GraphQLObjectType getType(TypeResolutionEnvironment env) {
         Object source = env.getObject();
-        String typeName = resolveTypeName(source.getClass());
+        GraphQLSchema schema = env.getSchema();
+        SchemaTypes types = schemaTypes.get(schema);
+
+        if (types == null) {
+            types = schemaTypes.computeIfAbsent(schema, key -> new SchemaTypes());
+        }
+
+        return types.get(schema, source.getClass(), strategies);
+    }
+
+    /**
+     * 单个 Schema 中 Java 类型到 GraphQL 类型的映射，不持有 Schema 本身
+     */
+    private static final class SchemaTypes {
+
+        private final ConcurrentMap<Class<?>, Optional<GraphQLObjectType>> types = new ConcurrentHashMap<>();
+
+        GraphQLObjectType get(GraphQLSchema schema, Class<?> type, StrategyRegistry strategies) {
+            Optional<GraphQLObjectType> objectType = types.get(type);
+
+            if (objectType == null) {
+                objectType = types.computeIfAbsent(type, key -> Optional.ofNullable(strategies.bind(() -> resolveObjectType(schema, key))));
+            }
+
+            return objectType.orElse(null);
+        }
+
+        private static GraphQLObjectType resolveObjectType(GraphQLSchema schema, Class<?> type) {
+            GraphQLObjectType objectType = schema.getObjectType(resolveTypeName(type));
+
+            for (Class<?> cls = type.getSuperclass(); objectType == null && cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+                GraphQLType parentType = schema.getType(resolveTypeName(cls));
+
+                if (parentType instanceof GraphQLObjectType) {
+                    objectType = (GraphQLObjectType) parentType;
+                }
+            }
 
-        return env.getSchema().getObjectType(typeName);
+            return objectType;
+        }
     }
 }
@@ -0,0 +1,239 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.primitives.Primitives;
+import com.ltsoft.graphql.MethodInvoker;
+import com.ltsoft.graphql.MethodInvokerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+/**
+ * 基于 {@link LambdaMetafactory} 的方法调用器。
+ * 构造时为方法生成函数式接口实现，调用开销与直接方法调用相当。
+ * 以下情况将回退为 {@link MethodHandleInvokerFactory}：
+ * <ul>
+ * <li>静态方法、void 方法或参数超过 {@value #MAX_ARITY} 个的方法</li>
+ * <li>方法所属类型、参数类型或返回类型不是 public，或对本类所在的 ClassLoader 不可见</li>
+ * </ul>
+ */
+public class LambdaMethodInvokerFactory implements MethodInvokerFactory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LambdaMethodInvokerFactory.class);
+
+    private static final int MAX_ARITY = 4;
+
+    private static final Class<?>[] FUNCTION_TYPES = {Function0.class, Function1.class, Function2.class, Function3.class, Function4.class};
+
+    private final MethodInvokerFactory fallback = new MethodHandleInvokerFactory();
+
+    @Override
+    public MethodInvoker build(Method method) {
+        if (isSupport(method)) {
+            try {
+                return bind(method);
+            } catch (Throwable e) {
+                LOGGER.debug("Can not bind method {}#{} with LambdaMetafactory, fallback to MethodHandle", method.getDeclaringClass().getName(), method.getName(), e);
+            }
+        }
+
+        return fallback.build(method);
+    }
+
+    private MethodInvoker bind(Method method) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle target = lookup.unreflect(method);
+        int arity = method.getParameterCount();
+
+        Class<?>[] parameterTypes = Arrays.stream(method.getParameterTypes())
+                .map(Primitives::wrap)
+                .toArray(Class<?>[]::new);
+        MethodType instantiatedType = MethodType.methodType(Primitives.wrap(method.getReturnType()), parameterTypes)
+                .insertParameterTypes(0, method.getDeclaringClass());
+
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                MethodType.methodType(FUNCTION_TYPES[arity]),
+                MethodType.genericMethodType(arity + 1),
+                target,
+                instantiatedType
+        );
+
+        Object function = site.getTarget().invoke();
+
+        switch (arity) {
+            case 0:
+                return new Invoker0((Function0) function);
+            case 1:
+                return new Invoker1((Function1) function);
+            case 2:
+                return new Invoker2((Function2) function);
+            case 3:
+                return new Invoker3((Function3) function);
+            default:
+                return new Invoker4((Function4) function);
+        }
+    }
+
+    private static boolean isSupport(Method method) {
+        return !Modifier.isStatic(method.getModifiers())
+                && !void.class.equals(method.getReturnType())
+                && method.getParameterCount() <= MAX_ARITY
+                && isAccessible(method.getDeclaringClass())
+                && isAccessible(method.getReturnType())
+                && Arrays.stream(method.getParameterTypes()).allMatch(LambdaMethodInvokerFactory::isAccessible);
+    }
+
+    /**
+     * 生成的实现类定义在本类所在的 ClassLoader 中，方法涉及的类型都必须能从该 ClassLoader 访问
+     */
+    private static boolean isAccessible(Class<?> type) {
+        Class<?> cls = type;
+
+        while (cls.isArray()) {
+            cls = cls.getComponentType();
+        }
+
+        if (cls.isPrimitive()) {
+            return true;
+        }
+
+        if (!Modifier.isPublic(cls.getModifiers())) {
+            return false;
+        }
+
+        try {
+            return Class.forName(cls.getName(), false, LambdaMethodInvokerFactory.class.getClassLoader()) == cls;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    interface Function0 {
+        Object apply(Object instance) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Function1 {
+        Object apply(Object instance, Object arg0) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Function2 {
+        Object apply(Object instance, Object arg0, Object arg1) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Function3 {
+        Object apply(Object instance, Object arg0, Object arg1, Object arg2) throws Throwable;
+    }
+
+    @FunctionalInterface
+    interface Function4 {
+        Object apply(Object instance, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable;
+    }
+
+    private static final class Invoker0 implements MethodInvoker {
+
+        private final Function0 function;
+
+        Invoker0(Function0 function) {
+            this.function = function;
+        }
+
+        @Override
+        public Object invoke(Object instance, Object[] arguments) throws Throwable {
+            return function.apply(instance);
+        }
+
+        @Override
+        public Object invoke(Object instance) throws Throwable {
+            return function.apply(instance);
+        }
+    }
+
+    private static final class Invoker1 implements MethodInvoker {
+
+        private final Function1 function;
+
+        Invoker1(Function1 function) {
+            this.function = function;
+        }
+
+        @Override
+        public Object invoke(Object instance, Object[] arguments) throws Throwable {
+            return function.apply(instance, arguments[0]);
+        }
+
+        @Override
+        public Object invoke(Object instance, Object arg0) throws Throwable {
+            return function.apply(instance, arg0);
+        }
+    }
+
+    private static final class Invoker2 implements MethodInvoker {
+
+        private final Function2 function;
+
+        Invoker2(Function2 function) {
+            this.function = function;
+        }
+
+        @Override
+        public Object invoke(Object instance, Object[] arguments) throws Throwable {
+            return function.apply(instance, arguments[0], arguments[1]);
+        }
+
+        @Override
+        public Object invoke(Object instance, Object arg0, Object arg1) throws Throwable {
+            return function.apply(instance, arg0, arg1);
+        }
+    }
+
+    private static final class Invoker3 implements MethodInvoker {
+
+        private final Function3 function;
+
+        Invoker3(Function3 function) {
+            this.function = function;
+        }
+
+        @Override
+        public Object invoke(Object instance, Object[] arguments) throws Throwable {
+            return function.apply(instance, arguments[0], arguments[1], arguments[2]);
+        }
+
+        @Override
+        public Object invoke(Object instance, Object arg0, Object arg1, Object arg2) throws Throwable {
+            return function.apply(instance, arg0, arg1, arg2);
+        }
+    }
+
+    private static final class Invoker4 implements MethodInvoker {
+
+        private final Function4 function;
+
+        Invoker4(Function4 function) {
+            this.function = function;
+        }
+
+        @Override
+        public Object invoke(Object instance, Object[] arguments) throws Throwable {
+            return function.apply(instance, arguments[0], arguments[1], arguments[2], arguments[3]);
+        }
+
+        @Override
+        public Object invoke(Object instance, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+            return function.apply(instance, arg0, arg1, arg2, arg3);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.MethodInvoker;
+import com.ltsoft.graphql.MethodInvokerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 基于 {@link MethodHandle} 的方法调用器。
+ * 构造时将方法句柄适配为全部参数与返回值均为 Object 的类型，调用时不再进行反射访问检查与参数包装。
+ * 无法访问的方法将回退为反射调用。
+ */
+public class MethodHandleInvokerFactory implements MethodInvokerFactory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandleInvokerFactory.class);
+
+    private final MethodInvokerFactory fallback = new ReflectionMethodInvokerFactory();
+
+    @Override
+    public MethodInvoker build(Method method) {
+        MethodHandle handle;
+
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            LOGGER.debug("Can not access method {}#{} as MethodHandle, fallback to reflection", method.getDeclaringClass().getName(), method.getName(), e);
+            return fallback.build(method);
+        }
+
+        if (Modifier.isStatic(method.getModifiers())) {
+            //静态方法忽略实例参数
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        return new MethodHandleInvoker(handle.asType(handle.type().generic()), method.getParameterCount());
+    }
+
+    private static final class MethodHandleInvoker implements MethodInvoker {
+
+        private final MethodHandle handle;
+        private final MethodHandle spreader;
+
+        MethodHandleInvoker(MethodHandle handle, int arity) {
+            this.handle = handle;
+            this.spreader = handle.asSpreader(Object[].class, arity);
+        }
+
+        @Override
+        public Object invoke(Object instance, Object[] arguments) throws Throwable {
+            return (Object) spreader.invokeExact(instance, arguments);
+        }
+
+        @Override
+        public Object invoke(Object instance) throws Throwable {
+            return (Object) handle.invokeExact(instance);
+        }
+
+        @Override
+        public Object invoke(Object instance, Object arg0) throws Throwable {
+            return (Object) handle.invokeExact(instance, arg0);
+        }
+
+        @Override
+        public Object invoke(Object instance, Object arg0, Object arg1) throws Throwable {
+            return (Object) handle.invokeExact(instance, arg0, arg1);
+        }
+
+        @Override
+        public Object invoke(Object instance, Object arg0, Object arg1, Object arg2) throws Throwable {
+            return (Object) handle.invokeExact(instance, arg0, arg1, arg2);
+        }
+
+        @Override
+        public Object invoke(Object instance, Object arg0, Object arg1, Object arg2, Object arg3) throws Throwable {
+            return (Object) handle.invokeExact(instance, arg0, arg1, arg2, arg3);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.reflect.ClassPath;
+import com.ltsoft.graphql.resolver.ResolveUtil;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 查找多个包中可被解析的顶层类。
+ * <p>
+ * 全部包合并为一次 classpath 扫描，在一次遍历中匹配全部包名，
+ * 扫描到的类先由 {@link ClassFileAnnotationFilter} 读取 class 文件过滤，不会加载未声明类型注解的类。
+ * <p>
+ * 开启 indexOnly 时，存在 {@link GraphQLTypeIndex} 索引的包仅读取索引，不再扫描。
+ * 索引只包含生成它的 jar 或目录中的类，同一个包分布在多个 jar 中且部分没有索引时，这些 jar 中的类型不会被找到，因此默认关闭。
+ * 候选类的加载与 {@link ResolveUtil#canResolve(Class)} 过滤并行执行，结果按包的注册顺序排列，同一包中按类名排序。
+ */
+public final class PackageScanner {
+
+    private final ClassLoader classLoader;
+    private final ForkJoinPool pool;
+    private final boolean indexOnly;
+
+    /**
+     * @param classLoader 加载类的 ClassLoader
+     * @param pool        并行加载类的 ForkJoinPool，为 null 时使用 {@link ForkJoinPool#commonPool()}
+     */
+    public PackageScanner(ClassLoader classLoader, ForkJoinPool pool) {
+        this(classLoader, pool, false);
+    }
+
+    /**
+     * @param classLoader 加载类与读取索引的 ClassLoader
+     * @param pool        并行加载类的 ForkJoinPool，为 null 时使用 {@link ForkJoinPool#commonPool()}
+     * @param indexOnly   存在索引的包是否仅读取索引
+     */
+    public PackageScanner(ClassLoader classLoader, ForkJoinPool pool, boolean indexOnly) {
+        this.classLoader = requireNonNull(classLoader);
+        this.pool = pool != null ? pool : ForkJoinPool.commonPool();
+        this.indexOnly = indexOnly;
+    }
+
+    /**
+     * 查找包中可被解析的顶层类
+     *
+     * @param packageNames 包名，不包含子包
+     * @return 可被解析的类型
+     */
+    public List<Class<?>> scan(Collection<String> packageNames) {
+        Map<String, List<Supplier<Class<?>>>> candidates = new LinkedHashMap<>();
+        Set<String> unindexedPackages = new LinkedHashSet<>();
+
+        for (String packageName : packageNames) {
+            Optional<List<Class<?>>> indexed = indexOnly ? GraphQLTypeIndex.load(classLoader, packageName) : Optional.empty();
+
+            if (indexed.isPresent()) {
+                candidates.put(packageName, indexed.get().stream()
+                        .<Supplier<Class<?>>>map(cls -> () -> cls)
+                        .collect(Collectors.toList()));
+            } else {
+                candidates.put(packageName, new ArrayList<>());
+                unindexedPackages.add(packageName);
+            }
+        }
+
+        if (!unindexedPackages.isEmpty()) {
+            ClassFileAnnotationFilter filter = new ClassFileAnnotationFilter(classLoader);
+
+            //先读取 class 文件过滤，仅加载声明了类型注解的类
+            scanClassPath(unindexedPackages).forEach((packageName, classes) -> classes.stream()
+                    .<Supplier<Class<?>>>map(info -> () -> filter.test(info) ? info.load() : null)
+                    .forEach(candidates.get(packageName)::add));
+        }
+
+        List<Supplier<Class<?>>> suppliers = candidates.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+
+        return pool.submit(() -> suppliers.parallelStream()
+                .map(Supplier::get)
+                .filter(Objects::nonNull)
+                .filter(ResolveUtil::canResolve)
+                .collect(Collectors.toList()))
+                .join();
+    }
+
+    /**
+     * 扫描一次 classpath，查找多个包中的顶层类
+     *
+     * @param packageNames 包名，不包含子包
+     * @return 各个包中按类名排序的顶层类，不存在的包没有对应的键
+     */
+    @SuppressWarnings("UnstableApiUsage")
+    public Map<String, List<ClassPath.ClassInfo>> scanClassPath(Set<String> packageNames) {
+        try {
+            return ClassPath.from(classLoader).getTopLevelClasses().stream()
+                    .filter(info -> packageNames.contains(info.getPackageName()))
+                    .sorted(Comparator.comparing(ClassPath.ClassInfo::getName))
+                    .collect(Collectors.groupingBy(ClassPath.ClassInfo::getPackageName, LinkedHashMap::new, Collectors.toList()));
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Search packages %s but fail", packageNames), e);
+        }
+    }
+}
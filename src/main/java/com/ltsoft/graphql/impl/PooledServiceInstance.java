@@ -0,0 +1,103 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.InstanceFactory;
+import com.ltsoft.graphql.ServiceInstance;
+import graphql.schema.DataFetchingEnvironment;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 从对象池中借出的实例，见 {@link com.ltsoft.graphql.annotations.GraphQLPooled}。
+ * <p>
+ * 借出的实例数量由 {@link Semaphore} 限制，空闲实例保存在无锁队列中，没有空闲实例时通过 {@link InstanceFactory} 创建。
+ * 每次调用前借出，调用完成后通过 {@link #release(Object)} 归还；同一时刻每个实例只被一个调用使用。
+ */
+public final class PooledServiceInstance implements ServiceInstance {
+
+    private final Class<?> type;
+    private final InstanceFactory instanceFactory;
+    private final int maxSize;
+    private final long maxWait;
+    private final Semaphore permits;
+    private final Queue<Object> idleInstances = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param type            实例类型
+     * @param instanceFactory 创建实例的 InstanceFactory
+     * @param maxSize         池中实例的最大数量
+     * @param maxWait         等待空闲实例的最长时间，单位为毫秒，小于 0 时一直等待
+     */
+    public PooledServiceInstance(Class<?> type, InstanceFactory instanceFactory, int maxSize, long maxWait) {
+        checkArgument(maxSize > 0, String.format("Pool size of class '%s' must be positive, but found %d", type.getName(), maxSize));
+
+        this.type = type;
+        this.instanceFactory = requireNonNull(instanceFactory);
+        this.maxSize = maxSize;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxSize);
+    }
+
+    @Override
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public Object get(DataFetchingEnvironment environment) {
+        acquire();
+
+        try {
+            Object instance = idleInstances.poll();
+
+            return instance != null ? instance : requireNonNull(instanceFactory.provide(type),
+                    () -> String.format("InstanceFactory provide null instance of class '%s'", type.getName()));
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void release(Object instance) {
+        idleInstances.offer(instance);
+        permits.release();
+    }
+
+    @Override
+    public boolean isReleaseRequired() {
+        return true;
+    }
+
+    /**
+     * @return 当前可以借出的实例数量
+     */
+    public int getAvailable() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * @return 池中实例的最大数量
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private void acquire() {
+        try {
+            if (maxWait < 0) {
+                permits.acquire();
+            } else if (!permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException(String.format("Borrow instance of class '%s' timeout after %d ms, all %d instances are in use", type.getName(), maxWait, maxSize));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(String.format("Borrow instance of class '%s' but interrupted", type.getName()), e);
+        }
+    }
+}
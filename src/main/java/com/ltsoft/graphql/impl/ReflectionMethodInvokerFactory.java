@@ -0,0 +1,24 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.MethodInvoker;
+import com.ltsoft.graphql.MethodInvokerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * 基于 {@link Method#invoke(Object, Object...)} 的方法调用器，作为其它调用方式的兜底实现
+ */
+public class ReflectionMethodInvokerFactory implements MethodInvokerFactory {
+
+    @Override
+    public MethodInvoker build(Method method) {
+        return (instance, arguments) -> {
+            try {
+                return method.invoke(instance, arguments);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+    }
+}
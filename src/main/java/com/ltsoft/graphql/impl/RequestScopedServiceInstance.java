@@ -0,0 +1,100 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.collect.MapMaker;
+import com.ltsoft.graphql.InstanceFactory;
+import com.ltsoft.graphql.ServiceInstance;
+import graphql.GraphQLContext;
+import graphql.schema.DataFetchingEnvironment;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 每个请求单独创建的实例，见 {@link com.ltsoft.graphql.annotations.GraphQLRequestScope}。
+ * <p>
+ * 请求中的全部实例以类型为键保存在该请求的 {@link GraphQLContext} 中，请求结束后随 GraphQLContext 一起回收。
+ * 仅在首次创建保存实例的 Map 时锁定当前请求的 GraphQLContext，不同请求之间互不影响。
+ * <p>
+ * 设置了 dataFetcherExecutor，或字段在异步结果完成后于其它线程获取时，同一请求的字段可能并行调用该实例。
+ * 每个实例带有一个锁，获取实例时加锁、方法返回后通过 {@link #release(Object)} 解锁，使同一请求中的方法调用逐个进行。
+ * 返回 {@link java.util.concurrent.CompletionStage} 的方法在返回时即解锁，避免同一线程中的兄弟字段等待尚未完成的异步结果；
+ * 异步执行的部分不受该锁保护。
+ */
+public final class RequestScopedServiceInstance implements ServiceInstance {
+
+    //GraphQLContext 中保存请求实例的键
+    private static final Object CONTEXT_KEY = RequestScopedServiceInstance.class;
+
+    private final Class<?> type;
+    private final InstanceFactory instanceFactory;
+
+    //实例到其锁的映射，实例随请求结束被回收后自动移除
+    private final ConcurrentMap<Object, ReentrantLock> locks = new MapMaker().weakKeys().makeMap();
+
+    public RequestScopedServiceInstance(Class<?> type, InstanceFactory instanceFactory) {
+        this.type = requireNonNull(type);
+        this.instanceFactory = requireNonNull(instanceFactory);
+    }
+
+    @Override
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public Object get(DataFetchingEnvironment environment) {
+        Object context = environment.getContext();
+
+        if (!(context instanceof GraphQLContext)) {
+            throw new IllegalStateException(String.format("Request scoped instance of class '%s' requires GraphQLContext as execution context, but found '%s'",
+                    type.getName(), context == null ? null : context.getClass().getName()));
+        }
+
+        Object instance = getInstances((GraphQLContext) context).computeIfAbsent(type, key -> requireNonNull(instanceFactory.provide(key),
+                () -> String.format("InstanceFactory provide null instance of class '%s'", key.getName())));
+
+        locks.computeIfAbsent(instance, key -> new ReentrantLock()).lock();
+
+        return instance;
+    }
+
+    @Override
+    public void release(Object instance) {
+        ReentrantLock lock = locks.get(instance);
+
+        if (lock != null) {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isReleaseRequired() {
+        return true;
+    }
+
+    @Override
+    public boolean isReleaseOnCompletion() {
+        return false;
+    }
+
+    private static ConcurrentMap<Class<?>, Object> getInstances(GraphQLContext context) {
+        ConcurrentMap<Class<?>, Object> instances = context.get(CONTEXT_KEY);
+
+        if (instances == null) {
+            //noinspection SynchronizationOnLocalVariableOrMethodParameter
+            synchronized (context) {
+                instances = context.get(CONTEXT_KEY);
+
+                if (instances == null) {
+                    instances = new ConcurrentHashMap<>();
+                    context.put(CONTEXT_KEY, instances);
+                }
+            }
+        }
+
+        return instances;
+    }
+}
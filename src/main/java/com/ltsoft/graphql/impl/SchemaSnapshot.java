@@ -0,0 +1,361 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Resources;
+import com.google.common.primitives.Primitives;
+import graphql.language.Definition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * 已解析的 GraphQL Definition 快照，用于跳过 {@link com.ltsoft.graphql.resolver.TypeProviderFactory} 的类型解析。
+ * <p>
+ * 快照文件以指纹命名，指纹由 {@link Fingerprint} 根据注册的类型、Scalar 与构建选项计算。
+ * 快照中同时记录全部已解析类型（含父类与接口）的字节码摘要，加载时重新计算并校验，任一类型变更都会使快照失效。
+ * Definition 以 Java 序列化保存，读取时仅允许反序列化 {@code graphql.language} 中的 AST 类型。
+ */
+public final class SchemaSnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaSnapshot.class);
+
+    private static final int MAGIC = 0x47514C53;
+    private static final int VERSION = 1;
+    private static final String FILE_SUFFIX = ".snapshot";
+
+    private final Map<String, String> typeNames;
+    private final List<String> dependencies;
+    private final String dependencyDigest;
+    private final byte[] definitions;
+
+    private SchemaSnapshot(Map<String, String> typeNames, List<String> dependencies, String dependencyDigest, byte[] definitions) {
+        this.typeNames = typeNames;
+        this.dependencies = dependencies;
+        this.dependencyDigest = dependencyDigest;
+        this.definitions = definitions;
+    }
+
+    /**
+     * 创建快照
+     *
+     * @param typeNames   已解析的 Java 类型及其 GraphQL 类型名称，按解析顺序排列
+     * @param definitions 已解析的 Definition
+     * @param classLoader 加载类型的类加载器
+     * @return 快照
+     */
+    public static SchemaSnapshot create(Map<Class<?>, String> typeNames, List<Definition> definitions, ClassLoader classLoader) {
+        Map<String, String> names = new LinkedHashMap<>();
+        typeNames.forEach((cls, name) -> names.put(cls.getName(), name));
+
+        List<String> dependencies = collectDependencies(typeNames.keySet());
+        String digest = digest(dependencies, classLoader);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(new ArrayList<>(definitions));
+        } catch (IOException e) {
+            throw new IllegalStateException("Serialize definitions but fail", e);
+        }
+
+        return new SchemaSnapshot(names, dependencies, digest, bytes.toByteArray());
+    }
+
+    /**
+     * 读取指纹对应的快照。快照不存在、格式不匹配或已损坏时返回 {@link Optional#empty()}
+     *
+     * @param directory   快照目录
+     * @param fingerprint 指纹
+     * @return 快照
+     */
+    public static Optional<SchemaSnapshot> read(Path directory, String fingerprint) {
+        Path file = directory.resolve(fingerprint + FILE_SUFFIX);
+
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            //快照较小且 Definition 需要整体反序列化到堆中，直接读取全部内容
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || !fingerprint.equals(readString(buffer))) {
+                return Optional.empty();
+            }
+
+            Map<String, String> typeNames = new LinkedHashMap<>();
+            for (int i = 0, size = buffer.getInt(); i < size; i++) {
+                String className = readString(buffer);
+                typeNames.put(className, emptyToNull(readString(buffer)));
+            }
+
+            List<String> dependencies = new ArrayList<>();
+            for (int i = 0, size = buffer.getInt(); i < size; i++) {
+                dependencies.add(readString(buffer));
+            }
+
+            String dependencyDigest = readString(buffer);
+            byte[] definitions = new byte[buffer.getInt()];
+            buffer.get(definitions);
+
+            return Optional.of(new SchemaSnapshot(typeNames, dependencies, dependencyDigest, definitions));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Ignore broken schema snapshot '{}'", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 将快照写入指纹对应的文件。先写入临时文件再替换，并发写入同一个快照时不会读到不完整的文件
+     *
+     * @param directory   快照目录
+     * @param fingerprint 指纹
+     * @throws IOException 写入失败
+     */
+    public void write(Path directory, String fingerprint) throws IOException {
+        Files.createDirectories(directory);
+
+        Path file = directory.resolve(fingerprint + FILE_SUFFIX);
+        Path temp = Files.createTempFile(directory, fingerprint, ".tmp");
+
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                writeString(output, fingerprint);
+
+                output.writeInt(typeNames.size());
+                for (Map.Entry<String, String> entry : typeNames.entrySet()) {
+                    writeString(output, entry.getKey());
+                    writeString(output, entry.getValue() == null ? "" : entry.getValue());
+                }
+
+                output.writeInt(dependencies.size());
+                for (String dependency : dependencies) {
+                    writeString(output, dependency);
+                }
+
+                writeString(output, dependencyDigest);
+                output.writeInt(definitions.length);
+                output.write(definitions);
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 重新计算已解析类型的字节码摘要，检查快照是否仍然有效
+     *
+     * @param classLoader 加载类型的类加载器
+     * @return 快照是否有效
+     */
+    public boolean isValid(ClassLoader classLoader) {
+        try {
+            return dependencyDigest.equals(digest(dependencies, classLoader));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Schema snapshot is invalid", e);
+            return false;
+        }
+    }
+
+    /**
+     * 加载快照中的 Java 类型
+     *
+     * @param classLoader 加载类型的类加载器
+     * @return Java 类型及其 GraphQL 类型名称，按解析顺序排列
+     */
+    public Map<Class<?>, String> getTypeNames(ClassLoader classLoader) {
+        Map<Class<?>, String> result = new LinkedHashMap<>();
+        typeNames.forEach((className, typeName) -> result.put(loadClass(className, classLoader), typeName));
+
+        return result;
+    }
+
+    /**
+     * 反序列化快照中的 Definition
+     *
+     * @return Definition
+     */
+    @SuppressWarnings("unchecked")
+    public List<Definition> getDefinitions() {
+        try (ObjectInputStream input = new DefinitionInputStream(new ByteArrayInputStream(definitions))) {
+            return (List<Definition>) input.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Deserialize definitions but fail", e);
+        }
+    }
+
+    /**
+     * 快照指纹
+     *
+     * @return 计算指纹的 Fingerprint
+     */
+    public static Fingerprint fingerprint() {
+        return new Fingerprint()
+                .putString(String.valueOf(VERSION))
+                .putString(Optional.ofNullable(SchemaSnapshot.class.getPackage().getImplementationVersion()).orElse(""));
+    }
+
+    /**
+     * 已解析类型及其父类、接口，JDK 中的类型不会变化，不需要记录
+     */
+    private static List<String> collectDependencies(Collection<Class<?>> classes) {
+        Set<String> result = new TreeSet<>();
+        Deque<Class<?>> unprocessed = new ArrayDeque<>(classes);
+
+        while (!unprocessed.isEmpty()) {
+            Class<?> cls = unprocessed.pop();
+
+            if (cls.getClassLoader() == null || !result.add(cls.getName())) {
+                continue;
+            }
+
+            if (cls.getSuperclass() != null) {
+                unprocessed.push(cls.getSuperclass());
+            }
+
+            Collections.addAll(unprocessed, cls.getInterfaces());
+        }
+
+        return new ArrayList<>(result);
+    }
+
+    private static String digest(List<String> classNames, ClassLoader classLoader) {
+        Fingerprint fingerprint = new Fingerprint();
+        classNames.forEach(className -> fingerprint.putClass(loadClass(className, classLoader)));
+
+        return fingerprint.build();
+    }
+
+    private static Class<?> loadClass(String className, ClassLoader classLoader) {
+        for (Class<?> primitive : Primitives.allPrimitiveTypes()) {
+            if (primitive.getName().equals(className)) {
+                return primitive;
+            }
+        }
+
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(String.format("Can not load class '%s' in schema snapshot", className), e);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 根据类名、字节码与构建参数计算 SHA-256 指纹，参数的顺序会影响结果
+     */
+    @SuppressWarnings("UnstableApiUsage")
+    public static final class Fingerprint {
+
+        private final Hasher hasher = Hashing.sha256().newHasher();
+
+        private Fingerprint() {
+        }
+
+        public Fingerprint putString(String value) {
+            hasher.putString(value, StandardCharsets.UTF_8).putChar('\n');
+            return this;
+        }
+
+        /**
+         * 加入类名与字节码，JDK 中的类型仅加入类名
+         *
+         * @param cls Java 类型
+         * @return Fingerprint
+         */
+        public Fingerprint putClass(Class<?> cls) {
+            putString(cls.getName());
+
+            ClassLoader classLoader = cls.getClassLoader();
+
+            if (classLoader != null) {
+                URL resource = classLoader.getResource(cls.getName().replace('.', '/') + ".class");
+
+                if (resource == null) {
+                    throw new IllegalStateException(String.format("Can not find bytecode of class '%s'", cls.getName()));
+                }
+
+                try {
+                    hasher.putBytes(Resources.toByteArray(resource));
+                } catch (IOException e) {
+                    throw new IllegalStateException(String.format("Read bytecode of class '%s' but fail", cls.getName()), e);
+                }
+            }
+
+            return this;
+        }
+
+        public String build() {
+            return hasher.hash().toString();
+        }
+    }
+
+    /**
+     * 仅允许反序列化 GraphQL AST 及其使用的集合类型
+     */
+    private static class DefinitionInputStream extends ObjectInputStream {
+
+        private static final Set<String> ALLOWED_CLASSES = new HashSet<>(Arrays.asList(
+                "java.util.ArrayList",
+                "java.util.LinkedHashMap",
+                "java.util.HashMap",
+                "java.util.Collections$EmptyList",
+                "java.util.Collections$EmptyMap",
+                "java.util.Collections$UnmodifiableList",
+                "java.util.Collections$UnmodifiableRandomAccessList",
+                "java.util.Collections$UnmodifiableCollection",
+                "java.util.Collections$UnmodifiableMap",
+                "java.lang.Boolean",
+                "java.lang.Number",
+                "java.lang.Integer",
+                "java.math.BigInteger",
+                "java.math.BigDecimal"
+        ));
+
+        DefinitionInputStream(InputStream input) throws IOException {
+            super(input);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String name = desc.getName();
+
+            if (!name.startsWith("graphql.language.") && !ALLOWED_CLASSES.contains(name) && !name.startsWith("[")) {
+                throw new InvalidClassException(name, "Class is not allowed in schema snapshot");
+            }
+
+            return super.resolveClass(desc);
+        }
+    }
+}
@@ -1,26 +1,71 @@
 package com.ltsoft.graphql.impl;
 
 import com.ltsoft.graphql.ArgumentProvider;
+import com.ltsoft.graphql.MethodInvoker;
+import com.ltsoft.graphql.MethodInvokerFactory;
+import com.ltsoft.graphql.ServiceInstance;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import static com.ltsoft.graphql.resolver.ResolveUtil.resolveFieldName;
 
+/**
+ * 调用 Java 方法获取字段数据。
+ * 返回 {@link CompletionStage} 的方法由 graphql-java 直接等待其结果；
+ * 设置了 {@link Executor} 时，其它方法将提交到该 Executor 中执行，并以 {@link CompletableFuture} 返回结果。
+ */
 public class ServiceDataFetcher implements DataFetcher {
 
     private final String fieldName;
-    private final Object instance;
+    private final ServiceInstance instance;
     private final Method method;
-    private final List<ArgumentProvider<?>> providers;
+    private final Invocation invocation;
+    private final Executor executor;
+    private final boolean releaseRequired;
+    private final boolean releaseOnCompletion;
 
     public ServiceDataFetcher(Object instance, Method method, List<ArgumentProvider<?>> providers) {
-        this.fieldName = resolveFieldName(instance.getClass(), method, null);
+        this(instance, method, providers, new MethodHandleInvokerFactory());
+    }
+
+    public ServiceDataFetcher(Object instance, Method method, List<ArgumentProvider<?>> providers, MethodInvokerFactory invokerFactory) {
+        this(instance, method, providers, invokerFactory, null);
+    }
+
+    /**
+     * @param instance        方法所属的实例
+     * @param method          需要调用的方法
+     * @param providers       参数提供者
+     * @param invokerFactory  方法调用器工厂
+     * @param executor        执行阻塞方法的 Executor，为 null 时在 graphql-java 的调用线程中执行
+     */
+    public ServiceDataFetcher(Object instance, Method method, List<ArgumentProvider<?>> providers, MethodInvokerFactory invokerFactory, Executor executor) {
+        this(SharedServiceInstance.of(instance), method, providers, invokerFactory, executor);
+    }
+
+    /**
+     * @param instance        每次调用时获取方法所属实例的 ServiceInstance
+     * @param method          需要调用的方法
+     * @param providers       参数提供者
+     * @param invokerFactory  方法调用器工厂
+     * @param executor        执行阻塞方法的 Executor，为 null 时在 graphql-java 的调用线程中执行
+     */
+    public ServiceDataFetcher(ServiceInstance instance, Method method, List<ArgumentProvider<?>> providers, MethodInvokerFactory invokerFactory, Executor executor) {
+        this.fieldName = resolveFieldName(instance.getType(), method, null);
         this.instance = instance;
         this.method = method;
-        this.providers = providers;
+        this.invocation = compile(invokerFactory.build(method), providers);
+        //异步方法自行管理执行线程，不再提交到 Executor
+        this.executor = CompletionStage.class.isAssignableFrom(method.getReturnType()) ? null : executor;
+        this.releaseRequired = instance.isReleaseRequired();
+        this.releaseOnCompletion = instance.isReleaseOnCompletion();
     }
 
     public String getFieldName() {
@@ -29,6 +74,263 @@ public class ServiceDataFetcher implements DataFetcher {
 
     @Override
     public Object get(DataFetchingEnvironment environment) throws Exception {
-        return method.invoke(instance, providers.stream().map(ele -> ele.provide(environment)).toArray());
+        if (executor != null) {
+            return getAsync(environment);
+        }
+
+        return invoke(environment);
+    }
+
+    private CompletableFuture<Object> getAsync(DataFetchingEnvironment environment) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(invoke(environment));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    private Object invoke(DataFetchingEnvironment environment) throws Exception {
+        Object target = instance.get(environment);
+
+        if (!releaseRequired) {
+            return invoke(target, environment);
+        }
+
+        Object result;
+
+        try {
+            result = invoke(target, environment);
+        } catch (Exception | Error e) {
+            instance.release(target);
+            throw e;
+        }
+
+        if (result instanceof CompletionStage && releaseOnCompletion) {
+            ((CompletionStage<?>) result).whenComplete((value, e) -> instance.release(target));
+        } else {
+            instance.release(target);
+        }
+
+        return result;
+    }
+
+    private Object invoke(Object target, DataFetchingEnvironment environment) throws Exception {
+        try {
+            return invocation.invoke(target, environment);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e, String.format("Invoke method %s#%s fail", method.getDeclaringClass().getName(), method.getName()));
+        }
+    }
+
+    /**
+     * 按参数数量生成调用过程。{@link ConstantArgumentProvider} 的值在此时读取，获取数据时不再调用。
+     *
+     * @param invoker   方法调用器
+     * @param providers 参数提供者
+     * @return 调用过程
+     */
+    private static Invocation compile(MethodInvoker invoker, List<ArgumentProvider<?>> providers) {
+        int size = providers.size();
+        ArgumentProvider<?>[] dynamics = new ArgumentProvider<?>[size];
+        Object[] constants = new Object[size];
+
+        for (int i = 0; i < size; i++) {
+            ArgumentProvider<?> provider = providers.get(i);
+
+            if (provider instanceof ConstantArgumentProvider) {
+                constants[i] = ((ConstantArgumentProvider<?>) provider).getValue();
+            } else {
+                dynamics[i] = provider;
+            }
+        }
+
+        switch (size) {
+            case 0:
+                return new Invocation0(invoker);
+            case 1:
+                return new Invocation1(invoker, dynamics, constants);
+            case 2:
+                return new Invocation2(invoker, dynamics, constants);
+            case 3:
+                return new Invocation3(invoker, dynamics, constants);
+            case 4:
+                return new Invocation4(invoker, dynamics, constants);
+            default:
+                return new InvocationN(invoker, dynamics, constants);
+        }
+    }
+
+    private abstract static class Invocation {
+
+        final MethodInvoker invoker;
+
+        Invocation(MethodInvoker invoker) {
+            this.invoker = invoker;
+        }
+
+        abstract Object invoke(Object instance, DataFetchingEnvironment environment) throws Throwable;
+
+        static Object provide(ArgumentProvider<?> provider, Object constant, DataFetchingEnvironment environment) {
+            return provider != null ? provider.provide(environment) : constant;
+        }
+    }
+
+    private static final class Invocation0 extends Invocation {
+
+        Invocation0(MethodInvoker invoker) {
+            super(invoker);
+        }
+
+        @Override
+        Object invoke(Object instance, DataFetchingEnvironment environment) throws Throwable {
+            return invoker.invoke(instance);
+        }
+    }
+
+    private static final class Invocation1 extends Invocation {
+
+        private final ArgumentProvider<?> provider0;
+        private final Object constant0;
+
+        Invocation1(MethodInvoker invoker, ArgumentProvider<?>[] dynamics, Object[] constants) {
+            super(invoker);
+            this.provider0 = dynamics[0];
+            this.constant0 = constants[0];
+        }
+
+        @Override
+        Object invoke(Object instance, DataFetchingEnvironment environment) throws Throwable {
+            return invoker.invoke(instance, provide(provider0, constant0, environment));
+        }
+    }
+
+    private static final class Invocation2 extends Invocation {
+
+        private final ArgumentProvider<?> provider0;
+        private final ArgumentProvider<?> provider1;
+        private final Object constant0;
+        private final Object constant1;
+
+        Invocation2(MethodInvoker invoker, ArgumentProvider<?>[] dynamics, Object[] constants) {
+            super(invoker);
+            this.provider0 = dynamics[0];
+            this.provider1 = dynamics[1];
+            this.constant0 = constants[0];
+            this.constant1 = constants[1];
+        }
+
+        @Override
+        Object invoke(Object instance, DataFetchingEnvironment environment) throws Throwable {
+            return invoker.invoke(
+                    instance,
+                    provide(provider0, constant0, environment),
+                    provide(provider1, constant1, environment)
+            );
+        }
+    }
+
+    private static final class Invocation3 extends Invocation {
+
+        private final ArgumentProvider<?> provider0;
+        private final ArgumentProvider<?> provider1;
+        private final ArgumentProvider<?> provider2;
+        private final Object constant0;
+        private final Object constant1;
+        private final Object constant2;
+
+        Invocation3(MethodInvoker invoker, ArgumentProvider<?>[] dynamics, Object[] constants) {
+            super(invoker);
+            this.provider0 = dynamics[0];
+            this.provider1 = dynamics[1];
+            this.provider2 = dynamics[2];
+            this.constant0 = constants[0];
+            this.constant1 = constants[1];
+            this.constant2 = constants[2];
+        }
+
+        @Override
+        Object invoke(Object instance, DataFetchingEnvironment environment) throws Throwable {
+            return invoker.invoke(
+                    instance,
+                    provide(provider0, constant0, environment),
+                    provide(provider1, constant1, environment),
+                    provide(provider2, constant2, environment)
+            );
+        }
+    }
+
+    private static final class Invocation4 extends Invocation {
+
+        private final ArgumentProvider<?> provider0;
+        private final ArgumentProvider<?> provider1;
+        private final ArgumentProvider<?> provider2;
+        private final ArgumentProvider<?> provider3;
+        private final Object constant0;
+        private final Object constant1;
+        private final Object constant2;
+        private final Object constant3;
+
+        Invocation4(MethodInvoker invoker, ArgumentProvider<?>[] dynamics, Object[] constants) {
+            super(invoker);
+            this.provider0 = dynamics[0];
+            this.provider1 = dynamics[1];
+            this.provider2 = dynamics[2];
+            this.provider3 = dynamics[3];
+            this.constant0 = constants[0];
+            this.constant1 = constants[1];
+            this.constant2 = constants[2];
+            this.constant3 = constants[3];
+        }
+
+        @Override
+        Object invoke(Object instance, DataFetchingEnvironment environment) throws Throwable {
+            return invoker.invoke(
+                    instance,
+                    provide(provider0, constant0, environment),
+                    provide(provider1, constant1, environment),
+                    provide(provider2, constant2, environment),
+                    provide(provider3, constant3, environment)
+            );
+        }
+    }
+
+    /**
+     * 超过 4 个参数时，以固定值为模板复制参数数组，仅计算非固定值的参数
+     */
+    private static final class InvocationN extends Invocation {
+
+        private final ArgumentProvider<?>[] dynamics;
+        private final Object[] constants;
+
+        InvocationN(MethodInvoker invoker, ArgumentProvider<?>[] dynamics, Object[] constants) {
+            super(invoker);
+            this.dynamics = dynamics;
+            this.constants = constants;
+        }
+
+        @Override
+        Object invoke(Object instance, DataFetchingEnvironment environment) throws Throwable {
+            Object[] arguments = constants.clone();
+
+            for (int i = 0; i < dynamics.length; i++) {
+                if (dynamics[i] != null) {
+                    arguments[i] = dynamics[i].provide(environment);
+                }
+            }
+
+            return invoker.invoke(instance, arguments);
+        }
     }
 }
@@ -0,0 +1,67 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.ltsoft.graphql.InstanceFactory;
+import com.ltsoft.graphql.ServiceInstance;
+import graphql.schema.DataFetchingEnvironment;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 所有调用共享的实例。实例可以在创建时提供，也可以在首次获取时通过 {@link InstanceFactory} 创建，
+ * 延迟创建时仅创建一次，多线程同时首次获取时等待同一个实例创建完成。
+ */
+public final class SharedServiceInstance implements ServiceInstance {
+
+    private final Class<?> type;
+    private final Supplier<Object> supplier;
+
+    private SharedServiceInstance(Class<?> type, Supplier<Object> supplier) {
+        this.type = type;
+        this.supplier = supplier;
+    }
+
+    /**
+     * @param instance 已创建的实例
+     * @return 共享该实例的 SharedServiceInstance，类型为实例的实际类型
+     */
+    public static SharedServiceInstance of(Object instance) {
+        return of(instance.getClass(), instance);
+    }
+
+    /**
+     * @param type     声明的实例类型，{@link InstanceFactory} 返回代理对象时与实例的实际类型不同
+     * @param instance 已创建的实例
+     * @return 共享该实例的 SharedServiceInstance
+     */
+    public static SharedServiceInstance of(Class<?> type, Object instance) {
+        requireNonNull(instance, () -> String.format("InstanceFactory provide null instance of class '%s'", type.getName()));
+        checkArgument(type.isInstance(instance), String.format("Instance of class '%s' is not a '%s'", instance.getClass().getName(), type.getName()));
+
+        return new SharedServiceInstance(type, Suppliers.ofInstance(instance));
+    }
+
+    /**
+     * @param type            实例类型
+     * @param instanceFactory 创建实例的 InstanceFactory
+     * @return 在首次获取时创建实例的 SharedServiceInstance
+     */
+    public static SharedServiceInstance lazy(Class<?> type, InstanceFactory instanceFactory) {
+        requireNonNull(instanceFactory);
+
+        return new SharedServiceInstance(type, Suppliers.memoize(() -> requireNonNull(instanceFactory.provide(type),
+                () -> String.format("InstanceFactory provide null instance of class '%s'", type.getName()))));
+    }
+
+    @Override
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public Object get(DataFetchingEnvironment environment) {
+        return supplier.get();
+    }
+}
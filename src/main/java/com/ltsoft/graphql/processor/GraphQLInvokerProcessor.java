@@ -0,0 +1,262 @@
+package com.ltsoft.graphql.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 在编译时为 GraphQL 对象类型生成 {@link com.ltsoft.graphql.GeneratedMethodInvokers}，
+ * 以普通的方法调用执行 {@link com.ltsoft.graphql.annotations.GraphQLDataFetcher} 与 {@link com.ltsoft.graphql.annotations.GraphQLBatch} 方法。
+ * 生成的类以 {@link java.util.ServiceLoader} 注册，由 {@link com.ltsoft.graphql.impl.GeneratedMethodInvokerFactory} 加载。
+ * <p>
+ * 无法从生成类所在的包访问的方法（所属类或参数类型不可见）不生成调用器，运行时回退为 MethodHandle 调用。
+ * 编译时设置 {@code -Agraphql.invokers=false} 可关闭生成。
+ * 本类仅依赖 JDK，不在编译期引入其它依赖。
+ */
+@SupportedAnnotationTypes({
+        "com.ltsoft.graphql.annotations.GraphQLType",
+        "com.ltsoft.graphql.annotations.GraphQLTypeExtension"
+})
+@SupportedOptions(GraphQLInvokerProcessor.OPTION_ENABLED)
+public class GraphQLInvokerProcessor extends AbstractProcessor {
+
+    static final String OPTION_ENABLED = "graphql.invokers";
+
+    private static final String SERVICE_PATH = "META-INF/services/com.ltsoft.graphql.GeneratedMethodInvokers";
+    private static final String GENERATED_SUFFIX = "_GraphQLInvokers";
+
+    private static final Set<String> FETCHER_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "com.ltsoft.graphql.annotations.GraphQLDataFetcher",
+            "com.ltsoft.graphql.annotations.GraphQLBatch"
+    ));
+
+    private static final int MAX_ARITY = 4;
+
+    private final Set<String> generatedTypes = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!isEnabled()) {
+            return false;
+        }
+
+        if (roundEnv.processingOver()) {
+            writeServices();
+            return false;
+        }
+
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (type.getKind() == ElementKind.CLASS) {
+                    generate(type);
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isEnabled() {
+        return !"false".equalsIgnoreCase(processingEnv.getOptions().get(OPTION_ENABLED));
+    }
+
+    private void generate(TypeElement type) {
+        Elements elements = processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String generatedName = flatName(type) + GENERATED_SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? generatedName : packageName + "." + generatedName;
+
+        if (!isAccessible(type, packageName) || generatedTypes.contains(qualifiedName)) {
+            return;
+        }
+
+        Map<String, String> invokers = new LinkedHashMap<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (isDataFetcher(method) && isAccessible(method, packageName)) {
+                invokers.putIfAbsent(signature(method), invoker(method));
+            }
+        }
+
+        if (invokers.isEmpty()) {
+            return;
+        }
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source(packageName, generatedName, invokers));
+            generatedTypes.add(qualifiedName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("Write generated invokers '%s' fail: %s", qualifiedName, e), type);
+        }
+    }
+
+    private void writeServices() {
+        if (generatedTypes.isEmpty()) {
+            return;
+        }
+
+        Filer filer = processingEnv.getFiler();
+        Set<String> merged = new TreeSet<>(generatedTypes);
+        merged.addAll(ProcessorResources.readLines(filer, SERVICE_PATH));
+
+        try {
+            ProcessorResources.writeLines(filer, SERVICE_PATH, merged);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("Write service file '%s' fail: %s", SERVICE_PATH, e));
+        }
+
+        generatedTypes.clear();
+    }
+
+    private boolean isDataFetcher(ExecutableElement method) {
+        return method.getModifiers().contains(Modifier.PUBLIC)
+                && method.getAnnotationMirrors().stream()
+                .map(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())
+                .anyMatch(FETCHER_ANNOTATIONS::contains);
+    }
+
+    /**
+     * 与 {@link com.ltsoft.graphql.impl.GeneratedMethodInvokerFactory#signature(java.lang.reflect.Method)} 保持一致
+     */
+    private String signature(ExecutableElement method) {
+        TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+
+        return method.getParameters().stream()
+                .map(parameter -> erasure(parameter.asType()).toString())
+                .collect(Collectors.joining(",", processingEnv.getElementUtils().getBinaryName(declaringType) + "#" + method.getSimpleName() + "(", ")"));
+    }
+
+    private String invoker(ExecutableElement method) {
+        TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+        int arity = method.getParameters().size();
+
+        List<String> arguments = IntStream.range(0, arity)
+                .mapToObj(i -> String.format("(%s) %s", erasure(method.getParameters().get(i).asType()), arity > MAX_ARITY ? "arguments[" + i + "]" : "arg" + i))
+                .collect(Collectors.toList());
+
+        String target = method.getModifiers().contains(Modifier.STATIC)
+                ? declaringType.getQualifiedName().toString()
+                : String.format("((%s) instance)", erasure(declaringType.asType()));
+        String call = String.format("%s.%s(%s)", target, method.getSimpleName(), String.join(", ", arguments));
+        String body = method.getReturnType().getKind() == TypeKind.VOID
+                ? call + ";\n                return null;"
+                : "return " + call + ";";
+
+        StringBuilder builder = new StringBuilder("new com.ltsoft.graphql.MethodInvoker() {\n");
+
+        if (arity > MAX_ARITY) {
+            builder.append("            @java.lang.Override\n")
+                    .append("            public java.lang.Object invoke(java.lang.Object instance, java.lang.Object[] arguments) throws java.lang.Throwable {\n")
+                    .append("                ").append(body).append("\n")
+                    .append("            }\n");
+        } else {
+            String parameters = IntStream.range(0, arity).mapToObj(i -> ", java.lang.Object arg" + i).collect(Collectors.joining());
+            String spread = IntStream.range(0, arity).mapToObj(i -> ", arguments[" + i + "]").collect(Collectors.joining());
+
+            builder.append("            @java.lang.Override\n")
+                    .append("            public java.lang.Object invoke(java.lang.Object instance, java.lang.Object[] arguments) throws java.lang.Throwable {\n")
+                    .append("                return invoke(instance").append(spread).append(");\n")
+                    .append("            }\n\n")
+                    .append("            @java.lang.Override\n")
+                    .append("            public java.lang.Object invoke(java.lang.Object instance").append(parameters).append(") throws java.lang.Throwable {\n")
+                    .append("                ").append(body).append("\n")
+                    .append("            }\n");
+        }
+
+        return builder.append("        }").toString();
+    }
+
+    private String source(String packageName, String generatedName, Map<String, String> invokers) {
+        StringBuilder builder = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            builder.append("package ").append(packageName).append(";\n\n");
+        }
+
+        builder.append("// Generated by ").append(GraphQLInvokerProcessor.class.getName()).append(", do not edit.\n")
+                .append("@java.lang.SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(generatedName).append(" implements com.ltsoft.graphql.GeneratedMethodInvokers {\n\n")
+                .append("    @java.lang.Override\n")
+                .append("    public java.util.Map<java.lang.String, com.ltsoft.graphql.MethodInvoker> getInvokers() {\n")
+                .append("        java.util.Map<java.lang.String, com.ltsoft.graphql.MethodInvoker> invokers = new java.util.HashMap<>();\n");
+
+        invokers.forEach((signature, invoker) ->
+                builder.append("        invokers.put(\"").append(signature).append("\", ").append(invoker).append(");\n")
+        );
+
+        return builder.append("        return invokers;\n")
+                .append("    }\n")
+                .append("}\n")
+                .toString();
+    }
+
+    private TypeMirror erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type);
+    }
+
+    /**
+     * 生成类需要能够访问方法、方法所属的类与全部参数类型
+     */
+    private boolean isAccessible(ExecutableElement method, String packageName) {
+        return isAccessible((TypeElement) method.getEnclosingElement(), packageName)
+                && method.getParameters().stream().allMatch(parameter -> isAccessible(erasure(parameter.asType()), packageName));
+    }
+
+    private boolean isAccessible(TypeMirror type, String packageName) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) type).getComponentType(), packageName);
+        }
+
+        if (type.getKind() == TypeKind.DECLARED) {
+            return isAccessible((TypeElement) ((DeclaredType) type).asElement(), packageName);
+        }
+
+        return type.getKind().isPrimitive();
+    }
+
+    private boolean isAccessible(TypeElement type, String packageName) {
+        Elements elements = processingEnv.getElementUtils();
+        boolean samePackage = elements.getPackageOf(type).getQualifiedName().contentEquals(packageName);
+
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            Set<Modifier> modifiers = element.getModifiers();
+
+            if (modifiers.contains(Modifier.PRIVATE) || !(modifiers.contains(Modifier.PUBLIC) || samePackage)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static String flatName(TypeElement type) {
+        Deque<String> names = new ArrayDeque<>();
+
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            names.addFirst(element.getSimpleName().toString());
+        }
+
+        return String.join("_", names);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ltsoft.graphql.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 在编译时为可被解析的顶层类生成按包划分的索引，开启 {@link com.ltsoft.graphql.GraphQLSchemaBuilder#typeIndexOnly(boolean)} 时
+ * 供 {@link com.ltsoft.graphql.GraphQLSchemaBuilder#addPackage(String...)} 使用，启动时无需扫描 classpath，也不会加载包中无关的类。
+ * <p>
+ * 增量编译时会合并已有的索引文件，已删除的类由 {@link com.ltsoft.graphql.impl.GraphQLTypeIndex} 在加载时忽略。
+ * 本类仅依赖 JDK，不在编译期引入其它依赖。
+ */
+@SupportedAnnotationTypes({
+        "com.ltsoft.graphql.annotations.GraphQLType",
+        "com.ltsoft.graphql.annotations.GraphQLInterface",
+        "com.ltsoft.graphql.annotations.GraphQLInput",
+        "com.ltsoft.graphql.annotations.GraphQLUnion",
+        "com.ltsoft.graphql.annotations.GraphQLTypeExtension",
+        "com.ltsoft.graphql.annotations.GraphQLDirective"
+})
+public class GraphQLTypeIndexProcessor extends AbstractProcessor {
+
+    /**
+     * 索引文件所在目录，每个包对应一个以包名命名的文件
+     */
+    public static final String INDEX_LOCATION = "META-INF/graphql-schema-builder/types/";
+
+    private final Map<String, Set<String>> packageTypes = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            Elements elements = processingEnv.getElementUtils();
+
+            for (TypeElement annotation : annotations) {
+                for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                    //与 classpath 扫描一致，仅索引顶层类
+                    if (isType(element) && element.getEnclosingElement().getKind() == ElementKind.PACKAGE) {
+                        TypeElement type = (TypeElement) element;
+                        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+
+                        packageTypes.computeIfAbsent(packageName, key -> new TreeSet<>())
+                                .add(elements.getBinaryName(type).toString());
+                    }
+                }
+            }
+        }
+
+        //不声明处理了这些注解，其它处理器仍可处理
+        return false;
+    }
+
+    private void writeIndex() {
+        Filer filer = processingEnv.getFiler();
+
+        packageTypes.forEach((packageName, classNames) -> {
+            String path = INDEX_LOCATION + packageName;
+            Set<String> merged = new TreeSet<>(classNames);
+            merged.addAll(ProcessorResources.readLines(filer, path));
+
+            try {
+                ProcessorResources.writeLines(filer, path, merged);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format("Write type index '%s' fail: %s", path, e));
+            }
+        });
+
+        packageTypes.clear();
+    }
+
+    private static boolean isType(Element element) {
+        return element.getKind().isClass() || element.getKind().isInterface();
+    }
+}
@@ -0,0 +1,59 @@
+package com.ltsoft.graphql.processor;
+
+import javax.annotation.processing.Filer;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 读写编译输出目录中按行存放的资源文件
+ */
+final class ProcessorResources {
+
+    private ProcessorResources() {
+    }
+
+    /**
+     * 读取已有的资源文件，增量编译时用于合并内容
+     *
+     * @param filer Filer
+     * @param path  资源路径
+     * @return 非空的行，文件不存在时返回空集合
+     */
+    static Set<String> readLines(Filer filer, String path) {
+        Set<String> result = new TreeSet<>();
+
+        try {
+            FileObject file = filer.getResource(StandardLocation.CLASS_OUTPUT, "", path);
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        result.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            //首次编译时文件不存在
+        }
+
+        return result;
+    }
+
+    static void writeLines(Filer filer, String path, Collection<String> lines) throws IOException {
+        FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", path);
+
+        try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+    }
+}
@@ -4,35 +4,51 @@ import graphql.schema.idl.EnumValuesProvider;
 
 import java.util.Map;
 
-import static com.ltsoft.graphql.resolver.ResolveUtil.resolveEnumValueMap;
 import static com.ltsoft.graphql.resolver.ResolveUtil.resolveTypeName;
 
+/**
+ * 不可变的枚举值提供者，合并时返回新的实例
+ */
 public class EnumFieldValueProvider implements EnumValuesProvider {
 
     private final String typeName;
-    private final Map<String, Object> valueMap;
+    private final EnumValueMapping mapping;
 
     public EnumFieldValueProvider(Class<?> type) {
-        this(resolveTypeName(type), resolveEnumValueMap(type));
+        this(resolveTypeName(type), EnumValueMapping.of(type));
     }
 
     @SuppressWarnings("WeakerAccess")
     public EnumFieldValueProvider(String name, Map<String, Object> valueMap) {
+        this(name, EnumValueMapping.of(valueMap));
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public EnumFieldValueProvider(String name, EnumValueMapping mapping) {
         this.typeName = name;
-        this.valueMap = valueMap;
+        this.mapping = mapping;
     }
 
+    /**
+     * 合并其它枚举值，名称相同时保留当前的值
+     *
+     * @param other 其它枚举值提供者
+     * @return 合并后的新实例
+     */
     public EnumFieldValueProvider merge(EnumFieldValueProvider other) {
-        other.valueMap.forEach(this.valueMap::putIfAbsent);
-        return this;
+        return new EnumFieldValueProvider(typeName, mapping.merge(other.mapping));
     }
 
     public String getTypeName() {
         return typeName;
     }
 
+    public EnumValueMapping getMapping() {
+        return mapping;
+    }
+
     @Override
     public Object getValue(String name) {
-        return valueMap.get(name);
+        return mapping.getValue(name);
     }
 }
@@ -0,0 +1,140 @@
+package com.ltsoft.graphql.provider;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.ltsoft.graphql.resolver.ResolveUtil.resolveFieldName;
+
+/**
+ * 不可变的枚举值映射表。
+ * GraphQL 名称到值按名称排序后二分查找；Java 枚举到 GraphQL 名称按 {@link Enum#ordinal()} 直接索引。
+ * 枚举类型的映射表只构建一次，可在多个 Schema 间共享。
+ */
+public final class EnumValueMapping {
+
+    private static final ClassValue<EnumValueMapping> MAPPINGS = new ClassValue<EnumValueMapping>() {
+        @Override
+        protected EnumValueMapping computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private final Class<?> enumType;
+    private final String[] namesByOrdinal;
+    private final String[] sortedNames;
+    private final Object[] sortedValues;
+
+    private EnumValueMapping(Class<?> enumType, String[] namesByOrdinal, String[] sortedNames, Object[] sortedValues) {
+        this.enumType = enumType;
+        this.namesByOrdinal = namesByOrdinal;
+        this.sortedNames = sortedNames;
+        this.sortedValues = sortedValues;
+    }
+
+    /**
+     * @param enumType 枚举类型
+     * @return 枚举类型的映射表
+     */
+    public static EnumValueMapping of(Class<?> enumType) {
+        checkArgument(enumType.isEnum(), String.format("Type '%s' is not a enum", enumType.getName()));
+
+        return MAPPINGS.get(enumType);
+    }
+
+    /**
+     * @param valueMap GraphQL 名称与值的映射
+     * @return 映射表
+     */
+    public static EnumValueMapping of(Map<String, Object> valueMap) {
+        return sort(null, null, valueMap.keySet().toArray(new String[0]), valueMap.values().toArray());
+    }
+
+    private static EnumValueMapping resolve(Class<?> type) {
+        Object[] constants = type.getEnumConstants();
+        String[] names = new String[constants.length];
+
+        for (int i = 0; i < constants.length; i++) {
+            try {
+                Field field = type.getField(((Enum<?>) constants[i]).name());
+                names[i] = resolveFieldName(type, null, field);
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException(String.format("Can not find field of enum constant '%s'", constants[i]), e);
+            }
+        }
+
+        return sort(type, names, names.clone(), constants);
+    }
+
+    private static EnumValueMapping sort(Class<?> enumType, String[] namesByOrdinal, String[] names, Object[] values) {
+        Integer[] indexes = new Integer[names.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+
+        Arrays.sort(indexes, Comparator.comparing(index -> names[index]));
+
+        String[] sortedNames = new String[names.length];
+        Object[] sortedValues = new Object[names.length];
+        for (int i = 0; i < indexes.length; i++) {
+            sortedNames[i] = names[indexes[i]];
+            sortedValues[i] = values[indexes[i]];
+        }
+
+        return new EnumValueMapping(enumType, namesByOrdinal, sortedNames, sortedValues);
+    }
+
+    /**
+     * @param name GraphQL 枚举值名称
+     * @return 对应的值，不存在时返回 null
+     */
+    public Object getValue(String name) {
+        int index = Arrays.binarySearch(sortedNames, name);
+
+        return index >= 0 ? sortedValues[index] : null;
+    }
+
+    /**
+     * @param value 枚举值
+     * @return 对应的 GraphQL 名称，不存在时返回 null
+     */
+    public String getName(Object value) {
+        if (namesByOrdinal != null && enumType.isInstance(value)) {
+            return namesByOrdinal[((Enum<?>) value).ordinal()];
+        }
+
+        for (int i = 0; i < sortedValues.length; i++) {
+            if (Objects.equals(sortedValues[i], value)) {
+                return sortedNames[i];
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 合并两个映射表，名称相同时保留当前映射表的值
+     *
+     * @param other 其它映射表
+     * @return 合并后的新映射表
+     */
+    public EnumValueMapping merge(EnumValueMapping other) {
+        String[] names = Arrays.copyOf(sortedNames, sortedNames.length + other.sortedNames.length);
+        Object[] values = Arrays.copyOf(sortedValues, names.length);
+        int size = sortedNames.length;
+
+        for (int i = 0; i < other.sortedNames.length; i++) {
+            if (Arrays.binarySearch(sortedNames, other.sortedNames[i]) < 0) {
+                names[size] = other.sortedNames[i];
+                values[size] = other.sortedValues[i];
+                size++;
+            }
+        }
+
+        //合并后的映射表包含多个枚举类型，不再按 ordinal 索引
+        return sort(null, null, Arrays.copyOf(names, size), Arrays.copyOf(values, size));
+    }
+}
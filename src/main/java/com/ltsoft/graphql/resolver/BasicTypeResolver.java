@@ -9,6 +9,7 @@ import com.ltsoft.graphql.annotations.GraphQLTypeExtension;
 import com.ltsoft.graphql.impl.FieldDefinitionCollector;
 import com.ltsoft.graphql.provider.ExtensionTypeProvider;
 import graphql.language.*;
+import graphql.schema.idl.RuntimeWiring;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -19,6 +20,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -51,6 +53,27 @@ public abstract class BasicTypeResolver<T extends Definition> implements TypeRes
         return provider;
     }
 
+    @Override
+    public UnaryOperator<RuntimeWiring.Builder> resolveWiring(Type javaType, Function<Type, TypeProvider<?>> resolver) {
+        checkArgument(isSupport(javaType));
+
+        //noinspection UnstableApiUsage
+        return resolveWiring(TypeToken.of(javaType).getRawType(), resolver);
+    }
+
+    /**
+     * 仅解析类型的 RuntimeWiring，子类可覆盖以跳过 Definition 的解析。
+     * 扩展类型仅返回自身的 RuntimeWiring，被扩展的类型由快照单独恢复。
+     *
+     * @param cls      需要解析的类型
+     * @param resolver 类型名称查询函数
+     * @return RuntimeWiring 处理器
+     */
+    @SuppressWarnings("WeakerAccess")
+    protected UnaryOperator<RuntimeWiring.Builder> resolveWiring(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
+        return resolve(cls, resolver).getWiringOperator();
+    }
+
     @SuppressWarnings({"UnstableApiUsage", "WeakerAccess"})
     protected List<Comment> getComment(Class<?> cls) {
         return Optional.ofNullable(cls.getAnnotation(GraphQLComment.class))
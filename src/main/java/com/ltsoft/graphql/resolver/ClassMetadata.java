@@ -0,0 +1,262 @@
+package com.ltsoft.graphql.resolver;
+
+import com.google.common.reflect.TypeToken;
+import com.ltsoft.graphql.annotations.GraphQLField;
+import com.ltsoft.graphql.annotations.GraphQLFieldFilter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+
+import static com.ltsoft.graphql.resolver.ResolveUtil.simplifyName;
+
+/**
+ * 类的反射元数据，每个类只计算一次，由各个 TypeResolver、{@link FieldInformation} 与 {@link ResolveUtil} 共享，
+ * 解析字段时不再重复调用 {@link Class#getMethods()}、{@link Class#getDeclaredFields()} 并逐个扫描。
+ * <p>
+ * 由启动类加载器加载的类型（如 JDK 中的类型）不缓存：缓存的值引用了本库的注解与类，会使本库的 ClassLoader 无法卸载。
+ */
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            ResolveStatistics.miss(ResolveStatistics.Cache.CLASS_METADATA);
+            //getMethods、getDeclaredFields、getDeclaredMethods、getAnnotations 与 getAnnotation
+            ResolveStatistics.reflectionCall(5);
+
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final List<Method> methods;
+    private final List<Method> invokableMethods;
+    private final Map<String, Field> declaredFields;
+    private final Map<String, Field> mappingFields;
+    private final Set<Class<? extends Annotation>> annotationTypes;
+    private final boolean fieldAnnotated;
+    private final Class<? extends BiPredicate<Method, Field>> fieldFilterType;
+
+    //方法签名到全部父类型中同签名方法的索引，仅在查询可继承的注解时创建
+    private volatile Map<MethodSignature, List<Method>> hierarchyMethods;
+    private final ConcurrentMap<MethodSignature, ConcurrentMap<Class<? extends Annotation>, Optional<Annotation>>> inheritedAnnotations = new ConcurrentHashMap<>();
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        this.methods = Collections.unmodifiableList(Arrays.asList(type.getMethods()));
+        this.invokableMethods = Collections.unmodifiableList(methods.stream()
+                .filter(ClassMetadata::isInvokable)
+                .collect(Collectors.toList()));
+
+        Map<String, Field> fields = new HashMap<>();
+        boolean annotated = false;
+
+        for (Field field : type.getDeclaredFields()) {
+            fields.putIfAbsent(field.getName(), field);
+            annotated |= field.isAnnotationPresent(GraphQLField.class);
+        }
+
+        Map<String, Field> mapping = new HashMap<>();
+
+        for (Method method : type.getDeclaredMethods()) {
+            Field field = fields.get(simplifyName(method.getName()));
+
+            if (field != null) {
+                mapping.put(method.getName(), field);
+            }
+
+            annotated |= method.isAnnotationPresent(GraphQLField.class);
+        }
+
+        this.declaredFields = Collections.unmodifiableMap(fields);
+        this.mappingFields = mapping;
+        this.annotationTypes = Arrays.stream(type.getAnnotations())
+                .map(Annotation::annotationType)
+                .collect(Collectors.toSet());
+        this.fieldAnnotated = annotated;
+        this.fieldFilterType = Optional.ofNullable(type.getAnnotation(GraphQLFieldFilter.class))
+                .<Class<? extends BiPredicate<Method, Field>>>map(GraphQLFieldFilter::value)
+                .orElse(null);
+    }
+
+    public static ClassMetadata of(Class<?> type) {
+        ResolveStatistics.lookup(ResolveStatistics.Cache.CLASS_METADATA);
+
+        if (type.getClassLoader() == null) {
+            ResolveStatistics.miss(ResolveStatistics.Cache.CLASS_METADATA);
+            ResolveStatistics.reflectionCall(5);
+
+            return new ClassMetadata(type);
+        }
+
+        return METADATA.get(type);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return {@link Class#getMethods()} 的结果
+     */
+    public List<Method> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @return 可以作为 GraphQL 字段的方法：公开、非静态且不是桥接方法
+     */
+    public List<Method> getInvokableMethods() {
+        return invokableMethods;
+    }
+
+    /**
+     * @return 当前类声明的字段，以字段名称为键
+     */
+    public Map<String, Field> getDeclaredFields() {
+        return declaredFields;
+    }
+
+    /**
+     * 查找当前类中声明的方法所对应的同名字段，如 getName 对应 name
+     *
+     * @param method 当前类中声明的方法
+     * @return 对应的字段，不存在时为 null
+     */
+    public Field getMappingField(Method method) {
+        return method.getDeclaringClass() == type ? mappingFields.get(method.getName()) : null;
+    }
+
+    public boolean isAnnotationPresent(Class<? extends Annotation> annotationClass) {
+        return annotationTypes.contains(annotationClass);
+    }
+
+    /**
+     * @return 当前类声明的方法或字段中是否存在 {@link GraphQLField} 注解，存在时仅声明了该注解的成员作为字段
+     */
+    public boolean isFieldAnnotated() {
+        return fieldAnnotated;
+    }
+
+    /**
+     * 获取 {@link GraphQLFieldFilter} 声明的字段过滤器，实例由 {@link StrategyRegistry} 提供
+     *
+     * @return 字段过滤器，未声明时为 null
+     */
+    public BiPredicate<Method, Field> getFieldFilter() {
+        return fieldFilterType != null ? StrategyRegistry.current().get(fieldFilterType) : null;
+    }
+
+    /**
+     * 在当前类型及其全部父类、接口中查找与方法签名相同的方法，返回第一个声明了注解的方法上的注解。
+     * Java 不支持方法上的注解继承，可继承的注解需要按此方式查找。
+     *
+     * @param method          需要查找的方法
+     * @param annotationClass 注解类型
+     * @param <T>             注解类型
+     * @return 注解，不存在时为 null
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Annotation> T getInheritedAnnotation(Method method, Class<T> annotationClass) {
+        MethodSignature signature = new MethodSignature(method);
+        ResolveStatistics.lookup(ResolveStatistics.Cache.INHERITED_ANNOTATION);
+
+        return (T) inheritedAnnotations.computeIfAbsent(signature, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(annotationClass, key -> {
+                    List<Method> methods = getHierarchyMethods(signature);
+
+                    ResolveStatistics.miss(ResolveStatistics.Cache.INHERITED_ANNOTATION);
+                    ResolveStatistics.reflectionCall(methods.size());
+
+                    return methods.stream()
+                            .filter(ele -> ele.isAnnotationPresent(annotationClass))
+                            .findFirst()
+                            .map(ele -> ele.getAnnotation(annotationClass));
+                })
+                .orElse(null);
+    }
+
+    /**
+     * 获取当前类型及其全部父类、接口中与方法签名相同的公开方法，按 {@link TypeToken#getTypes()} 的顺序排列。
+     * 不包含由启动类加载器加载的父类型（如 Object）中的方法，这些方法上不会声明本库的注解
+     *
+     * @param method 需要查找的方法
+     * @return 同签名的方法
+     */
+    public List<Method> getHierarchyMethods(Method method) {
+        return getHierarchyMethods(new MethodSignature(method));
+    }
+
+    private List<Method> getHierarchyMethods(MethodSignature signature) {
+        Map<MethodSignature, List<Method>> index = hierarchyMethods;
+
+        if (index == null) {
+            index = new HashMap<>();
+            ResolveStatistics.reflectionCall(1);
+
+            //noinspection UnstableApiUsage
+            for (TypeToken<?> superType : TypeToken.of(type).getTypes()) {
+                Class<?> rawType = superType.getRawType();
+
+                if (rawType != type && rawType.getClassLoader() == null) {
+                    continue;
+                }
+
+                for (Method method : of(rawType).getMethods()) {
+                    //父类型的 getMethods() 会再次返回子类继承的同一个方法
+                    List<Method> methods = index.computeIfAbsent(new MethodSignature(method), key -> new ArrayList<>());
+
+                    if (!methods.contains(method)) {
+                        methods.add(method);
+                    }
+                }
+            }
+
+            hierarchyMethods = index;
+        }
+
+        return index.getOrDefault(signature, Collections.emptyList());
+    }
+
+    private static boolean isInvokable(Method method) {
+        return !Modifier.isStatic(method.getModifiers()) && Modifier.isPublic(method.getModifiers()) && !method.isBridge();
+    }
+
+    private static final class MethodSignature {
+
+        private final String name;
+        private final Class<?>[] parameterTypes;
+
+        MethodSignature(Method method) {
+            this.name = method.getName();
+            this.parameterTypes = method.getParameterTypes();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof MethodSignature)) {
+                return false;
+            }
+
+            MethodSignature that = (MethodSignature) o;
+
+            return name.equals(that.name) && Arrays.equals(parameterTypes, that.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.ltsoft.graphql.resolver;
+
+import com.ltsoft.graphql.TypeProvider;
+import com.ltsoft.graphql.TypeResolver;
+import com.ltsoft.graphql.impl.BuildReport;
+import com.ltsoft.graphql.provider.TypeNameProvider;
+import graphql.language.Definition;
+import graphql.schema.idl.RuntimeWiring;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import static com.ltsoft.graphql.resolver.ResolveUtil.isGraphQLObjectLikeType;
+import static com.ltsoft.graphql.resolver.ResolveUtil.resolveTypeName;
+
+/**
+ * 在 {@link ForkJoinPool} 中并行解析 Java 类型。
+ * <p>
+ * 每个类型在独立的任务中解析，TypeResolver 查询的依赖类型以 {@link DependencyProvider} 占位，并提交新的解析任务。
+ * 全部任务完成后，按照 {@link TypeProviderFactory} 串行解析的顺序重放记录下的依赖关系：
+ * 输出顺序、循环依赖时使用的 {@link TypeNameProvider} 均与串行解析一致。
+ * <p>
+ * 对象类依赖直接使用 {@link ResolveUtil#resolveTypeName(Class)} 作为类型名称，不等待其解析完成；
+ * 其它类型（Scalar、Union 等）的名称需要等待对应任务完成，相互等待时抛出与串行解析相同的循环依赖异常。
+ */
+final class ConcurrentTypeResolution {
+
+    private final List<TypeResolver<?>> typeResolvers;
+    private final ForkJoinPool pool;
+    private final BuildReport buildReport;
+    //解析任务在 ForkJoinPool 的线程中执行，需要绑定 StrategyRegistry
+    private final StrategyRegistry strategies;
+
+    private final ConcurrentMap<Type, ResolveTask> tasks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Type, Type> awaitingTypes = new ConcurrentHashMap<>();
+
+    ConcurrentTypeResolution(List<TypeResolver<?>> typeResolvers, StrategyRegistry strategies, ForkJoinPool pool, BuildReport buildReport) {
+        this.typeResolvers = typeResolvers;
+        this.strategies = strategies;
+        this.pool = pool;
+        this.buildReport = buildReport;
+    }
+
+    /**
+     * 解析全部类型
+     *
+     * @param unprocessedTypes 待解析的类型，按串行解析的出栈顺序排列
+     * @param registeredTypes  已注册的类型，新发现的依赖类型会加入该集合
+     * @return 按串行解析顺序排列的 Java 类型及其 TypeProvider
+     */
+    List<Map.Entry<Type, TypeProvider<?>>> resolve(Deque<Type> unprocessedTypes, Set<Type> registeredTypes) {
+        List<Type> initialTypes = new ArrayList<>(unprocessedTypes);
+
+        pool.invoke(ForkJoinTask.adapt(() -> {
+            initialTypes.forEach(this::submit);
+            awaitAll();
+        }));
+
+        return new Replay(unprocessedTypes, registeredTypes).run();
+    }
+
+    /**
+     * 获取 {@link #resolve(Deque, Set)} 中各类型依赖的类型，按 TypeResolver 的查询顺序排列
+     *
+     * @return 类型及其依赖的类型
+     */
+    Map<Type, List<Type>> getDependencies() {
+        Map<Type, List<Type>> result = new HashMap<>();
+
+        tasks.forEach((javaType, task) -> result.put(javaType, task.dependencies.stream()
+                .map(dependency -> dependency.javaType)
+                .collect(Collectors.toList())));
+
+        return result;
+    }
+
+    private void submit(Type javaType) {
+        ResolveTask task = new ResolveTask(javaType);
+        ResolveStatistics.lookup(ResolveStatistics.Cache.TYPE_PROVIDER);
+
+        if (tasks.putIfAbsent(javaType, task) == null) {
+            ResolveStatistics.miss(ResolveStatistics.Cache.TYPE_PROVIDER);
+
+            if (ForkJoinTask.getPool() == pool) {
+                task.fork();
+            } else {
+                pool.execute(task);
+            }
+        }
+    }
+
+    /**
+     * 解析任务在完成前会提交其依赖类型的任务，因此当已知的任务全部完成时，不会再出现新的任务
+     */
+    private void awaitAll() {
+        Set<Type> joined = new HashSet<>();
+
+        while (joined.size() < tasks.size()) {
+            for (ResolveTask task : new ArrayList<>(tasks.values())) {
+                if (joined.add(task.javaType)) {
+                    task.join();
+                }
+            }
+        }
+    }
+
+    private TypeProvider<?> await(Type owner, Type javaType) {
+        ResolveTask task = tasks.get(javaType);
+
+        if (task.isDone()) {
+            return task.join();
+        }
+
+        awaitingTypes.put(owner, javaType);
+        long startTime = System.nanoTime();
+
+        try {
+            Set<Type> visited = new HashSet<>();
+
+            for (Type type = javaType; type != null && visited.add(type); type = awaitingTypes.get(type)) {
+                if (type.equals(owner)) {
+                    throw cycleLoading(javaType);
+                }
+            }
+
+            return task.join();
+        } finally {
+            awaitingTypes.remove(owner);
+            tasks.get(owner).awaitingTime += System.nanoTime() - startTime;
+        }
+    }
+
+    private TypeResolver<?> findResolver(Type javaType) {
+        return typeResolvers.stream()
+                .filter(ele -> ele.isSupport(javaType))
+                .findFirst()
+                .orElseThrow(() ->
+                        new IllegalArgumentException(String.format("Can not find TypeResolver for type '%s'", javaType))
+                );
+    }
+
+    private static IllegalStateException cycleLoading(Type javaType) {
+        return new IllegalStateException(String.format("Will trigger cycle loading when resolve type '%s'", javaType));
+    }
+
+    private class ResolveTask extends RecursiveTask<TypeProvider<?>> {
+
+        private final Type javaType;
+        //仅由执行任务的线程写入，join 之后读取
+        private final List<DependencyProvider> dependencies = new ArrayList<>();
+        //等待其它类型的耗时，仅由执行任务的线程读写
+        private long awaitingTime;
+
+        ResolveTask(Type javaType) {
+            this.javaType = javaType;
+        }
+
+        @Override
+        protected TypeProvider<?> compute() {
+            TypeResolver<?> resolver = findResolver(javaType);
+            long startTime = System.nanoTime();
+
+            try {
+                return strategies.bind(() -> resolver.resolve(javaType, this::dependOn));
+            } finally {
+                if (buildReport != null) {
+                    buildReport.recordType(javaType, resolver.getClass(), System.nanoTime() - startTime - awaitingTime);
+                }
+            }
+        }
+
+        private TypeProvider<?> dependOn(Type dependency) {
+            DependencyProvider provider = new DependencyProvider(javaType, dependency);
+            dependencies.add(provider);
+            submit(dependency);
+
+            return provider;
+        }
+    }
+
+    /**
+     * 依赖类型的占位 TypeProvider，重放时绑定到与串行解析相同的 TypeProvider
+     */
+    private class DependencyProvider implements TypeProvider<Definition> {
+
+        private final Type owner;
+        private final Type javaType;
+
+        private volatile TypeProvider<?> target;
+
+        DependencyProvider(Type owner, Type javaType) {
+            this.owner = owner;
+            this.javaType = javaType;
+        }
+
+        @Override
+        public String getTypeName() {
+            if (javaType instanceof Class && isGraphQLObjectLikeType((Class<?>) javaType)) {
+                return resolveTypeName((Class<?>) javaType);
+            }
+
+            return await(owner, javaType).getTypeName();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Definition<Definition> getDefinition() {
+            return (Definition<Definition>) getTarget().getDefinition();
+        }
+
+        @Override
+        public UnaryOperator<RuntimeWiring.Builder> getWiringOperator() {
+            return getTarget().getWiringOperator();
+        }
+
+        private TypeProvider<?> getTarget() {
+            if (target == null) {
+                throw new IllegalStateException(String.format("Type '%s' is not resolved yet", javaType));
+            }
+
+            return target;
+        }
+    }
+
+    /**
+     * 重放 {@link TypeProviderFactory} 的串行解析过程，不再调用 TypeResolver
+     */
+    private class Replay {
+
+        private final Deque<Type> unprocessedTypes;
+        private final Set<Type> registeredTypes;
+        private final Set<Type> resolvingTypes = new HashSet<>();
+        private final Map<Type, TypeProvider<?>> providerCache = new HashMap<>();
+
+        Replay(Deque<Type> unprocessedTypes, Set<Type> registeredTypes) {
+            this.unprocessedTypes = unprocessedTypes;
+            this.registeredTypes = registeredTypes;
+        }
+
+        List<Map.Entry<Type, TypeProvider<?>>> run() {
+            List<Map.Entry<Type, TypeProvider<?>>> result = new ArrayList<>();
+
+            while (!unprocessedTypes.isEmpty()) {
+                Type javaType = unprocessedTypes.pop();
+                result.add(new AbstractMap.SimpleImmutableEntry<>(javaType, processType(javaType)));
+            }
+
+            return result;
+        }
+
+        private TypeProvider<?> processType(Type javaType) {
+            TypeProvider<?> cached = providerCache.get(javaType);
+
+            if (cached != null) {
+                return cached;
+            }
+
+            if (!resolvingTypes.add(javaType)) {
+                //与串行解析相同，循环依赖时以类型名称代替，但不缓存
+                if (javaType instanceof Class && isGraphQLObjectLikeType((Class<?>) javaType)) {
+                    return new TypeNameProvider((Class<?>) javaType);
+                }
+
+                throw cycleLoading(javaType);
+            }
+
+            ResolveTask task = tasks.get(javaType);
+
+            for (DependencyProvider dependency : task.dependencies) {
+                if (registeredTypes.add(dependency.javaType)) {
+                    unprocessedTypes.push(dependency.javaType);
+                }
+
+                dependency.target = processType(dependency.javaType);
+            }
+
+            resolvingTypes.remove(javaType);
+
+            TypeProvider<?> provider = task.join();
+            providerCache.put(javaType, provider);
+
+            return provider;
+        }
+    }
+}
@@ -8,12 +8,14 @@ import graphql.introspection.Introspection;
 import graphql.language.DirectiveDefinition;
 import graphql.language.DirectiveLocation;
 import graphql.language.InputValueDefinition;
+import graphql.schema.idl.RuntimeWiring;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Target;
 import java.lang.reflect.Type;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,6 +53,11 @@ public class DirectiveTypeResolver extends BasicTypeResolver<DirectiveDefinition
         return () -> definition;
     }
 
+    @Override
+    protected UnaryOperator<RuntimeWiring.Builder> resolveWiring(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
+        return UnaryOperator.identity();
+    }
+
     private List<InputValueDefinition> resolveInputValueDefinitions(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
         return resolveFields(cls)
                 .filter(this::isDirectiveArgument)
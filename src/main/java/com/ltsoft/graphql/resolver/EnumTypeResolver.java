@@ -6,20 +6,33 @@ import com.ltsoft.graphql.provider.EnumFieldValueProvider;
 import com.ltsoft.graphql.provider.EnumTypeProvider;
 import graphql.language.EnumTypeDefinition;
 import graphql.language.EnumValueDefinition;
+import graphql.schema.idl.EnumValuesProvider;
+import graphql.schema.idl.RuntimeWiring;
 
 import java.lang.reflect.Type;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static com.ltsoft.graphql.resolver.ResolveUtil.resolveTypeName;
 
 public class EnumTypeResolver extends BasicTypeResolver<EnumTypeDefinition> {
 
-    private final Map<String, EnumFieldValueProvider> enumValueProviders = new HashMap<>();
+    /**
+     * GraphQL 类型名称到各枚举类型值提供者的映射，按枚举类型区分，使每个类型保留自身的 ordinal 索引
+     */
+    private final ConcurrentMap<String, Map<Class<?>, EnumFieldValueProvider>> enumValueProviders = new ConcurrentHashMap<>();
+
+    /**
+     * Java 类名到最后注册的 GraphQL 类型名称的映射，用于定位重新加载前的同名类型
+     */
+    private final ConcurrentMap<String, String> enumTypeNames = new ConcurrentHashMap<>();
 
     @Override
     protected TypeProvider<EnumTypeDefinition> resolve(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
@@ -46,12 +59,64 @@ public class EnumTypeResolver extends BasicTypeResolver<EnumTypeDefinition> {
                 .sourceLocation(getSourceLocation(cls))
                 .build();
 
+        return new EnumTypeProvider(definition, registerValueProvider(cls));
+    }
+
+    @Override
+    protected UnaryOperator<RuntimeWiring.Builder> resolveWiring(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
+        String typeName = resolveTypeName(cls);
+        EnumValuesProvider valueProvider = registerValueProvider(cls);
+
+        return builder -> builder.type(typeName, type -> type.enumValues(valueProvider));
+    }
+
+    private EnumValuesProvider registerValueProvider(Class<?> cls) {
         EnumFieldValueProvider valueProvider = new EnumFieldValueProvider(cls);
-        EnumFieldValueProvider merged = enumValueProviders.compute(valueProvider.getTypeName(), (key, existed) ->
-                existed == null ? valueProvider : valueProvider.merge(existed)
-        );
+        String typeName = valueProvider.getTypeName();
+
+        //重新构建时类型可能由新的 ClassLoader 加载，移除同名的旧类型，避免继续持有旧的枚举常量。
+        //旧类型只可能注册在其上次的 GraphQL 类型名称与当前名称下，仅清理这两个名称
+        String previousTypeName = enumTypeNames.put(cls.getName(), typeName);
+        if (previousTypeName != null && !previousTypeName.equals(typeName)) {
+            enumValueProviders.computeIfPresent(previousTypeName, (key, providers) -> {
+                Map<Class<?>, EnumFieldValueProvider> current = withoutStale(providers, cls);
+                return current.isEmpty() ? null : current;
+            });
+        }
+
+        enumValueProviders.compute(typeName, (key, providers) -> {
+            Map<Class<?>, EnumFieldValueProvider> current = new LinkedHashMap<>();
+            //名称相同时优先使用最后注册的类型
+            current.put(cls, valueProvider);
+            if (providers != null) {
+                withoutStale(providers, cls).forEach(current::putIfAbsent);
+            }
+            return current;
+        });
+
+        //同名的枚举类型（扩展类型）在获取值时读取全部已注册的类型，不依赖各类型的解析先后
+        return name -> {
+            Map<Class<?>, EnumFieldValueProvider> providers = enumValueProviders.get(typeName);
+            if (providers == null) {
+                return null;
+            }
+
+            for (EnumFieldValueProvider provider : providers.values()) {
+                Object value = provider.getValue(name);
+                if (value != null) {
+                    return value;
+                }
+            }
+
+            return null;
+        };
+    }
+
+    private static Map<Class<?>, EnumFieldValueProvider> withoutStale(Map<Class<?>, EnumFieldValueProvider> providers, Class<?> cls) {
+        Map<Class<?>, EnumFieldValueProvider> current = new LinkedHashMap<>(providers);
+        current.keySet().removeIf(type -> type != cls && type.getName().equals(cls.getName()));
 
-        return new EnumTypeProvider(definition, merged);
+        return current.size() == providers.size() ? providers : current;
     }
 
     @Override
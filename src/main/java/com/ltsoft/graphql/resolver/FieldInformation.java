@@ -10,7 +10,6 @@ import graphql.language.*;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Inherited;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.function.BiFunction;
@@ -75,11 +74,9 @@ public class FieldInformation {
                     );
         }
 
-        //继承注解优先从同名方法上解析（Java 不支持方法上的注解继承），其次从字段上读取
-        return getSomeMethods()
-                .filter(ele -> ele.isAnnotationPresent(annotationClass))
-                .findFirst()
-                .map(ele -> ele.getAnnotation(annotationClass))
+        //继承注解优先从父类型的同签名方法上解析（Java 不支持方法上的注解继承），其次从字段上读取
+        return Optional.ofNullable(method)
+                .map(ele -> ClassMetadata.of(type).getInheritedAnnotation(ele, annotationClass))
                 .orElseGet(() ->
                         Optional.ofNullable(field)
                                 .map(ele -> ele.getAnnotation(annotationClass))
@@ -91,8 +88,12 @@ public class FieldInformation {
     public java.lang.reflect.Type getGenericType() {
         TypeToken<?> typeToken = TypeToken.of(type);
 
-        if (method != null) {
-            return typeToken.resolveType(method.getGenericReturnType()).getType();
+        if (method != null && method.isAnnotationPresent(GraphQLBatch.class)) {
+            //批量方法按单个父对象对应的结果解析字段类型
+            return unwrapBatchType(typeToken.resolveType(method.getGenericReturnType())).getType();
+        } else if (method != null) {
+            //异步方法按 CompletionStage 的泛型参数解析字段类型
+            return unwrapAsyncType(typeToken.resolveType(method.getGenericReturnType())).getType();
         } else {
             return typeToken.resolveType(field.getGenericType()).getType();
         }
@@ -124,26 +125,15 @@ public class FieldInformation {
     }
 
     public boolean isField() {
-        Class<?> parentType = getDeclaringClass();
-        Method[] parentMethods = requireNonNull(parentType).getDeclaredMethods();
-        Field[] parentFields = parentType.getDeclaredFields();
-
-        if (Arrays.stream(parentMethods).anyMatch(ele -> ele.isAnnotationPresent(GraphQLField.class)) || Arrays.stream(parentFields).anyMatch(ele -> ele.isAnnotationPresent(GraphQLField.class))) {
-            if (!isAnnotationPresent(GraphQLField.class)) {
-                return false;
-            }
-        }
+        ClassMetadata parentMetadata = ClassMetadata.of(requireNonNull(getDeclaringClass()));
 
-        if (parentType.isAnnotationPresent(GraphQLFieldFilter.class)) {
-            Class<? extends BiPredicate<Method, Field>> filterType = parentType.getAnnotation(GraphQLFieldFilter.class).value();
-            try {
-                return test(filterType.getConstructor().newInstance());
-            } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-                throw new IllegalArgumentException(String.format("Can not construct '%s' as field filter", filterType), e);
-            }
+        if (parentMetadata.isFieldAnnotated() && !isAnnotationPresent(GraphQLField.class)) {
+            return false;
         }
 
-        return true;
+        BiPredicate<Method, Field> filter = parentMetadata.getFieldFilter();
+
+        return filter == null || test(filter);
     }
 
     @SuppressWarnings("WeakerAccess")
@@ -320,26 +310,7 @@ public class FieldInformation {
     }
 
     private static Field findMappingField(Method method) {
-        return Arrays.stream(method.getDeclaringClass().getDeclaredFields())
-                .filter(ele -> ele.getName().equals(simplifyName(method.getName())))
-                .findFirst()
-                .orElse(null);
-    }
-
-    private Stream<Method> getSomeMethods() {
-        if (method == null) {
-            return Stream.of();
-        }
-
-        //noinspection UnstableApiUsage
-        return TypeToken.of(type).getTypes()
-                .stream()
-                .map(TypeToken::getRawType)
-                .flatMap(cls ->
-                        Arrays.stream(cls.getMethods())
-                                .filter(ele -> ele.getName().equals(method.getName()))
-                                .filter(ele -> Arrays.equals(ele.getParameterTypes(), method.getParameterTypes()))
-                );
+        return ClassMetadata.of(method.getDeclaringClass()).getMappingField(method);
     }
 
     private TypeName resolveMutationType(GraphQLMutationType annotation, Function<java.lang.reflect.Type, TypeProvider<?>> resolver) {
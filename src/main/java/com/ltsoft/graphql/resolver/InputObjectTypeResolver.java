@@ -5,12 +5,15 @@ import com.ltsoft.graphql.TypeProvider;
 import com.ltsoft.graphql.annotations.GraphQLInput;
 import com.ltsoft.graphql.annotations.GraphQLSupperClass;
 import com.ltsoft.graphql.annotations.GraphQLType;
+import com.ltsoft.graphql.impl.BeanArgumentConverter;
 import graphql.language.InputObjectTypeDefinition;
 import graphql.language.InputValueDefinition;
+import graphql.schema.idl.RuntimeWiring;
 
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import static com.ltsoft.graphql.resolver.ResolveUtil.hasGraphQLAnnotation;
 import static com.ltsoft.graphql.resolver.ResolveUtil.resolveTypeName;
@@ -25,6 +28,9 @@ public class InputObjectTypeResolver extends BasicTypeResolver<InputObjectTypeDe
 
     @Override
     protected TypeProvider<InputObjectTypeDefinition> resolve(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
+        //查询时由 BeanArgumentConverter 绑定字段，提前检查 setter 的选择
+        BeanArgumentConverter.checkSetters(cls);
+
         InputObjectTypeDefinition definition = InputObjectTypeDefinition.newInputObjectDefinition()
                 .comments(getComment(cls))
                 .description(getDescription(cls))
@@ -37,6 +43,11 @@ public class InputObjectTypeResolver extends BasicTypeResolver<InputObjectTypeDe
         return () -> definition;
     }
 
+    @Override
+    protected UnaryOperator<RuntimeWiring.Builder> resolveWiring(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
+        return UnaryOperator.identity();
+    }
+
     private List<InputValueDefinition> resolveInputValueDefinitions(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
         return getInputValueDefinitions(cls, this::isInputField, resolver);
     }
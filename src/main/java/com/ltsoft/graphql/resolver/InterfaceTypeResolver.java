@@ -7,10 +7,12 @@ import com.ltsoft.graphql.annotations.GraphQLInterface;
 import com.ltsoft.graphql.provider.InterfaceTypeProvider;
 import graphql.language.InterfaceTypeDefinition;
 import graphql.schema.TypeResolver;
+import graphql.schema.idl.RuntimeWiring;
 
 import java.lang.reflect.Type;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import static com.ltsoft.graphql.resolver.ResolveUtil.hasGraphQLAnnotation;
 import static com.ltsoft.graphql.resolver.ResolveUtil.resolveTypeName;
@@ -31,10 +33,7 @@ public class InterfaceTypeResolver extends BasicTypeResolver<InterfaceTypeDefini
 
     @Override
     protected TypeProvider<InterfaceTypeDefinition> resolve(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
-        TypeResolver typeResolver = Optional.ofNullable(cls.getAnnotation(GraphQLInterface.class))
-                .map(GraphQLInterface::typeResolver)
-                .map(ele -> instanceFactory.provide(ele))
-                .orElse(null);
+        TypeResolver typeResolver = resolveTypeResolver(cls);
 
         InterfaceTypeDefinition definition = InterfaceTypeDefinition.newInterfaceTypeDefinition()
                 .comments(getComment(cls))
@@ -51,4 +50,24 @@ public class InterfaceTypeResolver extends BasicTypeResolver<InterfaceTypeDefini
     private boolean isInterfaceField(FieldInformation info) {
         return isSupport(info.getDeclaringClass());
     }
+
+    @Override
+    protected UnaryOperator<RuntimeWiring.Builder> resolveWiring(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
+        TypeResolver typeResolver = resolveTypeResolver(cls);
+
+        if (typeResolver == null) {
+            return UnaryOperator.identity();
+        }
+
+        String typeName = resolveTypeName(cls);
+
+        return builder -> builder.type(typeName, type -> type.typeResolver(typeResolver));
+    }
+
+    private TypeResolver resolveTypeResolver(Class<?> cls) {
+        return Optional.ofNullable(cls.getAnnotation(GraphQLInterface.class))
+                .map(GraphQLInterface::typeResolver)
+                .map(ele -> instanceFactory.provide(ele))
+                .orElse(null);
+    }
 }
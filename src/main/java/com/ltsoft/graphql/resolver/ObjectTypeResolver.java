@@ -10,6 +10,7 @@ import graphql.language.ObjectTypeDefinition;
 import graphql.language.TypeName;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.TypeRuntimeWiring;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,20 +20,26 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static com.ltsoft.graphql.resolver.ResolveUtil.hasGraphQLAnnotation;
 import static com.ltsoft.graphql.resolver.ResolveUtil.resolveTypeName;
+import static java.util.Objects.requireNonNull;
 
 public class ObjectTypeResolver extends BasicTypeResolver<ObjectTypeDefinition> {
 
     private static Logger LOGGER = LoggerFactory.getLogger(ObjectTypeResolver.class);
 
     private final InstanceFactory instanceFactory;
+    private final ServiceInstanceRegistry serviceInstances;
     private final List<ArgumentProviderFactory<?>> argumentFactories;
-    private final List<ArgumentConverter<?>> argumentConverters;
+    private final ArgumentConversionPlan conversionPlan;
+    private final MethodInvokerFactory invokerFactory;
+    private final Executor executor;
+    private final BatchLoaderStatistics batchStatistics;
 
     @SuppressWarnings("WeakerAccess")
     public ObjectTypeResolver(InstanceFactory instanceFactory) {
@@ -41,13 +48,27 @@ public class ObjectTypeResolver extends BasicTypeResolver<ObjectTypeDefinition>
 
     @SuppressWarnings("WeakerAccess")
     protected ObjectTypeResolver(InstanceFactory instanceFactory, List<ArgumentProviderFactory<?>> argumentFactories, List<ArgumentConverter<?>> argumentConverters) {
+        this(instanceFactory, argumentFactories, argumentConverters, new Options());
+    }
+
+    /**
+     * @param options 获取字段数据的可选配置，未设置的项使用默认值
+     */
+    @SuppressWarnings("WeakerAccess")
+    protected ObjectTypeResolver(InstanceFactory instanceFactory, List<ArgumentProviderFactory<?>> argumentFactories, List<ArgumentConverter<?>> argumentConverters, Options options) {
+        StrategyRegistry strategies = options.strategies != null ? options.strategies : new StrategyRegistry(instanceFactory);
+
         this.instanceFactory = instanceFactory;
+        this.serviceInstances = options.serviceInstances != null ? options.serviceInstances : new ServiceInstanceRegistry(instanceFactory, false);
+        this.invokerFactory = options.invokerFactory;
+        this.executor = options.executor;
+        this.batchStatistics = options.batchStatistics;
         this.argumentFactories = argumentFactories;
-        this.argumentConverters = ImmutableList.<ArgumentConverter<?>>builder()
+        this.conversionPlan = new ArgumentConversionPlan(ImmutableList.<ArgumentConverter<?>>builder()
                 .addAll(argumentConverters)
                 .add(new ArrayArgumentConverter(), new CollectionArgumentConverter())
-                .add(new ScalarTypeArgumentConverter(), new BeanArgumentConverter(instanceFactory))
-                .build();
+                .add(new ScalarTypeArgumentConverter(), new BeanArgumentConverter(instanceFactory, strategies))
+                .build());
     }
 
     @Override
@@ -78,16 +99,24 @@ public class ObjectTypeResolver extends BasicTypeResolver<ObjectTypeDefinition>
 
             @Override
             public UnaryOperator<RuntimeWiring.Builder> getWiringOperator() {
-                return builder -> {
-                    loadDataFetcher(cls, builder);
-                    loadDefaultDataFetcher(cls, builder);
-
-                    return builder;
-                };
+                return resolveWiring(cls, resolver);
             }
         };
     }
 
+    @Override
+    protected UnaryOperator<RuntimeWiring.Builder> resolveWiring(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
+        return builder -> {
+            //同一类型的 DataFetcher 合并为一个 TypeRuntimeWiring 注册
+            TypeRuntimeWiring.Builder typeWiring = TypeRuntimeWiring.newTypeWiring(resolveTypeName(cls));
+
+            loadDataFetcher(cls, typeWiring);
+            loadDefaultDataFetcher(cls, typeWiring);
+
+            return builder.type(typeWiring);
+        };
+    }
+
     private List<graphql.language.Type> resolveInterfaces(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
         //noinspection UnstableApiUsage
         return TypeToken.of(cls).getTypes().stream()
@@ -115,27 +144,33 @@ public class ObjectTypeResolver extends BasicTypeResolver<ObjectTypeDefinition>
         );
     }
 
-    private void loadDataFetcher(Class<?> cls, RuntimeWiring.Builder wiringBuilder) {
+    private void loadDataFetcher(Class<?> cls, TypeRuntimeWiring.Builder wiringBuilder) {
         String parentType = resolveTypeName(cls);
 
-        for (Method method : cls.getMethods()) {
-            if (method.isAnnotationPresent(GraphQLDataFetcher.class)) {
+        for (Method method : ClassMetadata.of(cls).getMethods()) {
+            if (method.isAnnotationPresent(GraphQLBatch.class)) {
+                BatchDataFetcher dataFetcher = new BatchDataFetcher(parentType, serviceInstances.get(cls), method, invokerFactory, executor, batchStatistics);
+
+                wiringBuilder.dataFetcher(dataFetcher.getFieldName(), dataFetcher);
+
+                LOGGER.info("Bind GraphQL Field {}.{} to Java batch method {}#{}", parentType, dataFetcher.getFieldName(), cls.getName(), method.getName());
+            } else if (method.isAnnotationPresent(GraphQLDataFetcher.class)) {
                 List<ArgumentProvider<?>> factories = resolveArgumentFactories(cls, method);
-                ServiceDataFetcher dataFetcher = new ServiceDataFetcher(instanceFactory.provide(cls), method, factories);
+                ServiceDataFetcher dataFetcher = new ServiceDataFetcher(serviceInstances.get(cls), method, factories, invokerFactory, executor);
 
-                wiringBuilder.type(parentType, builder -> builder.dataFetcher(dataFetcher.getFieldName(), dataFetcher));
+                wiringBuilder.dataFetcher(dataFetcher.getFieldName(), dataFetcher);
 
                 LOGGER.info("Bind GraphQL Field {}.{} to Java method {}#{}", parentType, dataFetcher.getFieldName(), cls.getName(), method.getName());
             }
         }
     }
 
-    private void loadDefaultDataFetcher(Class<?> cls, RuntimeWiring.Builder wiringBuilder) {
+    private void loadDefaultDataFetcher(Class<?> cls, TypeRuntimeWiring.Builder wiringBuilder) {
         if (cls.isAnnotationPresent(GraphQLDefaultDataFetcher.class)) {
             String typeName = resolveTypeName(cls);
             DefaultDataFetcherFactory dataFetcherFactory = instanceFactory.provide(cls.getAnnotation(GraphQLDefaultDataFetcher.class).value());
 
-            wiringBuilder.type(typeName, builder -> builder.defaultDataFetcher(dataFetcherFactory.get(typeName)));
+            wiringBuilder.defaultDataFetcher(dataFetcherFactory.get(typeName));
         }
     }
 
@@ -154,13 +189,71 @@ public class ObjectTypeResolver extends BasicTypeResolver<ObjectTypeDefinition>
 
     private ArgumentProvider<?> buildDefaultArgumentProvider(Class<?> cls, Parameter parameter) {
         if (parameter.isAnnotationPresent(GraphQLArgument.class)) {
-            return new GraphQLArgumentProvider(cls, parameter, argumentConverters);
+            return new GraphQLArgumentProvider(cls, parameter, conversionPlan);
         } else if (parameter.isAnnotationPresent(GraphQLEnvironment.class)) {
             return new GraphQLEnvironmentProvider(parameter.getAnnotation(GraphQLEnvironment.class));
         } else if (parameter.getType().equals(DataFetchingEnvironment.class)) {
             return environment -> environment;
         } else {
-            return environment -> null;
+            return ConstantArgumentProvider.empty();
+        }
+    }
+
+    /**
+     * ObjectTypeResolver 的可选配置
+     */
+    public static final class Options {
+
+        private MethodInvokerFactory invokerFactory = new MethodHandleInvokerFactory();
+        private Executor executor;
+        private BatchLoaderStatistics batchStatistics = new BatchLoaderStatistics();
+        private ServiceInstanceRegistry serviceInstances;
+        private StrategyRegistry strategies;
+
+        /**
+         * @param invokerFactory 创建方法调用器的工厂，默认使用 {@link MethodHandleInvokerFactory}
+         * @return 当前配置
+         */
+        public Options invokerFactory(MethodInvokerFactory invokerFactory) {
+            this.invokerFactory = requireNonNull(invokerFactory);
+            return this;
+        }
+
+        /**
+         * @param executor 执行字段数据获取的线程池，默认在调用线程中执行
+         * @return 当前配置
+         */
+        public Options executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param batchStatistics 批量加载的统计信息
+         * @return 当前配置
+         */
+        public Options batchStatistics(BatchLoaderStatistics batchStatistics) {
+            this.batchStatistics = requireNonNull(batchStatistics);
+            return this;
+        }
+
+        /**
+         * @param serviceInstances 服务实例注册表，默认使用由 InstanceFactory 立即创建实例的注册表
+         * @return 当前配置
+         */
+        public Options serviceInstances(ServiceInstanceRegistry serviceInstances) {
+            this.serviceInstances = requireNonNull(serviceInstances);
+            return this;
+        }
+
+        /**
+         * @param strategies 构建 Schema 所用的策略注册表。查询时绑定输入对象在构建之外执行，需要使用与构建时相同的注册表，
+         *                   默认使用仅由 InstanceFactory 创建策略的注册表
+         * @return 当前配置
+         */
+        public Options strategies(StrategyRegistry strategies) {
+            this.strategies = requireNonNull(strategies);
+            return this;
         }
     }
 }
@@ -0,0 +1,136 @@
+package com.ltsoft.graphql.resolver;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 类型解析过程中的反射调用次数与各个缓存的命中情况，在进程内累计。
+ * 通过 {@link #snapshot()} 获取当前计数，两次快照相减即为期间的计数，同时进行的多个构建会计入同一个计数。
+ */
+public final class ResolveStatistics {
+
+    public enum Cache {
+        /**
+         * {@link ClassMetadata} 的类元数据
+         */
+        CLASS_METADATA,
+        /**
+         * {@link ClassMetadata#getInheritedAnnotation(java.lang.reflect.Method, Class)} 的注解查找结果
+         */
+        INHERITED_ANNOTATION,
+        /**
+         * {@link StrategyRegistry} 的策略实例
+         */
+        STRATEGY,
+        /**
+         * {@link TypeProviderFactory} 中已解析的 TypeProvider
+         */
+        TYPE_PROVIDER
+    }
+
+    private static final LongAdder REFLECTION_CALLS = new LongAdder();
+    private static final Map<Cache, LongAdder> LOOKUPS = newCounters();
+    private static final Map<Cache, LongAdder> MISSES = newCounters();
+
+    private final long reflectionCalls;
+    private final Map<Cache, Long> lookups;
+    private final Map<Cache, Long> misses;
+
+    private ResolveStatistics(long reflectionCalls, Map<Cache, Long> lookups, Map<Cache, Long> misses) {
+        this.reflectionCalls = reflectionCalls;
+        this.lookups = lookups;
+        this.misses = misses;
+    }
+
+    /**
+     * @return 当前的累计计数
+     */
+    public static ResolveStatistics snapshot() {
+        Map<Cache, Long> lookups = new EnumMap<>(Cache.class);
+        Map<Cache, Long> misses = new EnumMap<>(Cache.class);
+
+        for (Cache cache : Cache.values()) {
+            lookups.put(cache, LOOKUPS.get(cache).sum());
+            misses.put(cache, MISSES.get(cache).sum());
+        }
+
+        return new ResolveStatistics(REFLECTION_CALLS.sum(), lookups, misses);
+    }
+
+    static void reflectionCall(int count) {
+        REFLECTION_CALLS.add(count);
+    }
+
+    static void lookup(Cache cache) {
+        LOOKUPS.get(cache).increment();
+    }
+
+    static void miss(Cache cache) {
+        MISSES.get(cache).increment();
+    }
+
+    /**
+     * 计算自 earlier 以来的计数
+     *
+     * @param earlier 较早的快照
+     * @return 期间的计数
+     */
+    public ResolveStatistics since(ResolveStatistics earlier) {
+        Map<Cache, Long> lookupDelta = new EnumMap<>(Cache.class);
+        Map<Cache, Long> missDelta = new EnumMap<>(Cache.class);
+
+        for (Cache cache : Cache.values()) {
+            lookupDelta.put(cache, lookups.get(cache) - earlier.lookups.get(cache));
+            missDelta.put(cache, misses.get(cache) - earlier.misses.get(cache));
+        }
+
+        return new ResolveStatistics(reflectionCalls - earlier.reflectionCalls, lookupDelta, missDelta);
+    }
+
+    /**
+     * @return 读取类、方法、字段与注解信息的反射调用次数，不含解析器直接进行的反射调用
+     */
+    public long getReflectionCalls() {
+        return reflectionCalls;
+    }
+
+    public long getLookups(Cache cache) {
+        return lookups.get(cache);
+    }
+
+    public long getMisses(Cache cache) {
+        return misses.get(cache);
+    }
+
+    /**
+     * @param cache 缓存
+     * @return 缓存命中率，没有查找时为 0
+     */
+    public double getHitRate(Cache cache) {
+        long count = getLookups(cache);
+
+        return count == 0 ? 0 : (double) (count - getMisses(cache)) / count;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("reflection calls: ").append(reflectionCalls);
+
+        for (Cache cache : Cache.values()) {
+            builder.append(String.format(", %s: %d/%d (%.1f%%)", cache, getLookups(cache) - getMisses(cache), getLookups(cache), getHitRate(cache) * 100));
+        }
+
+        return builder.toString();
+    }
+
+    private static Map<Cache, LongAdder> newCounters() {
+        Map<Cache, LongAdder> counters = new EnumMap<>(Cache.class);
+
+        for (Cache cache : Cache.values()) {
+            counters.put(cache, new LongAdder());
+        }
+
+        return counters;
+    }
+}
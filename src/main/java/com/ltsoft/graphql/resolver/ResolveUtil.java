@@ -2,7 +2,6 @@ package com.ltsoft.graphql.resolver;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.HashBiMap;
-import com.google.common.reflect.Invokable;
 import com.google.common.reflect.TypeToken;
 import com.ltsoft.graphql.GraphQLDirectiveBuilder;
 import com.ltsoft.graphql.TypeProvider;
@@ -19,6 +18,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.regex.Pattern;
@@ -32,6 +32,18 @@ public final class ResolveUtil {
 
     public static final SourceLocation EMPTY_SOURCE_LOCATION = new SourceLocation(0, 0);
 
+    /**
+     * 声明可被解析的类型的注解，类型上存在其中任一注解时 {@link #canResolve(Class)} 成立
+     */
+    public static final List<Class<? extends Annotation>> TYPE_ANNOTATIONS = Collections.unmodifiableList(Arrays.asList(
+            GraphQLType.class,
+            GraphQLInterface.class,
+            GraphQLInput.class,
+            GraphQLTypeExtension.class,
+            GraphQLUnion.class,
+            GraphQLDirective.class
+    ));
+
     private static final Pattern METHOD_NAME_PREFIX = Pattern.compile("^(is|get|set)([A-Z])");
 
     /**
@@ -95,20 +107,15 @@ public final class ResolveUtil {
     /**
      * 格式化 GraphQL 类型/字段名称
      *
-     * @param formatterType 格式模板
+     * @param formatterType 格式模板，实例由 {@link StrategyRegistry} 提供
      * @param name          类型/字段名称
      * @param javaType      字段所属 Java 类型
      * @return 格式化结果
      */
     static String formatName(Class<? extends BiFunction<String, Class<?>, String>> formatterType, String name, Class<?> javaType) {
-        try {
-            BiFunction<String, Class<?>, String> formatter = formatterType.getConstructor().newInstance();
-            String result = formatter.apply(name, javaType);
+        String result = StrategyRegistry.current().get(formatterType).apply(name, javaType);
 
-            return Strings.isNullOrEmpty(result) ? name : result;
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-            throw new IllegalArgumentException(String.format("Can not construct name formatter '%s'", formatterType.getName()), e);
-        }
+        return Strings.isNullOrEmpty(result) ? name : result;
     }
 
     /**
@@ -160,9 +167,13 @@ public final class ResolveUtil {
      */
     @SuppressWarnings("WeakerAccess")
     public static boolean hasGraphQLAnnotation(Class<?> cls, Class<? extends Annotation> annotationClass) {
-        boolean isExtensionType = cls.isAnnotationPresent(GraphQLTypeExtension.class) && cls.getAnnotation(GraphQLTypeExtension.class).value().isAnnotationPresent(annotationClass);
+        if (cls.isAnnotationPresent(annotationClass)) {
+            return true;
+        }
+
+        GraphQLTypeExtension extension = cls.getAnnotation(GraphQLTypeExtension.class);
 
-        return cls.isAnnotationPresent(annotationClass) || isExtensionType;
+        return extension != null && extension.value().isAnnotationPresent(annotationClass);
     }
 
     private static Map<String, GraphQLScalarType> STANDARD_SCALAR_MAP;
@@ -190,12 +201,14 @@ public final class ResolveUtil {
      * @return 是否支持
      */
     public static boolean canResolve(Class<?> cls) {
-        return cls.isAnnotationPresent(GraphQLType.class)
-                || cls.isAnnotationPresent(GraphQLInterface.class)
-                || cls.isAnnotationPresent(GraphQLInput.class)
-                || cls.isAnnotationPresent(GraphQLTypeExtension.class)
-                || cls.isAnnotationPresent(GraphQLUnion.class)
-                || cls.isAnnotationPresent(GraphQLDirective.class);
+        //仅检查注解，不构建 ClassMetadata：扫描包时每个候选类都会调用
+        for (Class<? extends Annotation> annotationClass : TYPE_ANNOTATIONS) {
+            if (cls.isAnnotationPresent(annotationClass)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
@@ -273,10 +286,43 @@ public final class ResolveUtil {
         }
     }
 
+    /**
+     * 解析异步返回值的实际类型。{@link CompletionStage} 的子类型将被解析为其泛型参数类型，其它类型原样返回。
+     *
+     * @param typeToken 返回值类型
+     * @return 实际类型
+     */
+    @SuppressWarnings({"UnstableApiUsage", "WeakerAccess"})
+    public static TypeToken<?> unwrapAsyncType(TypeToken<?> typeToken) {
+        if (typeToken.isSubtypeOf(CompletionStage.class)) {
+            return typeToken.resolveType(CompletionStage.class.getTypeParameters()[0]);
+        }
+
+        return typeToken;
+    }
+
+    /**
+     * 解析批量方法返回值中单个元素的类型。{@link List} 解析为元素类型，{@link Map} 解析为值类型。
+     *
+     * @param typeToken 批量方法返回值类型
+     * @return 单个元素类型
+     */
+    @SuppressWarnings({"UnstableApiUsage", "WeakerAccess"})
+    public static TypeToken<?> unwrapBatchType(TypeToken<?> typeToken) {
+        TypeToken<?> resultType = unwrapAsyncType(typeToken);
+
+        if (resultType.isSubtypeOf(List.class)) {
+            return resultType.resolveType(List.class.getTypeParameters()[0]);
+        } else if (resultType.isSubtypeOf(Map.class)) {
+            return resultType.resolveType(Map.class.getTypeParameters()[1]);
+        }
+
+        throw new IllegalArgumentException(String.format("Batch method must return List or Map, but found '%s'", typeToken));
+    }
+
     @SuppressWarnings("WeakerAccess")
     public static Stream<FieldInformation> resolveFields(Class<?> cls) {
-        return Arrays.stream(cls.getMethods())
-                .filter(ResolveUtil::isInvokable)
+        return ClassMetadata.of(cls).getInvokableMethods().stream()
                 .map(method -> new FieldInformation(cls, method))
                 .filter(FieldInformation::isField);
     }
@@ -392,11 +438,4 @@ public final class ResolveUtil {
                 .map(ele -> ele.builder(annotation).build())
                 .orElse(null);
     }
-
-    private static boolean isInvokable(Method method) {
-        //noinspection UnstableApiUsage
-        Invokable<?, Object> invokable = Invokable.from(method);
-
-        return !invokable.isStatic() && invokable.isPublic() && !method.isBridge();
-    }
 }
@@ -0,0 +1,94 @@
+package com.ltsoft.graphql.resolver;
+
+import com.ltsoft.graphql.InstanceFactory;
+import com.ltsoft.graphql.ServiceInstance;
+import com.ltsoft.graphql.annotations.GraphQLPooled;
+import com.ltsoft.graphql.annotations.GraphQLRequestScope;
+import com.ltsoft.graphql.impl.PooledServiceInstance;
+import com.ltsoft.graphql.impl.RequestScopedServiceInstance;
+import com.ltsoft.graphql.impl.SharedServiceInstance;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 声明了 {@link com.ltsoft.graphql.annotations.GraphQLDataFetcher} 或 {@link com.ltsoft.graphql.annotations.GraphQLBatch} 方法的类型实例。
+ * <p>
+ * 每个类型的所有方法共享同一个 {@link ServiceInstance}，实例的范围由类型上的注解决定：
+ * <ul>
+ * <li>{@link GraphQLRequestScope}：每个请求创建一个实例</li>
+ * <li>{@link GraphQLPooled}：每次调用从对象池中借出实例，调用完成后归还</li>
+ * <li>未声明时所有请求共享一个实例，仅通过 {@link InstanceFactory} 创建一次；开启延迟创建时在首次获取字段数据时创建，否则在构建 RuntimeWiring 时创建</li>
+ * </ul>
+ * 重新构建时，被替换或不再输出的类型的实例由 {@link TypeProviderFactory} 移除，不再持有旧的实例与 ClassLoader。
+ */
+public final class ServiceInstanceRegistry {
+
+    private final InstanceFactory instanceFactory;
+    private final boolean lazy;
+    private final ConcurrentMap<Class<?>, ServiceInstance> instances = new ConcurrentHashMap<>();
+
+    /**
+     * @param instanceFactory 创建实例的 InstanceFactory
+     * @param lazy            是否在首次获取字段数据时创建实例
+     */
+    public ServiceInstanceRegistry(InstanceFactory instanceFactory, boolean lazy) {
+        this.instanceFactory = requireNonNull(instanceFactory);
+        this.lazy = lazy;
+    }
+
+    /**
+     * 获取类型的实例，不存在时创建
+     *
+     * @param type 类型
+     * @return 该类型所有方法共享的 ServiceInstance
+     */
+    public ServiceInstance get(Class<?> type) {
+        return instances.computeIfAbsent(type, this::create);
+    }
+
+    /**
+     * 移除类型的实例
+     *
+     * @param type 类型
+     */
+    public void remove(Class<?> type) {
+        instances.remove(type);
+    }
+
+    /**
+     * 仅保留指定类型的实例
+     *
+     * @param types 仍在使用的类型
+     */
+    public void retain(Collection<? extends Type> types) {
+        instances.keySet().retainAll(types);
+    }
+
+    Set<Class<?>> getTypes() {
+        return Collections.unmodifiableSet(instances.keySet());
+    }
+
+    private ServiceInstance create(Class<?> type) {
+        GraphQLPooled pooled = type.getAnnotation(GraphQLPooled.class);
+        boolean requestScoped = type.isAnnotationPresent(GraphQLRequestScope.class);
+
+        checkArgument(pooled == null || !requestScoped,
+                String.format("Class '%s' can not be both @GraphQLPooled and @GraphQLRequestScope", type.getName()));
+
+        if (pooled != null) {
+            return new PooledServiceInstance(type, instanceFactory, pooled.maxSize(), pooled.maxWait());
+        } else if (requestScoped) {
+            return new RequestScopedServiceInstance(type, instanceFactory);
+        }
+
+        return lazy ? SharedServiceInstance.lazy(type, instanceFactory) : SharedServiceInstance.of(type, instanceFactory.provide(type));
+    }
+}
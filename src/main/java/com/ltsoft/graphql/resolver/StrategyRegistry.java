@@ -0,0 +1,91 @@
+package com.ltsoft.graphql.resolver;
+
+import com.ltsoft.graphql.InstanceFactory;
+import com.ltsoft.graphql.impl.DefaultInstanceFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * 注解中声明的策略实例，如 {@link com.ltsoft.graphql.annotations.GraphQLFieldName}、
+ * {@link com.ltsoft.graphql.annotations.GraphQLFieldFilter} 与 {@link com.ltsoft.graphql.annotations.GraphQLFieldDescription} 的实现。
+ * <p>
+ * 每个策略类型仅通过 {@link InstanceFactory} 创建一次，之后复用同一个实例；也可以预先注册已创建的实例。
+ * 构建 Schema 时通过 {@link #bind(Supplier)} 绑定到当前线程；在构建之外使用策略的对象（如输入对象的绑定、Interface 的类型解析）
+ * 需要在创建时持有注册表，并在使用时重新绑定。
+ * 当前线程未绑定注册表时（如直接调用 {@link ResolveUtil#resolveFieldName}），使用由 {@link DefaultInstanceFactory} 创建策略的默认注册表。
+ */
+public final class StrategyRegistry {
+
+    private static final ThreadLocal<StrategyRegistry> CURRENT = new ThreadLocal<>();
+
+    private static class DefaultHolder {
+        private static final StrategyRegistry INSTANCE = new StrategyRegistry(new DefaultInstanceFactory());
+    }
+
+    private final InstanceFactory instanceFactory;
+    private final ConcurrentMap<Class<?>, Object> instances = new ConcurrentHashMap<>();
+
+    public StrategyRegistry(InstanceFactory instanceFactory) {
+        this.instanceFactory = requireNonNull(instanceFactory);
+    }
+
+    /**
+     * @return 绑定到当前线程的注册表，未绑定时返回默认注册表
+     */
+    public static StrategyRegistry current() {
+        StrategyRegistry registry = CURRENT.get();
+
+        return registry != null ? registry : DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * 注册已创建的策略实例，替换同一类型已有的实例
+     *
+     * @param instance 策略实例
+     */
+    public void register(Object instance) {
+        instances.put(instance.getClass(), instance);
+    }
+
+    /**
+     * 获取策略实例，不存在时通过 {@link InstanceFactory} 创建
+     *
+     * @param type 策略类型
+     * @param <T>  策略类型
+     * @return 策略实例
+     */
+    public <T> T get(Class<T> type) {
+        ResolveStatistics.lookup(ResolveStatistics.Cache.STRATEGY);
+
+        return type.cast(instances.computeIfAbsent(type, key -> {
+            ResolveStatistics.miss(ResolveStatistics.Cache.STRATEGY);
+            return instanceFactory.provide(key);
+        }));
+    }
+
+    /**
+     * 在当前线程绑定该注册表后执行，执行完成后恢复原有的绑定
+     *
+     * @param action 需要执行的操作
+     * @param <T>    返回值类型
+     * @return 操作的返回值
+     */
+    public <T> T bind(Supplier<T> action) {
+        StrategyRegistry previous = CURRENT.get();
+        CURRENT.set(this);
+
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
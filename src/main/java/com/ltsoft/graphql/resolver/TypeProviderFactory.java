@@ -1,44 +1,73 @@
 package com.ltsoft.graphql.resolver;
 
 import com.ltsoft.graphql.*;
+import com.ltsoft.graphql.impl.BatchLoaderStatistics;
+import com.ltsoft.graphql.impl.BuildReport;
 import com.ltsoft.graphql.impl.DefaultInstanceFactory;
+import com.ltsoft.graphql.impl.GeneratedMethodInvokerFactory;
 import com.ltsoft.graphql.provider.TypeNameProvider;
 import com.ltsoft.graphql.scalars.ScalarTypeRepository;
 import graphql.language.Definition;
+import graphql.language.NamedNode;
 import graphql.language.ScalarTypeDefinition;
 import graphql.schema.GraphQLScalarType;
+import graphql.schema.idl.RuntimeWiring;
 
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static com.google.common.base.Preconditions.checkState;
 import static com.ltsoft.graphql.resolver.ResolveUtil.canResolve;
 import static com.ltsoft.graphql.resolver.ResolveUtil.isGraphQLObjectLikeType;
+import static com.ltsoft.graphql.resolver.ResolveUtil.resolveTypeName;
 import static java.util.Objects.requireNonNull;
 
 public final class TypeProviderFactory {
 
-    private final Stack<Type> unprocessedTypes = new Stack<>();
+    private final Set<Type> rootTypes = new LinkedHashSet<>();
+    private final Deque<Type> unprocessedTypes = new ArrayDeque<>();
     private final Set<Type> registeredTypes = new HashSet<>();
     private final Set<Type> resolvingTypes = new HashSet<>();
     private final Map<Type, TypeProvider<?>> providerCache = new HashMap<>();
+    private final Map<Type, String> resolvedTypeNames = new LinkedHashMap<>();
+    //类型解析时依赖的类型，按 TypeResolver 的查询顺序排列
+    private final Map<Type, List<Type>> dependencies = new HashMap<>();
+    //重新构建时可以复用的 TypeProvider
+    private final Map<Type, TypeProvider<?>> reusableProviders = new HashMap<>();
+    //串行解析时正在解析的类型中，依赖类型的解析耗时，用于计算各类型自身的解析耗时
+    private final Deque<long[]> nestedResolvingTimes = new ArrayDeque<>();
 
     private final List<TypeResolver<?>> typeResolvers = new ArrayList<>();
 
     private List<ArgumentProviderFactory<?>> argumentProviderFactories = Collections.emptyList();
     private List<ArgumentConverter<?>> argumentConverters = Collections.emptyList();
     private InstanceFactory instanceFactory = new DefaultInstanceFactory();
+    private ServiceInstanceRegistry serviceInstances = new ServiceInstanceRegistry(instanceFactory, false);
+    private boolean rebuilding;
+    private StrategyRegistry strategies;
+    private MethodInvokerFactory methodInvokerFactory = new GeneratedMethodInvokerFactory();
+    private Executor dataFetcherExecutor;
+    private BatchLoaderStatistics batchLoaderStatistics = new BatchLoaderStatistics();
+    private ForkJoinPool typeResolvingPool;
+    private BuildReport buildReport;
+    private boolean resolved;
 
     public void addClass(Class<?> type) {
         if (canResolve(type)) {
-            addType(type);
+            addRootType(type);
         }
     }
 
     public void addScalar(GraphQLScalarType scalarType, Class<?> javaType) {
         ScalarTypeRepository.getInstance().register(javaType, scalarType);
-        addType(javaType);
+        addRootType(javaType);
     }
 
     public void addTypeResolvers(TypeResolver<?>... resolvers) {
@@ -54,107 +83,413 @@ public final class TypeProviderFactory {
     }
 
     public void setInstanceFactory(InstanceFactory instanceFactory) {
+        setInstanceFactory(instanceFactory, false);
+    }
+
+    /**
+     * 设置创建实例的 InstanceFactory。同一类型的所有 DataFetcher 共享一个实例，
+     * 开启延迟创建时，实例在首次获取字段数据时创建，否则在构建 RuntimeWiring 时创建。
+     *
+     * @param instanceFactory 创建实例的 InstanceFactory
+     * @param lazy            是否延迟创建 DataFetcher 所属的实例
+     */
+    public void setInstanceFactory(InstanceFactory instanceFactory, boolean lazy) {
         this.instanceFactory = requireNonNull(instanceFactory);
+        this.serviceInstances = new ServiceInstanceRegistry(instanceFactory, lazy);
+    }
+
+    /**
+     * 设置解析类型时使用的策略注册表，未设置时使用仅由 InstanceFactory 创建策略的注册表。
+     * 解析类型与生成 {@link ObjectTypeResolver} 的输入对象绑定时都会使用该注册表。
+     *
+     * @param strategies 策略注册表
+     */
+    public void setStrategyRegistry(StrategyRegistry strategies) {
+        this.strategies = requireNonNull(strategies);
+    }
+
+    public void setMethodInvokerFactory(MethodInvokerFactory methodInvokerFactory) {
+        this.methodInvokerFactory = requireNonNull(methodInvokerFactory);
+    }
+
+    public void setDataFetcherExecutor(Executor dataFetcherExecutor) {
+        this.dataFetcherExecutor = dataFetcherExecutor;
+    }
+
+    public void setBatchLoaderStatistics(BatchLoaderStatistics batchLoaderStatistics) {
+        this.batchLoaderStatistics = requireNonNull(batchLoaderStatistics);
+    }
+
+    /**
+     * 设置并行解析类型的 ForkJoinPool，为 null 时在调用线程中逐个解析。
+     * 并行解析时 TypeResolver 与 InstanceFactory 会被多个线程同时调用，输出顺序与串行解析一致。
+     *
+     * @param typeResolvingPool 解析类型的 ForkJoinPool
+     */
+    public void setTypeResolvingPool(ForkJoinPool typeResolvingPool) {
+        this.typeResolvingPool = typeResolvingPool;
+    }
+
+    /**
+     * 设置记录类型解析耗时的 BuildReport，为 null 时不记录
+     *
+     * @param buildReport 构建报告
+     */
+    public void setBuildReport(BuildReport buildReport) {
+        this.buildReport = buildReport;
     }
 
     Stream<TypeProvider<?>> getProviders(Collection<TypeResolver<?>> resolvers) {
         typeResolvers.addAll(resolvers);
+        resolved = true;
 
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new TypeProviderIterator(), Spliterator.IMMUTABLE), false)
-                .filter(Objects::nonNull);
+        return toProviderStream(typeResolvingPool == null ? new TypeProviderIterator() : resolveConcurrently());
     }
 
+    /**
+     * 输出全部类型。类型在读取 Stream 时解析，解析时绑定 {@link #setStrategyRegistry(StrategyRegistry)} 设置的注册表
+     *
+     * @return 全部 TypeProvider
+     */
     public Stream<TypeProvider<?>> getProviders() {
         return getProviders(initializeDefaultResolvers());
     }
 
+    /**
+     * 部分类型变更后重新输出全部类型，仅重新解析变更的类型与依赖它们的类型，其它类型复用上次解析的 TypeProvider。
+     * 输出的类型与顺序和使用新的 TypeProviderFactory 完整解析一致，不再被依赖的类型不会输出。
+     * <p>
+     * 变更的类型与已解析的类型同名但不是同一个 Class 时（如使用新的 ClassLoader 重新加载），视为替换该类型；
+     * 尚未解析过的类型作为新的类型加入。重新解析总是在调用线程中逐个进行。
+     * 上次输出的 Stream 未读取完毕（如解析失败）时，已解析的类型仍然可以复用。
+     *
+     * @param changedClasses 变更的类型
+     * @return 全部 TypeProvider
+     */
+    public Stream<TypeProvider<?>> rebuildProviders(Collection<Class<?>> changedClasses) {
+        checkState(resolved, "Types must be resolved by getProviders() before rebuild");
+
+        if (!unprocessedTypes.isEmpty() || !resolvingTypes.isEmpty()) {
+            //上次输出未完成，循环依赖时临时使用的 TypeNameProvider 不能复用
+            reusableProviders.forEach(providerCache::putIfAbsent);
+            providerCache.values().removeIf(provider -> provider instanceof TypeNameProvider);
+            unprocessedTypes.clear();
+            resolvingTypes.clear();
+        }
+
+        Set<Type> changedTypes = new HashSet<>();
+
+        for (Class<?> cls : changedClasses) {
+            Optional<Type> replaced = providerCache.keySet().stream()
+                    .filter(type -> type instanceof Class && type != cls && ((Class<?>) type).getName().equals(cls.getName()))
+                    .findFirst();
+
+            if (replaced.isPresent()) {
+                replaceRootType(replaced.get(), cls);
+                serviceInstances.remove((Class<?>) replaced.get());
+                changedTypes.add(replaced.get());
+            } else if (providerCache.containsKey(cls)) {
+                changedTypes.add(cls);
+            } else if (canResolve(cls)) {
+                rootTypes.add(cls);
+            }
+        }
+
+        //只保留上次输出的类型，已不再被依赖的类型不影响失效范围
+        dependencies.keySet().retainAll(providerCache.keySet());
+        Set<Type> invalidTypes = collectDependents(changedTypes);
+
+        reusableProviders.clear();
+        providerCache.forEach((type, provider) -> {
+            if (!invalidTypes.contains(type)) {
+                reusableProviders.put(type, provider);
+            }
+        });
+        dependencies.keySet().removeAll(invalidTypes);
+
+        providerCache.clear();
+        registeredTypes.clear();
+        resolvedTypeNames.clear();
+        rootTypes.forEach(this::addType);
+        rebuilding = true;
+
+        return toProviderStream(new TypeProviderIterator());
+    }
+
+    private Stream<TypeProvider<?>> toProviderStream(Iterator<Map.Entry<Type, TypeProvider<?>>> providers) {
+        Set<String> registeredScalarType = new HashSet<>();
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(providers, Spliterator.IMMUTABLE), false)
+                .peek(entry -> resolvedTypeNames.put(entry.getKey(), getTypeName(entry.getValue())))
+                .map(Map.Entry::getValue)
+                .filter(provider -> isFirstDefinition(provider, registeredScalarType));
+    }
+
+    private Iterator<Map.Entry<Type, TypeProvider<?>>> resolveConcurrently() {
+        ConcurrentTypeResolution resolution = new ConcurrentTypeResolution(typeResolvers, getStrategyRegistry(), typeResolvingPool, buildReport);
+        List<Map.Entry<Type, TypeProvider<?>>> result = getStrategyRegistry().bind(() -> resolution.resolve(unprocessedTypes, registeredTypes));
+
+        //记录解析结果，供 rebuildProviders 复用
+        result.forEach(entry -> providerCache.put(entry.getKey(), entry.getValue()));
+        dependencies.putAll(resolution.getDependencies());
+
+        return result.iterator();
+    }
+
+    /**
+     * 收集变更的类型，以及直接或间接依赖它们的类型
+     */
+    private Set<Type> collectDependents(Set<Type> changedTypes) {
+        Map<Type, Set<Type>> dependents = new HashMap<>();
+        dependencies.forEach((type, list) -> list.forEach(dependency -> dependents.computeIfAbsent(dependency, key -> new HashSet<>()).add(type)));
+
+        Set<Type> result = new HashSet<>();
+        Deque<Type> unprocessed = new ArrayDeque<>(changedTypes);
+
+        while (!unprocessed.isEmpty()) {
+            Type type = unprocessed.pop();
+
+            if (result.add(type)) {
+                unprocessed.addAll(dependents.getOrDefault(type, Collections.emptySet()));
+            }
+        }
+
+        return result;
+    }
+
+    private void replaceRootType(Type replaced, Class<?> cls) {
+        if (rootTypes.contains(replaced)) {
+            List<Type> types = new ArrayList<>(rootTypes);
+            types.set(types.indexOf(replaced), cls);
+
+            rootTypes.clear();
+            rootTypes.addAll(types);
+        }
+    }
+
+    ServiceInstanceRegistry getServiceInstances() {
+        return serviceInstances;
+    }
+
+    /**
+     * 获取 {@link #getProviders()} 已输出的 Java 类型及其 GraphQL 类型名称，按输出顺序排列。
+     * 不是具名类型的 Definition，其名称为 null。
+     *
+     * @return Java 类型与 GraphQL 类型名称
+     */
+    public Map<Type, String> getResolvedTypeNames() {
+        return Collections.unmodifiableMap(resolvedTypeNames);
+    }
+
+    /**
+     * 仅解析 Java 类型的 RuntimeWiring，不解析 Definition，用于从 Schema 快照中恢复。
+     * 依赖类型的名称从 typeNames 中读取，不会触发依赖类型的解析。
+     *
+     * @param typeNames 全部已解析的 Java 类型及其 GraphQL 类型名称，按 {@link #getResolvedTypeNames()} 的顺序排列
+     * @return RuntimeWiring 处理器
+     */
+    public List<UnaryOperator<RuntimeWiring.Builder>> getWiringOperators(Map<Type, String> typeNames) {
+        typeResolvers.addAll(initializeDefaultResolvers());
+
+        Function<Type, TypeProvider<?>> resolver = javaType -> new SnapshotTypeNameProvider(javaType, typeNames.get(javaType));
+
+        return getStrategyRegistry().bind(() -> typeNames.keySet().stream()
+                .map(javaType -> findResolver(javaType).resolveWiring(javaType, resolver))
+                .collect(Collectors.toList()));
+    }
+
     private List<TypeResolver<?>> initializeDefaultResolvers() {
+        StrategyRegistry strategies = getStrategyRegistry();
         List<TypeResolver<?>> resolvers = new ArrayList<>();
         resolvers.add(new DirectiveTypeResolver());
         resolvers.add(new EnumTypeResolver());
         resolvers.add(new InputObjectTypeResolver());
         resolvers.add(new InterfaceTypeResolver(instanceFactory));
-        resolvers.add(new ObjectTypeResolver(instanceFactory, argumentProviderFactories, argumentConverters));
+        resolvers.add(new ObjectTypeResolver(instanceFactory, argumentProviderFactories, argumentConverters, new ObjectTypeResolver.Options()
+                .invokerFactory(methodInvokerFactory)
+                .executor(dataFetcherExecutor)
+                .batchStatistics(batchLoaderStatistics)
+                .serviceInstances(serviceInstances)
+                .strategies(strategies)));
         resolvers.add(new ScalarTypeResolver());
         resolvers.add(new UnionTypeResolver(instanceFactory));
         return resolvers;
     }
 
+    private StrategyRegistry getStrategyRegistry() {
+        if (strategies == null) {
+            strategies = new StrategyRegistry(instanceFactory);
+        }
+
+        return strategies;
+    }
+
+    private void addRootType(Type javaType) {
+        rootTypes.add(javaType);
+        addType(javaType);
+    }
+
     private void addType(Type javaType) {
         if (registeredTypes.add(javaType)) {
-            unprocessedTypes.add(javaType);
+            unprocessedTypes.push(javaType);
         }
     }
 
     private TypeProvider<?> processType(Type javaType) {
+        ResolveStatistics.lookup(ResolveStatistics.Cache.TYPE_PROVIDER);
+
         if (providerCache.containsKey(javaType)) {
             return providerCache.get(javaType);
         }
 
-        TypeProvider<?> provider = typeResolvers.stream()
+        ResolveStatistics.miss(ResolveStatistics.Cache.TYPE_PROVIDER);
+
+        TypeProvider<?> reusable = reusableProviders.get(javaType);
+        TypeProvider<?> provider = reusable != null
+                ? replayProvider(javaType, reusable)
+                : resolveProvider(findResolver(javaType), javaType);
+
+        providerCache.put(javaType, provider);
+
+        return provider;
+    }
+
+    private TypeResolver<?> findResolver(Type javaType) {
+        return typeResolvers.stream()
                 .filter(ele -> ele.isSupport(javaType))
                 .findFirst()
-                .map(ele -> resolveProvider(ele, javaType))
                 .orElseThrow(() ->
                         new IllegalArgumentException(String.format("Can not find TypeResolver for type '%s'", javaType))
                 );
-
-        providerCache.put(javaType, provider);
-
-        return provider;
     }
 
     private TypeProvider<?> resolveProvider(TypeResolver<?> ele, Type type) {
         TypeProvider<?> provider = null;
 
         if (resolvingTypes.add(type)) {
+            List<Type> typeDependencies = new ArrayList<>();
+            long startTime = System.nanoTime();
+            nestedResolvingTimes.push(new long[1]);
+
+            try {
+                provider = ele.resolve(type, dependency -> {
+                    typeDependencies.add(dependency);
+                    return resolveAndRegister(dependency);
+                });
+            } finally {
+                long elapsed = System.nanoTime() - startTime;
+                long nested = nestedResolvingTimes.pop()[0];
+
+                if (!nestedResolvingTimes.isEmpty()) {
+                    nestedResolvingTimes.peek()[0] += elapsed;
+                }
 
-            provider = ele.resolve(type, this::resolveAndRegister);
+                if (buildReport != null) {
+                    buildReport.recordType(type, ele.getClass(), elapsed - nested);
+                }
+            }
 
+            dependencies.put(type, typeDependencies);
             resolvingTypes.remove(type);
-        } else if (type instanceof Class) {
-            Class<?> cls = (Class<?>) type;
-
-            if (isGraphQLObjectLikeType(cls)) {
-                provider = new TypeNameProvider(cls);
-            }
+        } else {
+            provider = cycleProvider(type);
         }
 
-        if (provider == null) {
-            throw new IllegalStateException(String.format("Will trigger cycle loading when resolve type '%s'", type));
+        return provider;
+    }
+
+    /**
+     * 复用上次解析的 TypeProvider，按解析时的顺序重新注册其依赖的类型，保持与完整解析相同的输出
+     */
+    private TypeProvider<?> replayProvider(Type type, TypeProvider<?> provider) {
+        if (!resolvingTypes.add(type)) {
+            return cycleProvider(type);
         }
 
+        dependencies.getOrDefault(type, Collections.emptyList()).forEach(this::resolveAndRegister);
+        resolvingTypes.remove(type);
+
         return provider;
     }
 
+    private TypeProvider<?> cycleProvider(Type type) {
+        if (type instanceof Class && isGraphQLObjectLikeType((Class<?>) type)) {
+            return new TypeNameProvider((Class<?>) type);
+        }
+
+        throw new IllegalStateException(String.format("Will trigger cycle loading when resolve type '%s'", type));
+    }
+
     private TypeProvider<?> resolveAndRegister(Type javaType) {
         addType(javaType);
         return processType(javaType);
     }
 
-    private class TypeProviderIterator implements Iterator<TypeProvider<?>> {
+    private static String getTypeName(TypeProvider<?> provider) {
+        return provider.getDefinition() instanceof NamedNode ? provider.getTypeName() : null;
+    }
 
-        Set<String> registeredScalarType = new HashSet<>();
+    private static boolean isFirstDefinition(TypeProvider<?> provider, Set<String> registeredScalarType) {
+        Definition<?> definition = provider.getDefinition();
+
+        //存在多个 Java 类型解析为同一个 Scalar 类型的情况，需要在迭代时忽略掉
+        return !(definition instanceof ScalarTypeDefinition) || registeredScalarType.add(((ScalarTypeDefinition) definition).getName());
+    }
+
+    private class TypeProviderIterator implements Iterator<Map.Entry<Type, TypeProvider<?>>> {
 
         @Override
         public boolean hasNext() {
-            return !unprocessedTypes.isEmpty();
+            if (!unprocessedTypes.isEmpty()) {
+                return true;
+            }
+
+            if (rebuilding) {
+                //重新构建完成后，移除不再输出的类型的实例
+                rebuilding = false;
+                serviceInstances.retain(providerCache.keySet());
+            }
+
+            return false;
         }
 
         @Override
-        public TypeProvider<?> next() {
-            TypeProvider<?> provider = processType(unprocessedTypes.pop());
-
-            Definition<?> definition = provider.getDefinition();
-            if (definition instanceof ScalarTypeDefinition) {
-                //存在多个 Java 类型解析为同一个 Scalar 类型的情况，需要在迭代时忽略掉，由后面的空值过滤器去除
-                if (!registeredScalarType.add(((ScalarTypeDefinition) definition).getName())) {
-                    return null;
-                }
+        public Map.Entry<Type, TypeProvider<?>> next() {
+            Type javaType = unprocessedTypes.pop();
+            return new AbstractMap.SimpleImmutableEntry<>(javaType, getStrategyRegistry().bind(() -> processType(javaType)));
+        }
+
+    }
+
+    /**
+     * 从快照恢复时，依赖类型仅提供类型名称
+     */
+    private static class SnapshotTypeNameProvider implements TypeProvider<Definition> {
+
+        private final Type javaType;
+        private final String typeName;
+
+        SnapshotTypeNameProvider(Type javaType, String typeName) {
+            this.javaType = javaType;
+            this.typeName = typeName;
+        }
+
+        @Override
+        public String getTypeName() {
+            if (typeName != null) {
+                return typeName;
+            }
+
+            if (javaType instanceof Class && isGraphQLObjectLikeType((Class<?>) javaType)) {
+                return resolveTypeName((Class<?>) javaType);
             }
 
-            return provider;
+            throw new IllegalStateException(String.format("Type '%s' is not found in snapshot", javaType));
         }
 
+        @Override
+        public Definition<Definition> getDefinition() {
+            throw new IllegalStateException(String.format("Definition of type '%s' is not available when restoring from snapshot", javaType));
+        }
     }
 }
@@ -8,12 +8,14 @@ import com.ltsoft.graphql.provider.UnionTypeProvider;
 import graphql.language.TypeName;
 import graphql.language.UnionTypeDefinition;
 import graphql.schema.TypeResolver;
+import graphql.schema.idl.RuntimeWiring;
 
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static com.ltsoft.graphql.resolver.ResolveUtil.resolveTypeName;
@@ -36,10 +38,7 @@ public class UnionTypeResolver extends BasicTypeResolver<UnionTypeDefinition> {
 
     @Override
     protected TypeProvider<UnionTypeDefinition> resolve(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
-        TypeResolver typeResolver = Optional.ofNullable(cls.getAnnotation(GraphQLUnion.class))
-                .map(GraphQLUnion::typeResolver)
-                .map(ele -> instanceFactory.provide(ele))
-                .orElse(null);
+        TypeResolver typeResolver = resolveTypeResolver(cls);
 
         List<graphql.language.Type> possibleTypes = Arrays.stream(cls.getAnnotation(GraphQLUnion.class).possibleTypes())
                 .map(resolver::apply)
@@ -58,4 +57,24 @@ public class UnionTypeResolver extends BasicTypeResolver<UnionTypeDefinition> {
 
         return new UnionTypeProvider(definition, typeResolver);
     }
+
+    @Override
+    protected UnaryOperator<RuntimeWiring.Builder> resolveWiring(Class<?> cls, Function<Type, TypeProvider<?>> resolver) {
+        TypeResolver typeResolver = resolveTypeResolver(cls);
+
+        if (typeResolver == null) {
+            return UnaryOperator.identity();
+        }
+
+        String typeName = resolveTypeName(cls);
+
+        return builder -> builder.type(typeName, type -> type.typeResolver(typeResolver));
+    }
+
+    private TypeResolver resolveTypeResolver(Class<?> cls) {
+        return Optional.ofNullable(cls.getAnnotation(GraphQLUnion.class))
+                .map(GraphQLUnion::typeResolver)
+                .map(ele -> instanceFactory.provide(ele))
+                .orElse(null);
+    }
 }
@@ -1,8 +1,7 @@
 package com.ltsoft.graphql.scalars;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.reflect.TypeToken;
 import graphql.Scalars;
 import graphql.scalars.ExtendedScalars;
 import graphql.schema.GraphQLScalarType;
@@ -13,10 +12,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.time.*;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 public final class ScalarTypeRepository {
 
@@ -27,6 +23,7 @@ public final class ScalarTypeRepository {
     static {
         PRIMITIVE_TYPE_MAP.put(boolean.class, Boolean.class);
         PRIMITIVE_TYPE_MAP.put(byte.class, Byte.class);
+        PRIMITIVE_TYPE_MAP.put(char.class, Character.class);
         PRIMITIVE_TYPE_MAP.put(short.class, Short.class);
         PRIMITIVE_TYPE_MAP.put(int.class, Integer.class);
         PRIMITIVE_TYPE_MAP.put(long.class, Long.class);
@@ -42,13 +39,15 @@ public final class ScalarTypeRepository {
         return SingletonHolder.INSTANCE;
     }
 
-    private LoadingCache<Class<?>, Optional<GraphQLScalarType>> MAPPING_CACHE = CacheBuilder.newBuilder()
-            .build(new ClassGraphQLScalarTypeCacheLoader());
+    /**
+     * 当前的映射快照。注册时复制并替换快照，查询时无需加锁
+     */
+    private volatile Snapshot snapshot = new Snapshot(ImmutableMap.of(), ImmutableMap.of());
 
-    private Map<String, GraphQLScalarType> scalarTypeMap = new HashMap<>();
-    private Map<Class<?>, GraphQLScalarType> javaTypeMap = new HashMap<>();
-
-    private ScalarTypeRepository() {
+    /**
+     * 创建包含默认标量类型的独立实例，全局共享的实例通过 {@link #getInstance()} 获取
+     */
+    ScalarTypeRepository() {
         register(Map.class, ExtendedScalars.Object);
         register(LocalDate.class, ExtendedScalars.Date);
         register(OffsetDateTime.class, ExtendedScalars.DateTime);
@@ -79,46 +78,76 @@ public final class ScalarTypeRepository {
         mapping(BigDecimal.class, Scalars.GraphQLBigDecimal);
     }
 
-    void register(GraphQLScalarType... types) {
+    synchronized void register(GraphQLScalarType... types) {
+        Map<String, GraphQLScalarType> scalarTypeMap = new LinkedHashMap<>(snapshot.scalarTypeMap);
+
         for (GraphQLScalarType type : types) {
             if (scalarTypeMap.putIfAbsent(type.getName(), type) != null) {
                 LOGGER.warn("GraphQLScalarType {} has been registered", type.getName());
             }
         }
+
+        snapshot = new Snapshot(scalarTypeMap, snapshot.javaTypeMap);
     }
 
-    private void mapping(Class<?> sourceType, GraphQLScalarType scalarType) {
+    private synchronized void mapping(Class<?> sourceType, GraphQLScalarType scalarType) {
+        Map<Class<?>, GraphQLScalarType> javaTypeMap = new LinkedHashMap<>(snapshot.javaTypeMap);
         javaTypeMap.put(sourceType, scalarType);
+
+        snapshot = new Snapshot(snapshot.scalarTypeMap, javaTypeMap);
     }
 
     @SuppressWarnings("UnusedReturnValue")
-    public ScalarTypeRepository register(Class<?> sourceType, GraphQLScalarType scalarType) {
+    public synchronized ScalarTypeRepository register(Class<?> sourceType, GraphQLScalarType scalarType) {
         mapping(sourceType, scalarType);
         register(scalarType);
 
-        MAPPING_CACHE.invalidate(sourceType);
         return this;
     }
 
     public Optional<GraphQLScalarType> getScalarType(String name) {
-        return Optional.ofNullable(scalarTypeMap.get(name));
+        return Optional.ofNullable(snapshot.scalarTypeMap.get(name));
     }
 
+    /**
+     * 查找 Java 类型对应的 GraphQLScalarType。
+     * 类型本身未注册时，按 {@link TypeToken#getTypes()} 的顺序（子类型先于父类型）使用最具体的已注册父类型。
+     *
+     * @param cls Java 类型
+     * @return 对应的 GraphQLScalarType
+     */
     public Optional<GraphQLScalarType> findMappingScalarType(Class<?> cls) {
-        return MAPPING_CACHE.getUnchecked(cls.isPrimitive() ? PRIMITIVE_TYPE_MAP.get(cls) : cls);
+        return snapshot.mappings.get(cls.isPrimitive() ? PRIMITIVE_TYPE_MAP.get(cls) : cls);
     }
 
-    private class ClassGraphQLScalarTypeCacheLoader extends CacheLoader<Class<?>, Optional<GraphQLScalarType>> {
-        @Override
-        public Optional<GraphQLScalarType> load(@SuppressWarnings("NullableProblems") Class<?> cls) {
-            if (javaTypeMap.containsKey(cls)) {
-                return Optional.of(javaTypeMap.get(cls));
+    private static final class Snapshot {
+
+        private final Map<String, GraphQLScalarType> scalarTypeMap;
+        private final Map<Class<?>, GraphQLScalarType> javaTypeMap;
+        private final ClassValue<Optional<GraphQLScalarType>> mappings = new ClassValue<Optional<GraphQLScalarType>>() {
+            @Override
+            protected Optional<GraphQLScalarType> computeValue(Class<?> type) {
+                return resolve(type);
+            }
+        };
+
+        Snapshot(Map<String, GraphQLScalarType> scalarTypeMap, Map<Class<?>, GraphQLScalarType> javaTypeMap) {
+            this.scalarTypeMap = ImmutableMap.copyOf(scalarTypeMap);
+            this.javaTypeMap = ImmutableMap.copyOf(javaTypeMap);
+        }
+
+        @SuppressWarnings("UnstableApiUsage")
+        private Optional<GraphQLScalarType> resolve(Class<?> cls) {
+            GraphQLScalarType scalarType = javaTypeMap.get(cls);
+
+            if (scalarType != null) {
+                return Optional.of(scalarType);
             }
 
-            return javaTypeMap.keySet().stream()
-                    .filter(parentCls -> parentCls.isAssignableFrom(cls))
-                    .findFirst()
-                    .map(parentType -> javaTypeMap.get(parentType));
+            return TypeToken.of(cls).getTypes().rawTypes().stream()
+                    .map(javaTypeMap::get)
+                    .filter(Objects::nonNull)
+                    .findFirst();
         }
     }
 }
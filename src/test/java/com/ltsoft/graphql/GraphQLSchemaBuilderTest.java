@@ -1,19 +1,68 @@
 package com.ltsoft.graphql;
 
+import com.ltsoft.graphql.annotations.GraphQLArgument;
+import com.ltsoft.graphql.annotations.GraphQLDataFetcher;
+import com.ltsoft.graphql.annotations.GraphQLFieldName;
+import com.ltsoft.graphql.annotations.GraphQLInput;
+import com.ltsoft.graphql.annotations.GraphQLName;
+import com.ltsoft.graphql.annotations.GraphQLPooled;
+import com.ltsoft.graphql.annotations.GraphQLRequestScope;
+import com.ltsoft.graphql.annotations.GraphQLType;
 import com.ltsoft.graphql.example.RootSchemaService;
 import com.ltsoft.graphql.example.custom.CustomTypeResolver;
+import com.ltsoft.graphql.example.object.AsyncService;
+import com.ltsoft.graphql.example.object.BatchObject;
+import com.ltsoft.graphql.example.object.GenericService;
+import com.ltsoft.graphql.example.object.GenericServiceImpl;
+import com.ltsoft.graphql.example.object.MutationService;
 import com.ltsoft.graphql.example.scalar.HelloObject;
+import com.ltsoft.graphql.impl.BatchLoaderStatistics;
+import com.ltsoft.graphql.impl.BatchLoaders;
+import com.ltsoft.graphql.impl.BuildReport;
 import com.ltsoft.graphql.impl.DefaultInstanceFactory;
 import com.ltsoft.graphql.provider.EnumTypeProvider;
+import com.ltsoft.graphql.resolver.ObjectTypeResolver;
+import com.ltsoft.graphql.resolver.ResolveStatistics;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
 import graphql.language.EnumTypeDefinition;
 import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaPrinter;
+import org.dataloader.DataLoaderRegistry;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.ltsoft.graphql.annotations.GraphQLName.ROOT_QUERY;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class GraphQLSchemaBuilderTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void testWithType() {
         InstanceFactory instanceFactory = new DefaultInstanceFactory();
@@ -52,4 +101,511 @@ public class GraphQLSchemaBuilderTest {
         assertThat(schema.getObjectType("Mutation")).isNotNull();
     }
 
+    @Test
+    public void testWithDataFetcherExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "fetcher"));
+
+        try {
+            GraphQLSchema schema = new GraphQLSchemaBuilder()
+                    .addType(AsyncQueryService.class)
+                    .dataFetcherExecutor(executor)
+                    .build();
+
+            ExecutionResult result = GraphQL.newGraphQL(schema).build().execute("{ blocking hello(name: \"world\") ids }");
+            Map<String, Object> data = result.getData();
+
+            assertThat(result.getErrors()).isEmpty();
+            assertThat(data)
+                    .containsEntry("blocking", "fetcher")
+                    .containsEntry("hello", "Hello world")
+                    .containsKey("ids");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testWithLazyInstance() {
+        Map<Class<?>, Integer> created = new ConcurrentHashMap<>();
+        InstanceFactory instanceFactory = new InstanceFactory() {
+            @Override
+            public <T> T provide(Class<T> cls) {
+                created.merge(cls, 1, Integer::sum);
+                return new DefaultInstanceFactory().provide(cls);
+            }
+        };
+
+        new GraphQLSchemaBuilder()
+                .addType(AsyncQueryService.class)
+                .instanceFactory(instanceFactory)
+                .build();
+
+        assertThat(created).containsEntry(AsyncQueryService.class, 1);
+
+        created.clear();
+        GraphQLSchema schema = new GraphQLSchemaBuilder()
+                .addType(AsyncQueryService.class)
+                .instanceFactory(instanceFactory)
+                .lazyInstance(true)
+                .build();
+
+        assertThat(created).doesNotContainKey(AsyncQueryService.class);
+
+        ExecutionResult result = GraphQL.newGraphQL(schema).build().execute("{ blocking hello(name: \"world\") }");
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(created).containsEntry(AsyncQueryService.class, 1);
+    }
+
+    @Test
+    public void testWithScopedInstance() throws Exception {
+        GraphQL requestScoped = GraphQL.newGraphQL(new GraphQLSchemaBuilder()
+                .addType(RequestScopedQueryService.class)
+                .build()).build();
+
+        Map<String, Object> first = requestScoped.execute("{ id another: id }").getData();
+        Map<String, Object> second = requestScoped.execute("{ id }").getData();
+
+        assertThat(first.get("id")).isEqualTo(first.get("another"));
+        assertThat(second.get("id")).isNotEqualTo(first.get("id"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            GraphQL pooled = GraphQL.newGraphQL(new GraphQLSchemaBuilder()
+                    .addType(PooledQueryService.class)
+                    .dataFetcherExecutor(executor)
+                    .build()).build();
+            List<CompletableFuture<ExecutionResult>> results = IntStream.range(0, 20)
+                    .mapToObj(i -> pooled.executeAsync(ExecutionInput.newExecutionInput("{ exclusive }")))
+                    .collect(Collectors.toList());
+
+            for (CompletableFuture<ExecutionResult> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS).getErrors()).isEmpty();
+                assertThat(result.get().<Map<String, Object>>getData()).containsEntry("exclusive", true);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(PooledQueryService.CREATED.get()).isBetween(1, 2);
+    }
+
+    @Test
+    public void testWithScopedInstanceConcurrently() {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            GraphQL requestScoped = GraphQL.newGraphQL(new GraphQLSchemaBuilder()
+                    .addType(RequestScopedQueryService.class)
+                    .dataFetcherExecutor(executor)
+                    .build()).build();
+
+            //同一请求中并行获取的兄弟字段逐个调用请求实例
+            ExecutionResult result = requestScoped.execute("{ a: exclusive b: exclusive c: exclusive d: exclusive id another: id }");
+            Map<String, Object> data = result.getData();
+
+            assertThat(result.getErrors()).isEmpty();
+            assertThat(data).containsEntry("a", true).containsEntry("b", true).containsEntry("c", true).containsEntry("d", true);
+            assertThat(data.get("id")).isEqualTo(data.get("another"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testWithBatch() {
+        BatchLoaderStatistics statistics = new BatchLoaderStatistics();
+
+        GraphQLSchema schema = new GraphQLSchemaBuilder()
+                .addType(BatchQueryService.class)
+                .batchLoaderStatistics(statistics)
+                .build();
+
+        ExecutionInput input = ExecutionInput.newExecutionInput()
+                .query("{ objects { id label next } }")
+                .dataLoaderRegistry(new DataLoaderRegistry())
+                .build();
+        ExecutionResult result = GraphQL.newGraphQL(schema).build().execute(input);
+        Map<String, List<Map<String, Object>>> data = result.getData();
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(data.get("objects")).extracting(ele -> ele.get("label"))
+                .containsExactly("label-1", "label-2", "label-3");
+        assertThat(data.get("objects")).extracting(ele -> ele.get("next"))
+                .containsExactly(2L, 3L, 4L);
+        assertThat(statistics.getStatistics("BatchObject.label").getBatchInvokeCount()).isEqualTo(1);
+        assertThat(statistics.getStatistics("BatchObject.label").getBatchLoadCount()).isEqualTo(3);
+        assertThat(statistics.getStatistics("BatchObject.next").getBatchInvokeCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testWithTypeResolvingPool() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            GraphQLSchema expected = new GraphQLSchemaBuilder()
+                    .addScalar(HelloObject.HelloObjectScalar, HelloObject.class)
+                    .addType(RootSchemaService.class)
+                    .build();
+            GraphQLSchema schema = new GraphQLSchemaBuilder()
+                    .addScalar(HelloObject.HelloObjectScalar, HelloObject.class)
+                    .addType(RootSchemaService.class)
+                    .typeResolvingPool(pool)
+                    .build();
+
+            SchemaPrinter printer = new SchemaPrinter();
+
+            assertThat(printer.print(schema)).isEqualTo(printer.print(expected));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testWithStrategy() {
+        Map<Class<?>, Integer> provided = new ConcurrentHashMap<>();
+        InstanceFactory instanceFactory = new InstanceFactory() {
+            private final InstanceFactory delegate = new DefaultInstanceFactory();
+
+            @Override
+            public <T> T provide(Class<T> cls) {
+                provided.merge(cls, 1, Integer::sum);
+                return delegate.provide(cls);
+            }
+        };
+
+        GraphQLSchema schema = new GraphQLSchemaBuilder()
+                .addScalar(HelloObject.HelloObjectScalar, HelloObject.class)
+                .addType(RootSchemaService.class, GenericServiceImpl.class, MutationService.class)
+                .instanceFactory(instanceFactory)
+                .strategy(new MutationService.FieldFilter())
+                .build();
+
+        assertThat(schema.getObjectType("GenericServiceImpl").getFieldDefinition("genericMutationObjectList")).isNotNull();
+        assertThat(schema.getObjectType("MutationService").getFieldDefinition("batch")).isNotNull();
+        assertThat(schema.getObjectType("MutationService").getFieldDefinition("delete")).isNull();
+        assertThat(provided.get(GenericService.NameFormatter.class)).isEqualTo(1);
+        assertThat(provided).doesNotContainKey(MutationService.FieldFilter.class);
+    }
+
+    @Test
+    public void testWithInputStrategy() {
+        GraphQLSchema schema = new GraphQLSchemaBuilder()
+                .addType(InputQueryService.class)
+                .strategy(new PrefixFormatter("custom"))
+                .build();
+
+        assertThat(schema.getType("PrefixedInput")).isNotNull();
+
+        //查询时绑定输入对象使用构建时注册的策略实例
+        ExecutionResult result = GraphQL.newGraphQL(schema).build().execute("{ echo(input: {customValue: \"hello\"}) }");
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.<Map<String, Object>>getData()).containsEntry("echo", "hello");
+    }
+
+    @Test
+    public void testWithBuildReport() {
+        BuildReport report = new BuildReport();
+
+        new GraphQLSchemaBuilder()
+                .addScalar(HelloObject.HelloObjectScalar, HelloObject.class)
+                .addType(RootSchemaService.class)
+                .buildReport(report)
+                .build();
+
+        assertThat(report.getPhases()).containsKeys(
+                BuildReport.PHASE_SCAN,
+                BuildReport.PHASE_RESOLVE,
+                BuildReport.PHASE_DOCUMENT,
+                BuildReport.PHASE_PARSE,
+                BuildReport.PHASE_MERGE,
+                BuildReport.PHASE_WIRING,
+                BuildReport.PHASE_GENERATE
+        );
+        assertThat(report.getTotalTime().toNanos()).isGreaterThan(0);
+        assertThat(report.getResolverTimes()).containsKey(ObjectTypeResolver.class.getName());
+        assertThat(report.getSlowestTypes(3)).hasSize(3).containsKey(RootSchemaService.class);
+        assertThat(report.getStatistics().getLookups(ResolveStatistics.Cache.TYPE_PROVIDER)).isGreaterThanOrEqualTo(report.getResolvedTypeCount());
+        assertThat(report.toString()).contains("phases: scan=");
+
+        int resolvedTypeCount = report.getResolvedTypeCount();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            new GraphQLSchemaBuilder()
+                    .addScalar(HelloObject.HelloObjectScalar, HelloObject.class)
+                    .addType(RootSchemaService.class)
+                    .typeResolvingPool(pool)
+                    .buildReport(report)
+                    .build();
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(report.getResolvedTypeCount()).isEqualTo(resolvedTypeCount);
+        assertThat(report.getStatistics().getHitRate(ResolveStatistics.Cache.CLASS_METADATA)).isGreaterThan(0);
+    }
+
+    @Test
+    public void testBuildIncremental() {
+        IncrementalSchemaBuilder builder = new GraphQLSchemaBuilder()
+                .addScalar(HelloObject.HelloObjectScalar, HelloObject.class)
+                .addType(RootSchemaService.class)
+                .buildIncremental();
+        GraphQLSchema expected = new GraphQLSchemaBuilder()
+                .addScalar(HelloObject.HelloObjectScalar, HelloObject.class)
+                .addType(RootSchemaService.class)
+                .build();
+        SchemaPrinter printer = new SchemaPrinter();
+
+        assertThat(printer.print(builder.getSchema())).isEqualTo(printer.print(expected));
+
+        GraphQLSchema schema = builder.rebuild(HelloObject.class, RootSchemaService.class);
+
+        assertThat(builder.getSchema()).isSameAs(schema);
+        assertThat(printer.print(schema)).isEqualTo(printer.print(expected));
+        assertThat(schema.getObjectType("Query")).isNotNull();
+    }
+
+    @Test
+    public void testWithSnapshot() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        GraphQLSchema expected = newSnapshotSchemaBuilder(directory, RootSchemaService.class).build();
+        Path snapshot = getOnlySnapshot(directory);
+
+        //快照有效时不会重新写入
+        FileTime lastModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(snapshot, lastModified);
+
+        GraphQLSchema schema = newSnapshotSchemaBuilder(directory, RootSchemaService.class).build();
+        SchemaPrinter printer = new SchemaPrinter(SchemaPrinter.Options.defaultOptions().includeScalarTypes(true));
+
+        assertThat(getOnlySnapshot(directory)).isEqualTo(snapshot);
+        assertThat(Files.getLastModifiedTime(snapshot)).isEqualTo(lastModified);
+        assertThat(printer.print(schema)).isEqualTo(printer.print(expected));
+    }
+
+    @Test
+    public void testWithSnapshotDataFetcher() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        newSnapshotSchemaBuilder(directory, BatchQueryService.class).build();
+        Path snapshot = getOnlySnapshot(directory);
+        FileTime lastModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(snapshot, lastModified);
+
+        GraphQLSchema schema = newSnapshotSchemaBuilder(directory, BatchQueryService.class).build();
+
+        ExecutionInput input = ExecutionInput.newExecutionInput()
+                .query("{ objects { id label next } }")
+                .dataLoaderRegistry(new DataLoaderRegistry())
+                .build();
+        ExecutionResult result = GraphQL.newGraphQL(schema).build().execute(input);
+        Map<String, List<Map<String, Object>>> data = result.getData();
+
+        assertThat(Files.getLastModifiedTime(snapshot)).isEqualTo(lastModified);
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(data.get("objects")).extracting(ele -> ele.get("label"))
+                .containsExactly("label-1", "label-2", "label-3");
+    }
+
+    @Test
+    public void testWithBrokenSnapshot() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        GraphQLSchema expected = newSnapshotSchemaBuilder(directory, RootSchemaService.class).build();
+        Path snapshot = getOnlySnapshot(directory);
+        Files.write(snapshot, new byte[]{1, 2, 3});
+
+        GraphQLSchema schema = newSnapshotSchemaBuilder(directory, RootSchemaService.class).build();
+        SchemaPrinter printer = new SchemaPrinter();
+
+        assertThat(printer.print(schema)).isEqualTo(printer.print(expected));
+        assertThat(Files.size(snapshot)).isGreaterThan(3);
+    }
+
+    @Test
+    public void testWithSnapshotAndStrategy() throws IOException {
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        //策略实例的配置不在指纹中，不同配置不能共用快照
+        GraphQLSchema custom = new GraphQLSchemaBuilder()
+                .addType(InputQueryService.class)
+                .strategy(new PrefixFormatter("custom"))
+                .snapshot(directory)
+                .build();
+        GraphQLSchema other = new GraphQLSchemaBuilder()
+                .addType(InputQueryService.class)
+                .strategy(new PrefixFormatter("other"))
+                .snapshot(directory)
+                .build();
+
+        SchemaPrinter printer = new SchemaPrinter();
+
+        assertThat(printer.print(custom)).contains("customValue");
+        assertThat(printer.print(other)).contains("otherValue").doesNotContain("customValue");
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(0);
+        }
+    }
+
+    private GraphQLSchemaBuilder newSnapshotSchemaBuilder(Path directory, Class<?> type) {
+        return new GraphQLSchemaBuilder()
+                .addScalar(HelloObject.HelloObjectScalar, HelloObject.class)
+                .addType(type)
+                .snapshot(directory);
+    }
+
+    private static Path getOnlySnapshot(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> snapshots = files.collect(Collectors.toList());
+            assertThat(snapshots).hasSize(1);
+
+            return snapshots.get(0);
+        }
+    }
+
+    @Test
+    public void testWithBatchLoaders() {
+        BatchLoaderStatistics statistics = new BatchLoaderStatistics();
+
+        GraphQLSchema schema = new GraphQLSchemaBuilder()
+                .addType(BatchQueryService.class)
+                .batchLoaderStatistics(statistics)
+                .build();
+
+        BatchLoaders loaders = BatchLoaders.of(schema);
+
+        assertThat(loaders.getLoaderNames()).containsExactlyInAnyOrder("BatchObject.label", "BatchObject.next");
+
+        ExecutionInput input = loaders.newExecutionInput()
+                .query("{ objects { id label } }")
+                .build();
+        ExecutionResult result = loaders.newGraphQL().build().execute(input);
+        Map<String, List<Map<String, Object>>> data = result.getData();
+
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(data.get("objects")).extracting(ele -> ele.get("label"))
+                .containsExactly("label-1", "label-2", "label-3");
+        //预先注册的 DataLoader 将全部父对象合并为一次调用
+        assertThat(statistics.getStatistics("BatchObject.label").getBatchInvokeCount()).isEqualTo(1);
+        assertThat(statistics.getStatistics("BatchObject.label").getBatchLoadCount()).isEqualTo(3);
+    }
+
+    @GraphQLName(ROOT_QUERY)
+    @GraphQLType
+    public static class BatchQueryService {
+
+        @GraphQLDataFetcher
+        public List<BatchObject> objects() {
+            return Arrays.asList(new BatchObject(1L), new BatchObject(2L), new BatchObject(3L));
+        }
+    }
+
+    @GraphQLName(ROOT_QUERY)
+    @GraphQLType
+    public static class AsyncQueryService extends AsyncService {
+    }
+
+    @GraphQLName(ROOT_QUERY)
+    @GraphQLType
+    public static class InputQueryService {
+
+        @GraphQLDataFetcher
+        public String echo(@GraphQLArgument("input") PrefixedInput input) {
+            return input.getValue();
+        }
+    }
+
+    @GraphQLInput
+    @GraphQLFieldName(PrefixFormatter.class)
+    public static class PrefixedInput {
+
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class PrefixFormatter implements BiFunction<String, Class<?>, String> {
+
+        private final String prefix;
+
+        public PrefixFormatter() {
+            this(null);
+        }
+
+        PrefixFormatter(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public String apply(String name, Class<?> javaType) {
+            return prefix != null ? prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1) : null;
+        }
+    }
+
+    @GraphQLName(ROOT_QUERY)
+    @GraphQLType
+    @GraphQLRequestScope
+    public static class RequestScopedQueryService {
+
+        private static final AtomicInteger CREATED = new AtomicInteger();
+
+        private final int id = CREATED.incrementAndGet();
+
+        private final AtomicBoolean inUse = new AtomicBoolean();
+
+        @GraphQLDataFetcher
+        public Integer id() {
+            return id;
+        }
+
+        @GraphQLDataFetcher
+        public Boolean exclusive() throws InterruptedException {
+            if (!inUse.compareAndSet(false, true)) {
+                return false;
+            }
+
+            Thread.sleep(5);
+            inUse.set(false);
+
+            return true;
+        }
+    }
+
+    @GraphQLName(ROOT_QUERY)
+    @GraphQLType
+    @GraphQLPooled(maxSize = 2)
+    public static class PooledQueryService {
+
+        private static final AtomicInteger CREATED = new AtomicInteger();
+
+        private final AtomicBoolean inUse = new AtomicBoolean();
+
+        public PooledQueryService() {
+            CREATED.incrementAndGet();
+        }
+
+        @GraphQLDataFetcher
+        public Boolean exclusive() throws InterruptedException {
+            if (!inUse.compareAndSet(false, true)) {
+                return false;
+            }
+
+            Thread.sleep(5);
+            inUse.set(false);
+
+            return true;
+        }
+    }
+
 }
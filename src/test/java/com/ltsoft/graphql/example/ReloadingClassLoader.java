@@ -0,0 +1,47 @@
+package com.ltsoft.graphql.example;
+
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 重新加载指定类型的 ClassLoader，模拟重新构建时的类型热加载，其它类型由父 ClassLoader 加载
+ */
+public class ReloadingClassLoader extends ClassLoader {
+
+    private final Class<?> type;
+
+    public ReloadingClassLoader(Class<?> type) {
+        super(type.getClassLoader());
+        this.type = type;
+    }
+
+    /**
+     * @param type 需要重新加载的类型
+     * @return 使用新的 ClassLoader 加载的同名类型
+     */
+    public static Class<?> reload(Class<?> type) throws ClassNotFoundException {
+        return new ReloadingClassLoader(type).loadClass(type.getName());
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!name.equals(type.getName())) {
+            return super.loadClass(name, resolve);
+        }
+
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> cls = findLoadedClass(name);
+            if (cls == null) {
+                try (InputStream input = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = ByteStreams.toByteArray(input);
+                    cls = defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+            return cls;
+        }
+    }
+}
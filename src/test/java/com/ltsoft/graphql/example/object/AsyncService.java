@@ -0,0 +1,29 @@
+package com.ltsoft.graphql.example.object;
+
+import com.ltsoft.graphql.annotations.GraphQLArgument;
+import com.ltsoft.graphql.annotations.GraphQLDataFetcher;
+import com.ltsoft.graphql.annotations.GraphQLType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+@GraphQLType
+public class AsyncService {
+
+    @GraphQLDataFetcher
+    public CompletableFuture<String> hello(@GraphQLArgument("name") String name) {
+        return CompletableFuture.completedFuture("Hello " + name);
+    }
+
+    @GraphQLDataFetcher
+    public CompletionStage<List<Long>> ids() {
+        return CompletableFuture.completedFuture(Arrays.asList(1L, 2L));
+    }
+
+    @GraphQLDataFetcher
+    public String blocking() {
+        return Thread.currentThread().getName();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ltsoft.graphql.example.object;
+
+import com.ltsoft.graphql.annotations.GraphQLBatch;
+import com.ltsoft.graphql.annotations.GraphQLType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@GraphQLType
+public class BatchObject {
+
+    private Long id;
+
+    public BatchObject() {
+    }
+
+    public BatchObject(Long id) {
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    @GraphQLBatch
+    public List<String> label(List<BatchObject> parents) {
+        return parents.stream()
+                .map(ele -> "label-" + ele.getId())
+                .collect(Collectors.toList());
+    }
+
+    @GraphQLBatch(maxBatchSize = 2, cached = false)
+    public CompletionStage<Map<BatchObject, Long>> next(List<BatchObject> parents) {
+        return CompletableFuture.completedFuture(parents.stream().collect(Collectors.toMap(Function.identity(), ele -> ele.getId() + 1)));
+    }
+}
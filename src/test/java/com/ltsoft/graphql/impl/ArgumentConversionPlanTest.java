@@ -0,0 +1,82 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.reflect.TypeToken;
+import com.ltsoft.graphql.ArgumentConverter;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("UnstableApiUsage")
+public class ArgumentConversionPlanTest {
+
+    @Test
+    public void convert() {
+        CountingConverter counting = new CountingConverter();
+        ArgumentConversionPlan plan = new ArgumentConversionPlan(ImmutableList.of(counting, new CollectionArgumentConverter(), new ScalarTypeArgumentConverter()));
+        TypeToken<List<List<Integer>>> type = new TypeToken<List<List<Integer>>>() {
+        };
+
+        for (int i = 0; i < 10; i++) {
+            Object result = plan.convert(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4)), type);
+
+            assertThat(result).isEqualTo(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4)));
+        }
+
+        //List<List<Integer>>、List<Integer>、Integer 各选择一次转换器
+        assertThat(counting.supportCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void convertWithIndependentCache() {
+        CountingConverter first = new CountingConverter();
+        CountingConverter second = new CountingConverter();
+        ArgumentConversionPlan firstPlan = new ArgumentConversionPlan(ImmutableList.of(first, new ScalarTypeArgumentConverter()));
+        ArgumentConversionPlan secondPlan = new ArgumentConversionPlan(ImmutableList.of(second, new ScalarTypeArgumentConverter()));
+
+        assertThat(firstPlan.convert(1, TypeToken.of(Integer.class))).isEqualTo(1);
+        assertThat(secondPlan.convert(1, TypeToken.of(Integer.class))).isEqualTo(1);
+
+        //不同计划的缓存互不影响
+        assertThat(first.supportCount.get()).isEqualTo(1);
+        assertThat(second.supportCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void convertNull() {
+        ArgumentConversionPlan plan = new ArgumentConversionPlan(ImmutableList.of(new ScalarTypeArgumentConverter()));
+
+        assertThat(plan.convert(null, TypeToken.of(String.class))).isNull();
+    }
+
+    @Test
+    public void unsupported() {
+        ArgumentConversionPlan plan = new ArgumentConversionPlan(ImmutableList.of(new CollectionArgumentConverter()));
+
+        assertThatThrownBy(() -> plan.convert(1, TypeToken.of(Thread.class)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Integer");
+    }
+
+    private static class CountingConverter implements ArgumentConverter<Object> {
+
+        private final AtomicInteger supportCount = new AtomicInteger();
+
+        @Override
+        public Boolean isSupport(TypeToken<?> from, TypeToken<?> to) {
+            supportCount.incrementAndGet();
+            return false;
+        }
+
+        @Override
+        public Object convert(Object source, TypeToken<Object> type, BiFunction<Object, TypeToken<?>, ?> orElse) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.example.object.BatchObject;
+import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.dataloader.stats.Statistics;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BatchDataFetcherTest {
+
+    @Test
+    public void getLoaderName() throws Exception {
+        Method method = BatchObject.class.getMethod("label", List.class);
+
+        BatchDataFetcher dataFetcher = new BatchDataFetcher("BatchObject", new BatchObject(), method, new MethodHandleInvokerFactory(), null, new BatchLoaderStatistics());
+
+        assertThat(dataFetcher.getFieldName()).isEqualTo("label");
+        assertThat(dataFetcher.getLoaderName()).isEqualTo("BatchObject.label");
+    }
+
+    @Test
+    public void batchWithList() throws Exception {
+        Method method = BatchObject.class.getMethod("label", List.class);
+        BatchLoaderStatistics statistics = new BatchLoaderStatistics();
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+
+        BatchDataFetcher dataFetcher = new BatchDataFetcher("BatchObject", new BatchObject(), method, new MethodHandleInvokerFactory(), null, statistics);
+
+        List<CompletableFuture<Object>> futures = Arrays.asList(1L, 2L, 3L, 2L).stream()
+                .map(id -> dataFetcher.get(mockEnvironment(registry, new BatchObject(id))))
+                .collect(Collectors.toList());
+
+        registry.dispatchAll();
+
+        assertThat(futures.stream().map(CompletableFuture::join).collect(Collectors.toList()))
+                .containsExactly("label-1", "label-2", "label-3", "label-2");
+
+        //默认缓存相同父对象，未重写 equals 时按实例区分
+        Statistics loaderStatistics = registry.getDataLoader("BatchObject.label").getStatistics();
+        assertThat(loaderStatistics.getBatchInvokeCount()).isEqualTo(1);
+        assertThat(loaderStatistics.getBatchLoadCount()).isEqualTo(4);
+
+        assertThat(statistics.getStatistics("BatchObject.label").getBatchInvokeCount()).isEqualTo(1);
+        assertThat(statistics.getStatistics()).containsOnlyKeys("BatchObject.label");
+    }
+
+    @Test
+    public void batchWithMap() throws Exception {
+        Method method = BatchObject.class.getMethod("next", List.class);
+        BatchLoaderStatistics statistics = new BatchLoaderStatistics();
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+
+        BatchDataFetcher dataFetcher = new BatchDataFetcher("BatchObject", new BatchObject(), method, new MethodHandleInvokerFactory(), Runnable::run, statistics);
+
+        List<CompletableFuture<Object>> futures = Arrays.asList(1L, 2L, 3L).stream()
+                .map(id -> dataFetcher.get(mockEnvironment(registry, new BatchObject(id))))
+                .collect(Collectors.toList());
+
+        registry.dispatchAll();
+
+        assertThat(futures.stream().map(CompletableFuture::join).collect(Collectors.toList()))
+                .containsExactly(2L, 3L, 4L);
+
+        //maxBatchSize = 2
+        assertThat(statistics.getStatistics("BatchObject.next").getBatchInvokeCount()).isEqualTo(2);
+        assertThat(statistics.getStatistics("BatchObject.next").getBatchLoadCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void batchWithRegisteredLoader() throws Exception {
+        Method method = BatchObject.class.getMethod("label", List.class);
+        BatchLoaderStatistics statistics = new BatchLoaderStatistics();
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+
+        BatchDataFetcher dataFetcher = new BatchDataFetcher("BatchObject", new BatchObject(), method, new MethodHandleInvokerFactory(), null, statistics);
+        DataLoader<Object, Object> dataLoader = dataFetcher.newDataLoader();
+        registry.register(dataFetcher.getLoaderName(), dataLoader);
+
+        List<CompletableFuture<Object>> futures = Arrays.asList(1L, 2L).stream()
+                .map(id -> dataFetcher.get(mockEnvironment(registry, new BatchObject(id))))
+                .collect(Collectors.toList());
+
+        registry.dispatchAll();
+
+        assertThat(registry.getDataLoader(dataFetcher.getLoaderName())).isSameAs(dataLoader);
+        assertThat(futures.stream().map(CompletableFuture::join).collect(Collectors.toList()))
+                .containsExactly("label-1", "label-2");
+        assertThat(statistics.getStatistics("BatchObject.label").getBatchInvokeCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void withoutRegistry() throws Exception {
+        Method method = BatchObject.class.getMethod("label", List.class);
+
+        BatchDataFetcher dataFetcher = new BatchDataFetcher("BatchObject", new BatchObject(), method, new MethodHandleInvokerFactory(), null, new BatchLoaderStatistics());
+
+        assertThat(dataFetcher.get(mockEnvironment(null, new BatchObject(1L))).join()).isEqualTo("label-1");
+    }
+
+    @Test
+    public void wrongResultSize() throws Exception {
+        BatchObject service = mock(BatchObject.class);
+        Method method = BatchObject.class.getMethod("label", List.class);
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+
+        when(service.label(org.mockito.ArgumentMatchers.anyList())).thenReturn(Arrays.asList("a", "b"));
+
+        BatchDataFetcher dataFetcher = new BatchDataFetcher("BatchObject", service, method, new MethodHandleInvokerFactory(), null, new BatchLoaderStatistics());
+
+        CompletableFuture<Object> future = dataFetcher.get(mockEnvironment(registry, new BatchObject(1L)));
+        DataLoader<Object, Object> dataLoader = registry.getDataLoader(dataFetcher.getLoaderName());
+        dataLoader.dispatch();
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void invalidMethod() throws Exception {
+        Method method = BatchObject.class.getMethod("getId");
+
+        assertThatThrownBy(() -> new BatchDataFetcher("BatchObject", new BatchObject(), method, new MethodHandleInvokerFactory(), null, new BatchLoaderStatistics()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static DataFetchingEnvironment mockEnvironment(DataLoaderRegistry registry, Object source) {
+        DataFetchingEnvironment env = mock(DataFetchingEnvironment.class);
+        when(env.getDataLoaderRegistry()).thenReturn(registry);
+        when(env.getSource()).thenReturn(source);
+        return env;
+    }
+}
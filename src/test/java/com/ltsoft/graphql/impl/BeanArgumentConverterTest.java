@@ -0,0 +1,142 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.reflect.TypeToken;
+import com.ltsoft.graphql.example.object.MutationObject;
+import com.ltsoft.graphql.example.object.NormalObject;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("UnstableApiUsage")
+public class BeanArgumentConverterTest {
+
+    private final BeanArgumentConverter converter = new BeanArgumentConverter(new DefaultInstanceFactory());
+    private final ArgumentConversionPlan plan = new ArgumentConversionPlan(ImmutableList.of(
+            new ArrayArgumentConverter(), new CollectionArgumentConverter(), new ScalarTypeArgumentConverter(), converter
+    ));
+
+    @Test
+    public void convert() {
+        Map<String, Object> source = ImmutableMap.of(
+                "id", 2L,
+                "name", "foo",
+                "parent", ImmutableMap.of("id", 1L),
+                "unknown", "ignored"
+        );
+
+        //noinspection unchecked
+        TypeToken<Object> type = (TypeToken<Object>) (TypeToken<?>) TypeToken.of(MutationObject.class);
+
+        Object result = converter.convert(source, type, plan::convert);
+
+        assertThat(result).isInstanceOfSatisfying(MutationObject.class, object -> {
+            assertThat(object.getId()).isEqualTo(2L);
+            assertThat(object.getName()).isEqualTo("foo");
+            assertThat(object.getParent().getId()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    public void convertWithGraphQLName() {
+        Map<String, Object> source = ImmutableMap.of(
+                "foo", "foo",
+                "barList", Arrays.asList("a", "b")
+        );
+
+        Object result = plan.convert(source, TypeToken.of(NormalObject.class));
+
+        assertThat(result).isInstanceOfSatisfying(NormalObject.class, object -> {
+            assertThat(object.getFoo()).isEqualTo("foo");
+            assertThat(object.getBar()).containsExactly("a", "b");
+        });
+    }
+
+    @Test
+    public void convertNullValue() {
+        Map<String, Object> source = new HashMap<>();
+        source.put("name", null);
+
+        Object result = plan.convert(source, TypeToken.of(MutationObject.class));
+
+        assertThat(result).isInstanceOfSatisfying(MutationObject.class, object -> assertThat(object.getName()).isNull());
+    }
+
+    @Test
+    public void setterFail() {
+        Map<String, Object> source = ImmutableMap.of("value", "foo");
+
+        assertThatThrownBy(() -> plan.convert(source, TypeToken.of(FailBean.class)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void convertWithOverloadedSetter() {
+        Map<String, Object> source = ImmutableMap.of("value", "foo", "count", 2);
+
+        Object result = plan.convert(source, TypeToken.of(OverloadedBean.class));
+
+        //按同名字段的类型选择 setter
+        assertThat(result).isInstanceOfSatisfying(OverloadedBean.class, bean -> {
+            assertThat(bean.getValue()).isEqualTo("foo");
+            assertThat(bean.getCount()).isEqualTo(2);
+        });
+
+        assertThatThrownBy(() -> plan.convert(source, TypeToken.of(AmbiguousBean.class)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ambiguous setters");
+    }
+
+    public static class OverloadedBean {
+
+        private String value;
+        private int count;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public void setValue(Integer value) {
+            this.value = "int-" + value;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public void setCount(String count) {
+            this.count = -1;
+        }
+    }
+
+    public static class AmbiguousBean {
+
+        public void setValue(String value) {
+        }
+
+        public void setValue(Long value) {
+        }
+    }
+
+    public static class FailBean {
+
+        public void setValue(String value) {
+            throw new UnsupportedOperationException(value);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.example.object.MutationObject;
+import com.ltsoft.graphql.example.object.NormalObject;
+import com.ltsoft.graphql.resolver.ClassMetadata;
+import com.ltsoft.graphql.resolver.EnumTypeResolver;
+import com.ltsoft.graphql.resolver.ObjectTypeResolver;
+import com.ltsoft.graphql.resolver.ResolveStatistics;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BuildReportTest {
+
+    @Test
+    public void testRecord() {
+        BuildReport report = new BuildReport();
+        report.start();
+
+        report.recordPhase(BuildReport.PHASE_SCAN, 10);
+        report.recordPhase(BuildReport.PHASE_RESOLVE, 20);
+        report.recordPhase(BuildReport.PHASE_SCAN, 5);
+        report.recordType(NormalObject.class, ObjectTypeResolver.class, 100);
+        report.recordType(MutationObject.class, ObjectTypeResolver.class, 300);
+        report.recordType(int.class, EnumTypeResolver.class, 200);
+
+        ClassMetadata.of(NormalObject.class);
+        report.finish();
+
+        assertThat(report.getPhases().keySet()).containsExactly(BuildReport.PHASE_SCAN, BuildReport.PHASE_RESOLVE);
+        assertThat(report.getPhases().get(BuildReport.PHASE_SCAN)).isEqualTo(Duration.ofNanos(15));
+        assertThat(report.getResolverTimes().get(ObjectTypeResolver.class.getName())).isEqualTo(Duration.ofNanos(400));
+        assertThat(report.getResolvedTypeCount()).isEqualTo(3);
+        assertThat(report.getSlowestTypes(2).keySet()).containsExactly(MutationObject.class, int.class);
+        assertThat(report.getStatistics().getLookups(ResolveStatistics.Cache.CLASS_METADATA)).isGreaterThanOrEqualTo(1);
+        assertThat(report.toString()).contains("scan=0.000ms", "com.ltsoft.graphql.example.object.MutationObject=0.000ms");
+
+        report.start();
+
+        assertThat(report.getPhases()).isEmpty();
+        assertThat(report.getResolvedTypeCount()).isEqualTo(0);
+        assertThat(report.getStatistics()).isNull();
+    }
+}
@@ -0,0 +1,112 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.ByteStreams;
+import com.google.common.reflect.ClassPath;
+import com.ltsoft.graphql.annotations.GraphQLDirective;
+import com.ltsoft.graphql.annotations.GraphQLField;
+import com.ltsoft.graphql.annotations.GraphQLType;
+import com.ltsoft.graphql.example.NotConstructor;
+import com.ltsoft.graphql.example.RootQueryService;
+import com.ltsoft.graphql.resolver.ResolveUtil;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("UnstableApiUsage")
+public class ClassFileAnnotationFilterTest {
+
+    private static final List<String> PACKAGES = Arrays.asList(
+            "com.ltsoft.graphql.example",
+            "com.ltsoft.graphql.example.object",
+            "com.ltsoft.graphql.example.union",
+            "com.ltsoft.graphql.example.directive"
+    );
+
+    @Test
+    public void testFilter() throws IOException {
+        ClassFileAnnotationFilter filter = new ClassFileAnnotationFilter(getClass().getClassLoader());
+        Map<String, ClassPath.ClassInfo> classes = ClassPath.from(getClass().getClassLoader()).getAllClasses().stream()
+                .filter(info -> info.getPackageName().equals(getClass().getPackage().getName()) || info.getPackageName().startsWith("com.ltsoft.graphql.example"))
+                .collect(Collectors.toMap(ClassPath.ClassInfo::getName, info -> info));
+
+        assertThat(filter.test(classes.get(RootQueryService.class.getName()))).isTrue();
+        assertThat(filter.test(classes.get(NotConstructor.class.getName()))).isFalse();
+        assertThat(filter.test(classes.get(AnnotatedObject.class.getName()))).isTrue();
+        assertThat(filter.test(classes.get(PlainObject.class.getName()))).isFalse();
+        assertThat(filter.test(classes.get(InheritedDirective.class.getName()))).isTrue();
+        assertThat(filter.test(classes.get(NotInheritedType.class.getName()))).isFalse();
+    }
+
+    @Test
+    public void testFilterAgreesWithResolveUtil() {
+        ClassFileAnnotationFilter filter = new ClassFileAnnotationFilter(getClass().getClassLoader());
+        PackageScanner scanner = new PackageScanner(getClass().getClassLoader(), null);
+
+        //未被过滤的类与加载后可解析的类一致
+        scanner.scanClassPath(ImmutableSet.copyOf(PACKAGES)).values().stream()
+                .flatMap(List::stream)
+                .forEach(info -> assertThat(filter.test(info)).as(info.getName()).isEqualTo(ResolveUtil.canResolve(info.load())));
+    }
+
+    @Test
+    public void testReadClassFile() throws IOException {
+        ClassFileAnnotationFilter.ClassFile annotated = ClassFileAnnotationFilter.ClassFile.read(readBytes(AnnotatedObject.class), ImmutableSet.of("Lcom/ltsoft/graphql/annotations/GraphQLType;"));
+
+        assertThat(annotated.getSuperName()).isEqualTo("java/lang/Object");
+        assertThat(annotated.getAnnotations()).containsExactly("Lcom/ltsoft/graphql/annotations/GraphQLType;");
+
+        ClassFileAnnotationFilter.ClassFile subclass = ClassFileAnnotationFilter.ClassFile.read(readBytes(InheritedDirective.class), ImmutableSet.of("Lcom/ltsoft/graphql/annotations/GraphQLDirective;"));
+
+        assertThat(subclass.getSuperName()).isEqualTo(DirectiveObject.class.getName().replace('.', '/'));
+        assertThat(subclass.getAnnotations()).isEmpty();
+
+        //常量池中不存在关心的描述符时不读取注解
+        ClassFileAnnotationFilter.ClassFile skipped = ClassFileAnnotationFilter.ClassFile.read(readBytes(AnnotatedObject.class), ImmutableSet.of("Lcom/ltsoft/graphql/annotations/GraphQLUnion;"));
+
+        assertThat(skipped.getAnnotations()).isEmpty();
+
+        assertThatThrownBy(() -> ClassFileAnnotationFilter.ClassFile.read(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}, ImmutableSet.of()))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static byte[] readBytes(Class<?> cls) throws IOException {
+        try (InputStream input = cls.getClassLoader().getResourceAsStream(cls.getName().replace('.', '/') + ".class")) {
+            return ByteStreams.toByteArray(input);
+        }
+    }
+
+    @GraphQLType
+    public static class AnnotatedObject {
+
+        @GraphQLField
+        public String getName() {
+            return "name";
+        }
+    }
+
+    public static class PlainObject {
+
+        public String getName() {
+            return "name";
+        }
+    }
+
+    @GraphQLDirective
+    public static class DirectiveObject {
+    }
+
+    public static class InheritedDirective extends DirectiveObject {
+    }
+
+    public static class NotInheritedType extends AnnotatedObject {
+    }
+}
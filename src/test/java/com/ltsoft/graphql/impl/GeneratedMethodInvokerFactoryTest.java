@@ -0,0 +1,81 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.MethodInvoker;
+import com.ltsoft.graphql.MethodInvokerFactory;
+import com.ltsoft.graphql.example.ReloadingClassLoader;
+import com.ltsoft.graphql.example.RootQueryService;
+import com.ltsoft.graphql.example.iface.NormalInterface;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class GeneratedMethodInvokerFactoryTest {
+
+    @Test
+    public void signature() throws NoSuchMethodException {
+        Method method = String.class.getMethod("regionMatches", boolean.class, int.class, String.class, int.class, int.class);
+
+        assertThat(GeneratedMethodInvokerFactory.signature(method))
+                .isEqualTo("java.lang.String#regionMatches(boolean,int,java.lang.String,int,int)");
+        assertThat(GeneratedMethodInvokerFactory.signature(String.class.getMethod("copyValueOf", char[].class)))
+                .isEqualTo("java.lang.String#copyValueOf(char[])");
+    }
+
+    @Test
+    public void buildGenerated() throws Throwable {
+        //测试代码编译时由 GraphQLInvokerProcessor 生成调用器
+        MethodInvokerFactory fallback = mock(MethodInvokerFactory.class);
+        Method method = RootQueryService.class.getMethod("unknownArgument", Integer.class);
+
+        MethodInvoker invoker = new GeneratedMethodInvokerFactory(fallback).build(method);
+
+        assertThat(invoker.getClass().getName()).startsWith("com.ltsoft.graphql.example.RootQueryService_GraphQLInvokers");
+        assertThat(invoker.invoke(new RootQueryService(), 3)).isEqualTo(3);
+        assertThat(invoker.invoke(new RootQueryService(), new Object[]{null})).isEqualTo(0);
+        verify(fallback, never()).build(any());
+    }
+
+    @Test
+    public void buildFallback() throws Throwable {
+        MethodInvoker fallbackInvoker = (instance, arguments) -> "fallback";
+        MethodInvokerFactory fallback = mock(MethodInvokerFactory.class);
+        when(fallback.build(any())).thenReturn(fallbackInvoker);
+
+        GeneratedMethodInvokerFactory factory = new GeneratedMethodInvokerFactory(fallback);
+
+        assertThat(factory.build(NormalInterface.class.getMethod("getInfo"))).isSameAs(fallbackInvoker);
+        assertThat(factory.build(String.class.getMethod("length"))).isSameAs(fallbackInvoker);
+    }
+
+    @Test
+    public void releaseClassLoader() throws Exception {
+        MethodInvoker fallbackInvoker = (instance, arguments) -> "fallback";
+        GeneratedMethodInvokerFactory factory = new GeneratedMethodInvokerFactory(method -> fallbackInvoker);
+
+        WeakReference<ClassLoader> reference = buildReloaded(factory, fallbackInvoker);
+
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        //工厂不再持有重新加载类型的 ClassLoader
+        assertThat(reference.get()).isNull();
+    }
+
+    private static WeakReference<ClassLoader> buildReloaded(GeneratedMethodInvokerFactory factory, MethodInvoker fallbackInvoker) throws Exception {
+        ClassLoader classLoader = new ReloadingClassLoader(RootQueryService.class);
+        Class<?> reloaded = classLoader.loadClass(RootQueryService.class.getName());
+
+        //父 ClassLoader 中生成的调用器不能调用重新加载的类型
+        assertThat(reloaded).isNotEqualTo(RootQueryService.class);
+        assertThat(factory.build(reloaded.getMethod("unknownArgument", Integer.class))).isSameAs(fallbackInvoker);
+
+        return new WeakReference<>(classLoader);
+    }
+}
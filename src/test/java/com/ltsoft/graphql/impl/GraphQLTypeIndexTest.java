@@ -0,0 +1,56 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.example.RootMutationService;
+import com.ltsoft.graphql.example.RootQueryService;
+import com.ltsoft.graphql.example.RootSchemaService;
+import com.ltsoft.graphql.processor.GraphQLTypeIndexProcessor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GraphQLTypeIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void load() {
+        //测试代码编译时由 GraphQLTypeIndexProcessor 生成索引
+        Optional<List<Class<?>>> result = GraphQLTypeIndex.load(getClass().getClassLoader(), "com.ltsoft.graphql.example");
+
+        assertThat(result).isPresent();
+        assertThat(result.get()).containsExactlyInAnyOrder(RootMutationService.class, RootQueryService.class, RootSchemaService.class);
+    }
+
+    @Test
+    public void loadWithoutIndex() {
+        assertThat(GraphQLTypeIndex.load(getClass().getClassLoader(), "com.ltsoft.graphql.notexist")).isEmpty();
+    }
+
+    @Test
+    public void loadIgnoreMissingClass() throws Exception {
+        File root = folder.newFolder();
+        Path index = root.toPath().resolve(GraphQLTypeIndexProcessor.INDEX_LOCATION + "com.ltsoft.graphql.example");
+        Files.createDirectories(index.getParent());
+        Files.write(index, Arrays.asList("com.ltsoft.graphql.example.RootQueryService", "com.ltsoft.graphql.example.Removed"), StandardCharsets.UTF_8);
+
+        ClassLoader classLoader = new URLClassLoader(new URL[]{root.toURI().toURL()}, getClass().getClassLoader());
+        Optional<List<Class<?>>> result = GraphQLTypeIndex.load(classLoader, "com.ltsoft.graphql.example");
+
+        //父类加载器中的索引同样被合并
+        assertThat(result).isPresent();
+        assertThat(result.get()).containsExactlyInAnyOrder(RootMutationService.class, RootQueryService.class, RootSchemaService.class);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ltsoft.graphql.impl;
 
 import com.ltsoft.graphql.example.object.NormalObject;
+import com.ltsoft.graphql.resolver.StrategyRegistry;
 import graphql.TypeResolutionEnvironment;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLSchema;
@@ -8,8 +9,7 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class JavaTypeResolverTest {
 
@@ -27,5 +27,59 @@ public class JavaTypeResolverTest {
         JavaTypeResolver resolver = new JavaTypeResolver();
 
         assertThat(resolver.getType(env)).isEqualTo(type);
+        assertThat(resolver.getType(env)).isEqualTo(type);
+
+        //同一 Schema 中每个 Java 类型只解析一次
+        verify(schema, times(1)).getObjectType("Normal");
+    }
+
+    @Test
+    public void getTypeOfSubclass() {
+        TypeResolutionEnvironment env = mock(TypeResolutionEnvironment.class);
+        GraphQLSchema schema = mock(GraphQLSchema.class);
+        GraphQLObjectType type = mock(GraphQLObjectType.class);
+        when(env.getObject()).thenReturn(new NormalObject$$Proxy());
+        when(env.getSchema()).thenReturn(schema);
+        when(schema.getType(Mockito.eq("Normal"))).thenReturn(type);
+
+        JavaTypeResolver resolver = new JavaTypeResolver();
+
+        assertThat(resolver.getType(env)).isEqualTo(type);
+    }
+
+    @Test
+    public void getTypeOfOtherSchema() {
+        TypeResolutionEnvironment env = mock(TypeResolutionEnvironment.class);
+        GraphQLSchema schema = mock(GraphQLSchema.class);
+        GraphQLSchema otherSchema = mock(GraphQLSchema.class);
+        GraphQLObjectType type = mock(GraphQLObjectType.class);
+        GraphQLObjectType otherType = mock(GraphQLObjectType.class);
+        when(env.getObject()).thenReturn(new NormalObject());
+        when(schema.getObjectType(Mockito.eq("Normal"))).thenReturn(type);
+        when(otherSchema.getObjectType(Mockito.eq("Normal"))).thenReturn(otherType);
+
+        JavaTypeResolver resolver = new JavaTypeResolver(new StrategyRegistry(new DefaultInstanceFactory()));
+
+        when(env.getSchema()).thenReturn(schema);
+        assertThat(resolver.getType(env)).isEqualTo(type);
+
+        when(env.getSchema()).thenReturn(otherSchema);
+        assertThat(resolver.getType(env)).isEqualTo(otherType);
+
+        //交替使用多个 Schema 时各自的解析结果仍被缓存
+        when(env.getSchema()).thenReturn(schema);
+        assertThat(resolver.getType(env)).isEqualTo(type);
+
+        when(env.getSchema()).thenReturn(otherSchema);
+        assertThat(resolver.getType(env)).isEqualTo(otherType);
+
+        verify(schema, times(1)).getObjectType("Normal");
+        verify(otherSchema, times(1)).getObjectType("Normal");
+    }
+
+    /**
+     * 模拟 CGLIB 等生成的代理类
+     */
+    private static class NormalObject$$Proxy extends NormalObject {
     }
 }
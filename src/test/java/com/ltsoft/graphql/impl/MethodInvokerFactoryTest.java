@@ -0,0 +1,90 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.MethodInvoker;
+import com.ltsoft.graphql.MethodInvokerFactory;
+import com.ltsoft.graphql.example.RootQueryService;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MethodInvokerFactoryTest {
+
+    private static final MethodInvokerFactory[] FACTORIES = {
+            new ReflectionMethodInvokerFactory(),
+            new MethodHandleInvokerFactory(),
+            new LambdaMethodInvokerFactory()
+    };
+
+    @Test
+    public void invoke() throws Throwable {
+        Method method = RootQueryService.class.getMethod("unknownArgument", Integer.class);
+        RootQueryService service = new RootQueryService();
+
+        for (MethodInvokerFactory factory : FACTORIES) {
+            MethodInvoker invoker = factory.build(method);
+
+            assertThat(invoker.invoke(service, new Object[]{1})).isEqualTo(1);
+            assertThat(invoker.invoke(service, new Object[]{null})).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void invokePrimitiveAndVoid() throws Throwable {
+        Method sum = Calculator.class.getMethod("sum", int.class, long.class);
+        Method reset = Calculator.class.getMethod("reset");
+        Calculator calculator = new Calculator();
+
+        for (MethodInvokerFactory factory : FACTORIES) {
+            assertThat(factory.build(sum).invoke(calculator, new Object[]{1, 2L})).isEqualTo(3L);
+            assertThat(factory.build(reset).invoke(calculator, new Object[0])).isNull();
+        }
+    }
+
+    @Test
+    public void throwTargetException() throws Exception {
+        Method method = Calculator.class.getMethod("fail", String.class);
+        Calculator calculator = new Calculator();
+
+        for (MethodInvokerFactory factory : FACTORIES) {
+            MethodInvoker invoker = factory.build(method);
+
+            assertThatThrownBy(() -> invoker.invoke(calculator, new Object[]{"fail"}))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("fail");
+        }
+    }
+
+    @Test
+    public void fallback() throws Throwable {
+        Method method = HiddenService.class.getMethod("hello");
+        HiddenService service = new HiddenService();
+
+        for (MethodInvokerFactory factory : FACTORIES) {
+            assertThat(factory.build(method).invoke(service, new Object[0])).isEqualTo("hello");
+        }
+    }
+
+    public static class Calculator {
+
+        public long sum(int left, long right) {
+            return left + right;
+        }
+
+        public void reset() {
+        }
+
+        public String fail(String message) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    static class HiddenService {
+
+        public String hello() {
+            return "hello";
+        }
+    }
+}
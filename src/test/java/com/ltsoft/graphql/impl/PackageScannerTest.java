@@ -0,0 +1,102 @@
+package com.ltsoft.graphql.impl;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.reflect.ClassPath;
+import com.ltsoft.graphql.example.RootMutationService;
+import com.ltsoft.graphql.example.RootQueryService;
+import com.ltsoft.graphql.example.RootSchemaService;
+import com.ltsoft.graphql.processor.GraphQLTypeIndexProcessor;
+import com.ltsoft.graphql.resolver.ResolveUtil;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PackageScannerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static final List<String> PACKAGES = Arrays.asList(
+            "com.ltsoft.graphql.example",
+            "com.ltsoft.graphql.example.object",
+            "com.ltsoft.graphql.example.union",
+            "com.ltsoft.graphql.notexist"
+    );
+
+    @Test
+    public void scan() {
+        PackageScanner scanner = new PackageScanner(getClass().getClassLoader(), null);
+        List<Class<?>> classes = scanner.scan(PACKAGES);
+
+        assertThat(classes).contains(RootMutationService.class, RootQueryService.class, RootSchemaService.class);
+        assertThat(classes).doesNotHaveDuplicates();
+        assertThat(classes).allMatch(ResolveUtil::canResolve);
+        assertThat(classes.subList(0, 3)).containsExactlyInAnyOrder(RootMutationService.class, RootQueryService.class, RootSchemaService.class);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        try {
+            assertThat(new PackageScanner(getClass().getClassLoader(), pool).scan(PACKAGES)).isEqualTo(classes);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void scanWithPartialIndex() throws IOException {
+        //索引仅包含包中的部分类，模拟同一个包中的其它类来自没有索引的 jar
+        Path root = temporaryFolder.getRoot().toPath();
+        Path index = root.resolve(GraphQLTypeIndexProcessor.INDEX_LOCATION + "com.ltsoft.graphql.example");
+        Files.createDirectories(index.getParent());
+        Files.write(index, Collections.singletonList(RootQueryService.class.getName()), StandardCharsets.UTF_8);
+
+        ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                return name.startsWith(GraphQLTypeIndexProcessor.INDEX_LOCATION)
+                        ? Collections.enumeration(Collections.singletonList(root.resolve(name).toUri().toURL()))
+                        : super.getResources(name);
+            }
+        };
+        List<String> packages = Collections.singletonList("com.ltsoft.graphql.example");
+
+        assertThat(new PackageScanner(classLoader, null).scan(packages))
+                .containsExactlyInAnyOrder(RootMutationService.class, RootQueryService.class, RootSchemaService.class);
+        assertThat(new PackageScanner(classLoader, null, true).scan(packages))
+                .containsExactly(RootQueryService.class);
+    }
+
+    @Test
+    @SuppressWarnings("UnstableApiUsage")
+    public void scanClassPath() {
+        PackageScanner scanner = new PackageScanner(getClass().getClassLoader(), null);
+        Map<String, List<ClassPath.ClassInfo>> scanned = scanner.scanClassPath(ImmutableSet.copyOf(PACKAGES));
+
+        assertThat(scanned).containsOnlyKeys("com.ltsoft.graphql.example", "com.ltsoft.graphql.example.object", "com.ltsoft.graphql.example.union");
+
+        //扫描 classpath 得到的可解析类型与编译时生成的索引一致
+        for (String packageName : scanned.keySet()) {
+            List<Class<?>> classes = scanned.get(packageName).stream()
+                    .map(ClassPath.ClassInfo::load)
+                    .filter(ResolveUtil::canResolve)
+                    .collect(Collectors.toList());
+
+            assertThat(classes).containsExactlyInAnyOrderElementsOf(GraphQLTypeIndex.load(getClass().getClassLoader(), packageName).orElseThrow(IllegalStateException::new));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.example.object.MutationService;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class PooledServiceInstanceTest {
+
+    @Test
+    public void borrowAndRelease() {
+        PooledServiceInstance pool = new PooledServiceInstance(MutationService.class, new DefaultInstanceFactory(), 2, 0);
+
+        assertThat(pool.isReleaseRequired()).isTrue();
+        assertThat(pool.getType()).isEqualTo(MutationService.class);
+
+        Object first = pool.get(null);
+        Object second = pool.get(null);
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(pool.getAvailable()).isEqualTo(0);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> pool.get(null))
+                .withMessageContaining("timeout");
+
+        pool.release(first);
+
+        assertThat(pool.getAvailable()).isEqualTo(1);
+        assertThat(pool.get(null)).isSameAs(first);
+    }
+
+    @Test
+    public void invalidSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new PooledServiceInstance(MutationService.class, new DefaultInstanceFactory(), 0, -1));
+    }
+}
@@ -0,0 +1,79 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.example.object.MutationService;
+import graphql.GraphQLContext;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingEnvironmentImpl;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class RequestScopedServiceInstanceTest {
+
+    @Test
+    public void get() {
+        RequestScopedServiceInstance instance = new RequestScopedServiceInstance(MutationService.class, new DefaultInstanceFactory());
+        DataFetchingEnvironment first = newEnvironment(GraphQLContext.newContext().build());
+        DataFetchingEnvironment second = newEnvironment(GraphQLContext.newContext().build());
+
+        Object target = instance.get(first);
+        instance.release(target);
+
+        assertThat(target).isInstanceOf(MutationService.class).isSameAs(instance.get(first));
+        assertThat(instance.get(second)).isNotSameAs(target);
+        assertThat(instance.isReleaseRequired()).isTrue();
+        assertThat(instance.isReleaseOnCompletion()).isFalse();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> instance.get(newEnvironment(new Object())));
+    }
+
+    @Test
+    public void getConcurrently() throws Exception {
+        RequestScopedServiceInstance instance = new RequestScopedServiceInstance(MutationService.class, new DefaultInstanceFactory());
+        DataFetchingEnvironment first = newEnvironment(GraphQLContext.newContext().build());
+        DataFetchingEnvironment second = newEnvironment(GraphQLContext.newContext().build());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Object target = instance.get(first);
+
+            //同一请求的其它线程需要等待实例归还
+            CountDownLatch started = new CountDownLatch(1);
+            Future<Object> sibling = executor.submit(() -> {
+                started.countDown();
+                Object value = instance.get(first);
+                instance.release(value);
+                return value;
+            });
+            started.await();
+
+            Thread.sleep(50);
+            assertThat(sibling.isDone()).isFalse();
+
+            //不同请求之间互不影响
+            Object other = instance.get(second);
+            instance.release(other);
+            assertThat(other).isNotSameAs(target);
+
+            instance.release(target);
+
+            assertThat(sibling.get(10, TimeUnit.SECONDS)).isSameAs(target);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static DataFetchingEnvironment newEnvironment(Object context) {
+        return DataFetchingEnvironmentImpl.newDataFetchingEnvironment()
+                .context(context)
+                .build();
+    }
+}
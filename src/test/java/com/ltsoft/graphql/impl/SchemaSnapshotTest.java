@@ -0,0 +1,87 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.example.object.NormalObject;
+import graphql.language.AstPrinter;
+import graphql.language.Comment;
+import graphql.language.Definition;
+import graphql.language.Description;
+import graphql.language.FieldDefinition;
+import graphql.language.ObjectTypeDefinition;
+import graphql.language.TypeName;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchemaSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writeAndRead() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        ClassLoader classLoader = getClass().getClassLoader();
+        ObjectTypeDefinition definition = ObjectTypeDefinition.newObjectTypeDefinition()
+                .name("NormalObject")
+                .comments(Collections.singletonList(new Comment("comment", null)))
+                .description(new Description("description", null, false))
+                .fieldDefinition(new FieldDefinition("id", new TypeName("Int")))
+                .build();
+        Map<Class<?>, String> typeNames = new LinkedHashMap<>();
+        typeNames.put(NormalObject.class, "NormalObject");
+        typeNames.put(int.class, "Int");
+
+        String fingerprint = SchemaSnapshot.fingerprint().putClass(NormalObject.class).build();
+        SchemaSnapshot.create(typeNames, Collections.singletonList(definition), classLoader).write(directory, fingerprint);
+
+        Optional<SchemaSnapshot> snapshot = SchemaSnapshot.read(directory, fingerprint);
+
+        assertThat(snapshot).isPresent();
+        assertThat(snapshot.get().isValid(classLoader)).isTrue();
+        assertThat(snapshot.get().getTypeNames(classLoader)).isEqualTo(typeNames);
+        assertThat(snapshot.get().getTypeNames(classLoader).keySet()).containsExactly(NormalObject.class, int.class);
+
+        List<Definition> definitions = snapshot.get().getDefinitions();
+
+        assertThat(definitions).hasSize(1);
+        assertThat(definitions.get(0)).isInstanceOf(ObjectTypeDefinition.class);
+
+        ObjectTypeDefinition restored = (ObjectTypeDefinition) definitions.get(0);
+
+        assertThat(restored.isEqualTo(definition)).isTrue();
+        assertThat(AstPrinter.printAst(restored)).isEqualTo(AstPrinter.printAst(definition));
+        assertThat(restored.getComments()).extracting(Comment::getContent).containsExactly("comment");
+    }
+
+    @Test
+    public void readMismatch() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        String fingerprint = SchemaSnapshot.fingerprint().putString("test").build();
+
+        assertThat(SchemaSnapshot.read(directory, fingerprint)).isEmpty();
+
+        Files.write(directory.resolve(fingerprint + ".snapshot"), new byte[]{0, 1, 2, 3, 4, 5, 6, 7});
+
+        assertThat(SchemaSnapshot.read(directory, fingerprint)).isEmpty();
+    }
+
+    @Test
+    public void fingerprint() {
+        String fingerprint = SchemaSnapshot.fingerprint().putClass(NormalObject.class).putString("option").build();
+
+        assertThat(SchemaSnapshot.fingerprint().putClass(NormalObject.class).putString("option").build()).isEqualTo(fingerprint);
+        assertThat(SchemaSnapshot.fingerprint().putString("option").putClass(NormalObject.class).build()).isNotEqualTo(fingerprint);
+        assertThat(SchemaSnapshot.fingerprint().putClass(SchemaSnapshotTest.class).putString("option").build()).isNotEqualTo(fingerprint);
+    }
+}
@@ -1,16 +1,29 @@
 package com.ltsoft.graphql.impl;
 
 import com.ltsoft.graphql.ArgumentProvider;
+import com.ltsoft.graphql.MethodInvokerFactory;
+import com.ltsoft.graphql.example.object.AsyncService;
 import com.ltsoft.graphql.example.object.MutationObject;
 import com.ltsoft.graphql.example.object.MutationService;
 import graphql.schema.DataFetchingEnvironment;
+import org.junit.Assume;
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -43,4 +56,151 @@ public class ServiceDataFetcherTest {
         assertThat(dataFetcher.get(env)).isEqualTo(1);
     }
 
+    @Test
+    public void getCompletionStage() throws Exception {
+        DataFetchingEnvironment env = mock(DataFetchingEnvironment.class);
+        Method method = AsyncService.class.getMethod("hello", String.class);
+        List<ArgumentProvider<?>> providers = Collections.singletonList(environment -> "world");
+        Executor executor = command -> {
+            throw new AssertionError("CompletionStage method should not be submitted to executor");
+        };
+
+        ServiceDataFetcher dataFetcher = new ServiceDataFetcher(new AsyncService(), method, providers, new MethodHandleInvokerFactory(), executor);
+
+        Object result = dataFetcher.get(env);
+
+        assertThat(result).isInstanceOf(CompletableFuture.class);
+        assertThat(((CompletableFuture<?>) result).get()).isEqualTo("Hello world");
+    }
+
+    @Test
+    public void getWithExecutor() throws Exception {
+        DataFetchingEnvironment env = mock(DataFetchingEnvironment.class);
+        Method method = AsyncService.class.getMethod("blocking");
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "fetcher"));
+
+        try {
+            ServiceDataFetcher dataFetcher = new ServiceDataFetcher(new AsyncService(), method, Collections.emptyList(), new MethodHandleInvokerFactory(), executor);
+
+            Object result = dataFetcher.get(env);
+
+            assertThat(result).isInstanceOf(CompletableFuture.class);
+            assertThat(((CompletableFuture<?>) result).get()).isEqualTo("fetcher");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void getWithExecutorFail() throws Exception {
+        DataFetchingEnvironment env = mock(DataFetchingEnvironment.class);
+        MutationService service = mock(MutationService.class);
+        Method method = MutationService.class.getMethod("delete");
+
+        when(service.delete()).thenThrow(new IllegalStateException("fail"));
+
+        ServiceDataFetcher dataFetcher = new ServiceDataFetcher(service, method, Collections.emptyList(), new MethodHandleInvokerFactory(), Runnable::run);
+
+        assertThatThrownBy(() -> ((CompletableFuture<?>) dataFetcher.get(env)).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        ServiceDataFetcher rejected = new ServiceDataFetcher(service, method, Collections.emptyList(), new MethodHandleInvokerFactory(), command -> {
+            throw new RejectedExecutionException();
+        });
+
+        assertThatThrownBy(() -> ((CompletableFuture<?>) rejected.get(env)).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void getWithArity() throws Exception {
+        DataFetchingEnvironment env = mock(DataFetchingEnvironment.class);
+        ArityService service = new ArityService();
+
+        for (int arity = 0; arity <= 5; arity++) {
+            Class<?>[] types = new Class<?>[arity];
+            Arrays.fill(types, String.class);
+            Method method = ArityService.class.getMethod("join", types);
+
+            ArgumentProvider<?>[] providers = new ArgumentProvider<?>[arity];
+            for (int i = 0; i < arity; i++) {
+                String value = String.valueOf(i);
+                //奇数位置使用固定值参数
+                providers[i] = i % 2 == 0 ? environment -> value : new ConstantArgumentProvider<>(value);
+            }
+
+            ServiceDataFetcher dataFetcher = new ServiceDataFetcher(service, method, Arrays.asList(providers));
+
+            assertThat(dataFetcher.get(env)).isEqualTo("012345".substring(0, arity));
+        }
+    }
+
+    @Test
+    public void allocation() throws Exception {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadMXBean;
+        Assume.assumeTrue(bean.isThreadAllocatedMemorySupported());
+        bean.setThreadAllocatedMemoryEnabled(true);
+
+        DataFetchingEnvironment env = mock(DataFetchingEnvironment.class);
+        Method method = ArityService.class.getMethod("first", String.class, String.class);
+        List<ArgumentProvider<?>> providers = Arrays.asList(environment -> "a", ConstantArgumentProvider.empty());
+
+        for (MethodInvokerFactory factory : new MethodInvokerFactory[]{new MethodHandleInvokerFactory(), new LambdaMethodInvokerFactory()}) {
+            ServiceDataFetcher dataFetcher = new ServiceDataFetcher(new ArityService(), method, providers, factory);
+            int times = 200_000;
+
+            for (int i = 0; i < times; i++) {
+                dataFetcher.get(env);
+            }
+
+            long threadId = Thread.currentThread().getId();
+            long before = bean.getThreadAllocatedBytes(threadId);
+
+            for (int i = 0; i < times; i++) {
+                dataFetcher.get(env);
+            }
+
+            long bytesPerFetch = (bean.getThreadAllocatedBytes(threadId) - before) / times;
+
+            assertThat(bytesPerFetch)
+                    .as("bytes allocated per fetch with %s", factory.getClass().getSimpleName())
+                    .isLessThan(8);
+        }
+    }
+
+    public static class ArityService {
+
+        public String join() {
+            return "";
+        }
+
+        public String join(String a) {
+            return a;
+        }
+
+        public String join(String a, String b) {
+            return a + b;
+        }
+
+        public String first(String a, String b) {
+            return a != null ? a : b;
+        }
+
+        public String join(String a, String b, String c) {
+            return a + b + c;
+        }
+
+        public String join(String a, String b, String c, String d) {
+            return a + b + c + d;
+        }
+
+        public String join(String a, String b, String c, String d, String e) {
+            return a + b + c + d + e;
+        }
+    }
 }
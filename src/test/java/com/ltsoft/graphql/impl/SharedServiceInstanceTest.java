@@ -0,0 +1,73 @@
+package com.ltsoft.graphql.impl;
+
+import com.ltsoft.graphql.InstanceFactory;
+import com.ltsoft.graphql.example.NotConstructor;
+import com.ltsoft.graphql.example.object.MutationService;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class SharedServiceInstanceTest {
+
+    @Test
+    public void of() {
+        MutationService service = new MutationService();
+        SharedServiceInstance instance = SharedServiceInstance.of(service);
+
+        assertThat(instance.getType()).isEqualTo(MutationService.class);
+        assertThat(instance.get(null)).isSameAs(service);
+    }
+
+    @Test
+    public void ofDeclaredType() {
+        //代理对象等子类实例使用声明的类型
+        MutationService service = new MutationService() {
+        };
+        SharedServiceInstance instance = SharedServiceInstance.of(MutationService.class, service);
+
+        assertThat(instance.getType()).isEqualTo(MutationService.class);
+        assertThat(instance.get(null)).isSameAs(service);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> SharedServiceInstance.of(NotConstructor.class, service));
+    }
+
+    @Test
+    public void lazy() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        InstanceFactory instanceFactory = new InstanceFactory() {
+            @Override
+            public <T> T provide(Class<T> cls) {
+                created.incrementAndGet();
+                return new DefaultInstanceFactory().provide(cls);
+            }
+        };
+        SharedServiceInstance instance = SharedServiceInstance.lazy(MutationService.class, instanceFactory);
+
+        assertThat(instance.getType()).isEqualTo(MutationService.class);
+        assertThat(created.get()).isEqualTo(0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            Future<Object> first = executor.submit(() -> instance.get(null));
+            Future<Object> second = executor.submit(() -> instance.get(null));
+
+            assertThat(first.get(10, TimeUnit.SECONDS)).isInstanceOf(MutationService.class).isSameAs(second.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(created.get()).isEqualTo(1);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> SharedServiceInstance.lazy(NotConstructor.class, new DefaultInstanceFactory()).get(null));
+    }
+}
@@ -0,0 +1,126 @@
+package com.ltsoft.graphql.processor;
+
+import com.ltsoft.graphql.GeneratedMethodInvokers;
+import com.ltsoft.graphql.MethodInvoker;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GraphQLInvokerProcessorTest {
+
+    private static final String SOURCE = "package demo;\n" +
+            "import com.ltsoft.graphql.annotations.*;\n" +
+            "import java.util.List;\n" +
+            "@GraphQLType\n" +
+            "public class Query extends Base<String> {\n" +
+            "    @GraphQLDataFetcher\n" +
+            "    public String hello(String name, int times) { return name + times; }\n" +
+            "    @GraphQLDataFetcher\n" +
+            "    public static long sum(long a, long b, long c, long d, long e) { return a + b + c + d + e; }\n" +
+            "    @GraphQLDataFetcher\n" +
+            "    public void nothing() { }\n" +
+            "    @GraphQLBatch\n" +
+            "    public List<String> batch(List<Query> sources) { return null; }\n" +
+            "    @GraphQLDataFetcher\n" +
+            "    public Hidden hidden(Hidden hidden) { return hidden; }\n" +
+            "    public String ignored() { return null; }\n" +
+            "    private static class Hidden { }\n" +
+            "    @GraphQLType\n" +
+            "    public static class Nested {\n" +
+            "        @GraphQLDataFetcher\n" +
+            "        public String[] names(String[] names) { return names; }\n" +
+            "    }\n" +
+            "}\n" +
+            "class Base<T> {\n" +
+            "    @GraphQLDataFetcher\n" +
+            "    public T echo(T value) { return value; }\n" +
+            "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void process() throws Throwable {
+        File output = folder.newFolder("classes");
+        compile(output, "demo.Query", SOURCE);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toURI().toURL()}, getClass().getClassLoader())) {
+            List<GeneratedMethodInvokers> generated = new ArrayList<>();
+            //父类加载器中测试代码生成的调用器同样会被加载
+            ServiceLoader.load(GeneratedMethodInvokers.class, classLoader).forEach(ele -> {
+                if (ele.getClass().getName().startsWith("demo.")) {
+                    generated.add(ele);
+                }
+            });
+
+            assertThat(generated).extracting(ele -> ele.getClass().getName())
+                    .containsExactly("demo.Query_GraphQLInvokers", "demo.Query_Nested_GraphQLInvokers");
+
+            Map<String, MethodInvoker> invokers = generated.get(0).getInvokers();
+            Object query = classLoader.loadClass("demo.Query").newInstance();
+
+            assertThat(invokers).containsOnlyKeys(
+                    "demo.Query#hello(java.lang.String,int)",
+                    "demo.Query#sum(long,long,long,long,long)",
+                    "demo.Query#nothing()",
+                    "demo.Query#batch(java.util.List)",
+                    "demo.Base#echo(java.lang.Object)"
+            );
+            assertThat(invokers.get("demo.Query#hello(java.lang.String,int)").invoke(query, "a", 2)).isEqualTo("a2");
+            assertThat(invokers.get("demo.Query#hello(java.lang.String,int)").invoke(query, new Object[]{"b", 3})).isEqualTo("b3");
+            assertThat(invokers.get("demo.Query#sum(long,long,long,long,long)").invoke(null, new Object[]{1L, 2L, 3L, 4L, 5L})).isEqualTo(15L);
+            assertThat(invokers.get("demo.Query#nothing()").invoke(query)).isNull();
+            assertThat(invokers.get("demo.Base#echo(java.lang.Object)").invoke(query, "echo")).isEqualTo("echo");
+
+            Object nested = classLoader.loadClass("demo.Query$Nested").newInstance();
+            MethodInvoker names = generated.get(1).getInvokers().get("demo.Query$Nested#names(java.lang.String[])");
+
+            assertThat((String[]) names.invoke(nested, (Object) new String[]{"a"})).containsExactly("a");
+        }
+    }
+
+    @Test
+    public void disabled() throws IOException {
+        File output = folder.newFolder("classes");
+        compile(output, "demo.Query", SOURCE, "-Agraphql.invokers=false");
+
+        assertThat(output.toPath().resolve("demo/Query_GraphQLInvokers.class")).doesNotExist();
+        assertThat(output.toPath().resolve("META-INF/services/com.ltsoft.graphql.GeneratedMethodInvokers")).doesNotExist();
+    }
+
+    private void compile(File output, String className, String source, String... options) throws IOException {
+        Path sourceFile = folder.getRoot().toPath().resolve("src").resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+        List<String> arguments = new ArrayList<>(Arrays.asList(
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", GraphQLInvokerProcessor.class.getName(),
+                "-d", output.getPath()
+        ));
+        Collections.addAll(arguments, options);
+        arguments.add(sourceFile.toString());
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        assertThat(compiler.run(null, null, null, arguments.toArray(new String[0]))).isEqualTo(0);
+    }
+}
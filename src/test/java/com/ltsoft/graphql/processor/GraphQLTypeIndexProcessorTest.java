@@ -0,0 +1,59 @@
+package com.ltsoft.graphql.processor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GraphQLTypeIndexProcessorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void process() throws IOException {
+        File output = folder.newFolder("classes");
+
+        compile(output, "demo.Query", "package demo;\n" +
+                "@com.ltsoft.graphql.annotations.GraphQLType\n" +
+                "public class Query {\n" +
+                "    @com.ltsoft.graphql.annotations.GraphQLType\n" +
+                "    public static class Nested {}\n" +
+                "}");
+        compile(output, "demo.Plain", "package demo;\npublic class Plain {}");
+        compile(output, "demo.Node", "package demo;\n@com.ltsoft.graphql.annotations.GraphQLInterface\npublic interface Node {}");
+
+        //增量编译时保留已有的索引
+        assertThat(readIndex(output, "demo")).containsExactly("demo.Node", "demo.Query");
+    }
+
+    private void compile(File output, String className, String source) throws IOException {
+        Path sourceFile = folder.getRoot().toPath().resolve("src").resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null,
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", GraphQLTypeIndexProcessor.class.getName(),
+                "-d", output.getPath(),
+                sourceFile.toString()
+        );
+
+        assertThat(result).isEqualTo(0);
+    }
+
+    private List<String> readIndex(File output, String packageName) throws IOException {
+        return Files.readAllLines(output.toPath().resolve(GraphQLTypeIndexProcessor.INDEX_LOCATION + packageName), StandardCharsets.UTF_8);
+    }
+}
@@ -22,5 +22,8 @@ public class EnumFieldValueProviderTest {
 
         assertThat(provider.getValue("third")).isNull();
         assertThat(provider.merge(extProvider).getValue("no3")).isEqualTo(EnumObjectExtension.third);
+        assertThat(provider.merge(extProvider).getValue("first")).isEqualTo(EnumObject.first);
+        //合并返回新的实例，原实例不变
+        assertThat(provider.getValue("no3")).isNull();
     }
 }
@@ -0,0 +1,58 @@
+package com.ltsoft.graphql.provider;
+
+import com.google.common.collect.ImmutableMap;
+import com.ltsoft.graphql.example.enumeration.EnumObject;
+import com.ltsoft.graphql.example.extension.EnumObjectExtension;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EnumValueMappingTest {
+
+    @Test
+    public void ofEnum() {
+        EnumValueMapping mapping = EnumValueMapping.of(EnumObject.class);
+
+        assertThat(mapping).isSameAs(EnumValueMapping.of(EnumObject.class));
+        assertThat(mapping.getValue("first")).isEqualTo(EnumObject.first);
+        assertThat(mapping.getValue("second")).isEqualTo(EnumObject.second);
+        assertThat(mapping.getValue("third")).isNull();
+        assertThat(mapping.getName(EnumObject.second)).isEqualTo("second");
+    }
+
+    @Test
+    public void ofEnumWithGraphQLName() {
+        EnumValueMapping mapping = EnumValueMapping.of(EnumObjectExtension.class);
+
+        assertThat(mapping.getValue("no3")).isEqualTo(EnumObjectExtension.third);
+        assertThat(mapping.getValue("third")).isNull();
+        assertThat(mapping.getName(EnumObjectExtension.third)).isEqualTo("no3");
+    }
+
+    @Test
+    public void ofMap() {
+        EnumValueMapping mapping = EnumValueMapping.of(ImmutableMap.of("b", 2, "a", 1, "c", 3));
+
+        assertThat(mapping.getValue("a")).isEqualTo(1);
+        assertThat(mapping.getValue("c")).isEqualTo(3);
+        assertThat(mapping.getName(2)).isEqualTo("b");
+        assertThat(mapping.getName(4)).isNull();
+    }
+
+    @Test
+    public void merge() {
+        EnumValueMapping mapping = EnumValueMapping.of(EnumObject.class);
+        EnumValueMapping merged = mapping.merge(EnumValueMapping.of(ImmutableMap.of("first", 1, "no3", 3)));
+
+        assertThat(merged.getValue("first")).isEqualTo(EnumObject.first);
+        assertThat(merged.getValue("no3")).isEqualTo(3);
+        assertThat(merged.getName(EnumObject.second)).isEqualTo("second");
+        assertThat(mapping.getValue("no3")).isNull();
+    }
+
+    @Test
+    public void notEnum() {
+        assertThatThrownBy(() -> EnumValueMapping.of(String.class)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ltsoft.graphql.resolver;
+
+import com.ltsoft.graphql.annotations.GraphQLDescription;
+import com.ltsoft.graphql.annotations.GraphQLFieldFilter;
+import com.ltsoft.graphql.annotations.GraphQLName;
+import com.ltsoft.graphql.annotations.GraphQLType;
+import com.ltsoft.graphql.example.object.GenericService;
+import com.ltsoft.graphql.example.object.GenericServiceImpl;
+import com.ltsoft.graphql.example.object.MutationObject;
+import com.ltsoft.graphql.example.object.MutationService;
+import com.ltsoft.graphql.example.object.NormalObject;
+import com.ltsoft.graphql.impl.DefaultInstanceFactory;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassMetadataTest {
+
+    @Test
+    public void testMetadata() throws NoSuchMethodException, NoSuchFieldException {
+        ClassMetadata metadata = ClassMetadata.of(NormalObject.class);
+
+        assertThat(ClassMetadata.of(NormalObject.class)).isSameAs(metadata);
+        assertThat(metadata.getMethods()).containsExactlyInAnyOrder(NormalObject.class.getMethods());
+        assertThat(metadata.getInvokableMethods())
+                .contains(NormalObject.class.getMethod("getFoo"))
+                .allMatch(method -> !Modifier.isStatic(method.getModifiers()) && !method.isBridge());
+        assertThat(metadata.getDeclaredFields()).containsKeys("foo", "bar", "fooList", "type");
+        assertThat(metadata.getMappingField(NormalObject.class.getMethod("getFoo"))).isEqualTo(NormalObject.class.getDeclaredField("foo"));
+        assertThat(metadata.getMappingField(NormalObject.class.getMethod("setFoo", String.class))).isEqualTo(NormalObject.class.getDeclaredField("foo"));
+        assertThat(metadata.getMappingField(NormalObject.class.getMethod("toString"))).isNull();
+        assertThat(metadata.isAnnotationPresent(GraphQLType.class)).isTrue();
+        assertThat(metadata.isAnnotationPresent(GraphQLName.class)).isTrue();
+        assertThat(metadata.isAnnotationPresent(GraphQLFieldFilter.class)).isFalse();
+        assertThat(metadata.isFieldAnnotated()).isTrue();
+        assertThat(metadata.getFieldFilter()).isNull();
+    }
+
+    @Test
+    public void testFieldFilter() throws NoSuchMethodException {
+        ClassMetadata metadata = ClassMetadata.of(MutationService.class);
+        Method delete = MutationService.class.getMethod("delete");
+
+        assertThat(metadata.isFieldAnnotated()).isFalse();
+
+        new StrategyRegistry(new DefaultInstanceFactory()).bind(() -> {
+            assertThat(metadata.getFieldFilter()).isInstanceOf(MutationService.FieldFilter.class);
+            assertThat(metadata.getFieldFilter()).isSameAs(metadata.getFieldFilter());
+            assertThat(metadata.getFieldFilter().test(delete, null)).isFalse();
+            assertThat(new FieldInformation(MutationService.class, delete).isField()).isFalse();
+            return null;
+        });
+    }
+
+    @Test
+    public void testInheritedAnnotation() throws NoSuchMethodException {
+        ClassMetadata metadata = ClassMetadata.of(GenericServiceImpl.class);
+        Method genericList = GenericServiceImpl.class.getMethod("genericList", List.class);
+        Method generic = GenericServiceImpl.class.getMethod("generic", MutationObject.class);
+
+        assertThat(metadata.getHierarchyMethods(genericList)).containsExactly(GenericService.class.getMethod("genericList", List.class));
+        assertThat(metadata.getHierarchyMethods(generic)).containsExactly(generic);
+
+        GraphQLDescription description = metadata.getInheritedAnnotation(genericList, GraphQLDescription.class);
+
+        assertThat(description.value()).isEqualTo("genericList");
+        assertThat(metadata.getInheritedAnnotation(genericList, GraphQLDescription.class)).isSameAs(description);
+        assertThat(metadata.getInheritedAnnotation(generic, GraphQLDescription.class).value()).isEqualTo("return a MutationObject");
+        assertThat(metadata.getInheritedAnnotation(GenericServiceImpl.class.getMethod("toString"), GraphQLDescription.class)).isNull();
+        assertThat(new FieldInformation(GenericServiceImpl.class, genericList).getAnnotation(GraphQLDescription.class)).isSameAs(description);
+    }
+
+    @Test
+    public void testBootstrapType() throws NoSuchMethodException {
+        //启动类加载器加载的类型不缓存
+        assertThat(ClassMetadata.of(String.class)).isNotSameAs(ClassMetadata.of(String.class));
+        assertThat(ClassMetadata.of(String.class).getMethods()).containsExactlyInAnyOrder(String.class.getMethods());
+
+        //继承自 Object 的方法只来自当前类型，不再查找 Object 本身
+        assertThat(ClassMetadata.of(NormalObject.class).getHierarchyMethods(Object.class.getMethod("hashCode")))
+                .containsExactly(Object.class.getMethod("hashCode"));
+    }
+}
@@ -1,10 +1,17 @@
 package com.ltsoft.graphql.resolver;
 
+import com.ltsoft.graphql.TypeProvider;
+import com.ltsoft.graphql.example.ReloadingClassLoader;
 import com.ltsoft.graphql.example.enumeration.EnumObject;
 import com.ltsoft.graphql.example.enumeration.EnumUnsupport;
 import com.ltsoft.graphql.example.extension.EnumObjectExtension;
+import com.ltsoft.graphql.provider.TypeNameProvider;
+import graphql.schema.idl.EnumValuesProvider;
+import graphql.schema.idl.RuntimeWiring;
 import org.junit.Test;
 
+import java.lang.ref.WeakReference;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class EnumTypeResolverTest extends BasicTypeResolverTest {
@@ -25,4 +32,65 @@ public class EnumTypeResolverTest extends BasicTypeResolverTest {
         assertThat(printDefinition(EnumObject.class, resolver))
                 .isEqualToIgnoringWhitespace(readSchemaExample("/example/enumeration/EnumObject.graphql"));
     }
+
+    @Test
+    public void resolveWithExtension() {
+        EnumTypeResolver resolver = new EnumTypeResolver();
+
+        //扩展类型先于原类型解析
+        TypeProvider<?> extension = resolver.resolve(EnumObjectExtension.class, ele -> new TypeNameProvider((Class<?>) ele));
+        TypeProvider<?> provider = resolver.resolve(EnumObject.class, ele -> new TypeNameProvider((Class<?>) ele));
+
+        RuntimeWiring.Builder builder = RuntimeWiring.newRuntimeWiring();
+        extension.getWiringOperator().apply(builder);
+        EnumValuesProvider extensionValues = builder.build().getEnumValuesProviders().get("EnumObject");
+
+        assertThat(extensionValues.getValue("first")).isEqualTo(EnumObject.first);
+        assertThat(extensionValues.getValue("no3")).isEqualTo(EnumObjectExtension.third);
+
+        builder = RuntimeWiring.newRuntimeWiring();
+        provider.getWiringOperator().apply(builder);
+        EnumValuesProvider values = builder.build().getEnumValuesProviders().get("EnumObject");
+
+        assertThat(values.getValue("no3")).isEqualTo(EnumObjectExtension.third);
+    }
+
+    @Test
+    public void resolveAfterReload() throws Exception {
+        EnumTypeResolver resolver = new EnumTypeResolver();
+        EnumValuesProvider previous = resolveValues(resolver, EnumObject.class);
+
+        WeakReference<Class<?>> stale = resolveReloaded(resolver);
+
+        //重新构建时再次加载，之前加载的类型被替换
+        Class<?> reloaded = ReloadingClassLoader.reload(EnumObject.class);
+        EnumValuesProvider values = resolveValues(resolver, reloaded);
+
+        assertThat(values.getValue("first")).isSameAs(reloaded.getField("first").get(null));
+        assertThat(previous.getValue("second")).isSameAs(reloaded.getField("second").get(null));
+
+        for (int i = 0; i < 10 && stale.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(stale.get()).isNull();
+    }
+
+    private static WeakReference<Class<?>> resolveReloaded(EnumTypeResolver resolver) throws Exception {
+        Class<?> reloaded = ReloadingClassLoader.reload(EnumObject.class);
+        EnumValuesProvider values = resolveValues(resolver, reloaded);
+
+        assertThat(reloaded).isNotEqualTo(EnumObject.class);
+        assertThat(values.getValue("first")).isSameAs(reloaded.getField("first").get(null));
+
+        return new WeakReference<>(reloaded);
+    }
+
+    private static EnumValuesProvider resolveValues(EnumTypeResolver resolver, Class<?> cls) {
+        RuntimeWiring.Builder builder = RuntimeWiring.newRuntimeWiring();
+        resolver.resolveWiring(cls, ele -> new TypeNameProvider((Class<?>) ele)).apply(builder);
+
+        return builder.build().getEnumValuesProviders().get("EnumObject");
+    }
 }
@@ -1,6 +1,7 @@
 package com.ltsoft.graphql.resolver;
 
 import com.ltsoft.graphql.InstanceFactory;
+import com.ltsoft.graphql.annotations.GraphQLInput;
 import com.ltsoft.graphql.example.input.MutationInputObject;
 import com.ltsoft.graphql.impl.DefaultInstanceFactory;
 import org.junit.Test;
@@ -8,6 +9,7 @@ import org.junit.Test;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class InputObjectTypeResolverTest extends BasicTypeResolverTest {
 
@@ -29,4 +31,25 @@ public class InputObjectTypeResolverTest extends BasicTypeResolverTest {
         assertThat(printDefinition(MutationInputObject.class, inputResolver, objectResolver, scalarResolver))
                 .isEqualToIgnoringWhitespace(readSchemaExample("/example/input/MutationInputObject.graphql"));
     }
+
+    @Test
+    public void resolveAmbiguousSetters() {
+        InputObjectTypeResolver inputResolver = new InputObjectTypeResolver();
+        ScalarTypeResolver scalarResolver = new ScalarTypeResolver();
+
+        //无法选择的重载 setter 在解析时即报错，而不是在首次查询时
+        assertThatThrownBy(() -> printDefinition(AmbiguousInput.class, inputResolver, scalarResolver))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ambiguous setters");
+    }
+
+    @GraphQLInput
+    public static class AmbiguousInput {
+
+        public void setValue(String value) {
+        }
+
+        public void setValue(Long value) {
+        }
+    }
 }
@@ -3,6 +3,8 @@ package com.ltsoft.graphql.resolver;
 import com.ltsoft.graphql.InstanceFactory;
 import com.ltsoft.graphql.example.iface.NormalInterface;
 import com.ltsoft.graphql.example.object.ArgumentService;
+import com.ltsoft.graphql.example.object.AsyncService;
+import com.ltsoft.graphql.example.object.BatchObject;
 import com.ltsoft.graphql.example.object.GenericServiceImpl;
 import com.ltsoft.graphql.example.object.MutationService;
 import com.ltsoft.graphql.example.object.NormalObject;
@@ -62,4 +64,22 @@ public class ObjectTypeResolverTest extends BasicTypeResolverTest {
         assertThat(printDefinition(GenericServiceImpl.class, inputResolver, objectResolver, scalarResolver))
                 .isEqualToIgnoringWhitespace(readSchemaExample("/example/object/GenericServiceImpl.graphql"));
     }
+
+    @Test
+    public void asyncService() {
+        ObjectTypeResolver objectResolver = new ObjectTypeResolver(instanceFactory);
+        ScalarTypeResolver scalarResolver = new ScalarTypeResolver();
+
+        assertThat(printDefinition(AsyncService.class, objectResolver, scalarResolver))
+                .isEqualToIgnoringWhitespace(readSchemaExample("/example/object/AsyncService.graphql"));
+    }
+
+    @Test
+    public void batchObject() {
+        ObjectTypeResolver objectResolver = new ObjectTypeResolver(instanceFactory);
+        ScalarTypeResolver scalarResolver = new ScalarTypeResolver();
+
+        assertThat(printDefinition(BatchObject.class, objectResolver, scalarResolver))
+                .isEqualToIgnoringWhitespace(readSchemaExample("/example/object/BatchObject.graphql"));
+    }
 }
@@ -0,0 +1,30 @@
+package com.ltsoft.graphql.resolver;
+
+import org.junit.Test;
+
+import static com.ltsoft.graphql.resolver.ResolveStatistics.Cache.STRATEGY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResolveStatisticsTest {
+
+    @Test
+    public void testSince() {
+        ResolveStatistics before = ResolveStatistics.snapshot();
+
+        ResolveStatistics.lookup(STRATEGY);
+        ResolveStatistics.lookup(STRATEGY);
+        ResolveStatistics.lookup(STRATEGY);
+        ResolveStatistics.lookup(STRATEGY);
+        ResolveStatistics.miss(STRATEGY);
+        ResolveStatistics.reflectionCall(3);
+
+        ResolveStatistics delta = ResolveStatistics.snapshot().since(before);
+
+        assertThat(delta.getLookups(STRATEGY)).isEqualTo(4);
+        assertThat(delta.getMisses(STRATEGY)).isEqualTo(1);
+        assertThat(delta.getHitRate(STRATEGY)).isEqualTo(0.75);
+        assertThat(delta.getReflectionCalls()).isEqualTo(3);
+        assertThat(delta.toString()).contains("STRATEGY: 3/4 (75.0%)");
+        assertThat(before.since(before).getHitRate(STRATEGY)).isEqualTo(0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ltsoft.graphql.resolver;
+
+import com.ltsoft.graphql.example.object.GenericService;
+import com.ltsoft.graphql.example.object.MutationService;
+import com.ltsoft.graphql.impl.DefaultInstanceFactory;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StrategyRegistryTest {
+
+    @Test
+    public void testGet() {
+        StrategyRegistry registry = new StrategyRegistry(new DefaultInstanceFactory());
+        MutationService.FieldFilter filter = new MutationService.FieldFilter();
+        registry.register(filter);
+
+        GenericService.NameFormatter formatter = registry.get(GenericService.NameFormatter.class);
+
+        assertThat(formatter).isNotNull();
+        assertThat(registry.get(GenericService.NameFormatter.class)).isSameAs(formatter);
+        assertThat(registry.get(MutationService.FieldFilter.class)).isSameAs(filter);
+    }
+
+    @Test
+    public void testBind() {
+        StrategyRegistry registry = new StrategyRegistry(new DefaultInstanceFactory());
+        StrategyRegistry nested = new StrategyRegistry(new DefaultInstanceFactory());
+
+        //未绑定时使用默认注册表
+        StrategyRegistry defaultRegistry = StrategyRegistry.current();
+
+        assertThat(defaultRegistry).isNotNull().isSameAs(StrategyRegistry.current());
+        assertThat(registry.bind(StrategyRegistry::current)).isSameAs(registry);
+        assertThat(registry.bind(() -> nested.bind(StrategyRegistry::current))).isSameAs(nested);
+        assertThat(registry.bind(() -> {
+            nested.bind(StrategyRegistry::current);
+            return StrategyRegistry.current();
+        })).isSameAs(registry);
+        assertThat(StrategyRegistry.current()).isSameAs(defaultRegistry);
+    }
+}
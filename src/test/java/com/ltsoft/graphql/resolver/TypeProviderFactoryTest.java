@@ -1,15 +1,32 @@
 package com.ltsoft.graphql.resolver;
 
 import com.ltsoft.graphql.TypeProvider;
+import com.ltsoft.graphql.example.ReloadingClassLoader;
+import com.ltsoft.graphql.example.RootQueryService;
 import com.ltsoft.graphql.example.RootSchemaService;
+import com.ltsoft.graphql.example.directive.NormalDirectiveExample;
 import com.ltsoft.graphql.example.enumeration.EnumObject;
+import com.ltsoft.graphql.example.extension.*;
+import com.ltsoft.graphql.example.iface.InterfaceImpl;
 import com.ltsoft.graphql.example.iface.NormalInterface;
+import com.ltsoft.graphql.example.object.ArgumentService;
+import com.ltsoft.graphql.example.object.MutationService;
+import com.ltsoft.graphql.example.object.NormalObject;
 import com.ltsoft.graphql.example.scalar.HelloObject;
+import com.ltsoft.graphql.example.union.UnionObject;
 import com.ltsoft.graphql.impl.DefaultInstanceFactory;
+import graphql.language.AstPrinter;
 import graphql.language.Document;
 import graphql.schema.idl.RuntimeWiring;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import static com.ltsoft.graphql.annotations.GraphQLName.ROOT_MUTATION;
 import static com.ltsoft.graphql.annotations.GraphQLName.ROOT_QUERY;
 import static com.ltsoft.graphql.example.scalar.HelloObject.HelloObjectScalar;
@@ -65,4 +82,138 @@ public class TypeProviderFactoryTest extends BasicTypeResolverTest {
 //                .isEqualToIgnoringWhitespace(readSchemaExample("/example/EnumExtensionObject.graphql"));
     }
 
+    @Test
+    public void testParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            List<String> expected = printProviders(newFactory());
+
+            for (int i = 0; i < 10; i++) {
+                TypeProviderFactory factory = newFactory();
+                factory.setTypeResolvingPool(pool);
+
+                assertThat(printProviders(factory)).containsExactlyElementsOf(expected);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testRebuild() {
+        TypeProviderFactory factory = newFactory();
+        List<TypeProvider<?>> providers = factory.getProviders().collect(Collectors.toList());
+        List<TypeProvider<?>> rebuilt = factory.rebuildProviders(Collections.singletonList(NormalInterface.class))
+                .collect(Collectors.toList());
+
+        assertThat(print(rebuilt)).containsExactlyElementsOf(print(providers));
+        //仅重新解析变更的类型与依赖它的类型
+        assertThat(findProvider(rebuilt, "NormalInterface")).isNotSameAs(findProvider(providers, "NormalInterface"));
+        assertThat(findProvider(rebuilt, "InterfaceImpl")).isNotSameAs(findProvider(providers, "InterfaceImpl"));
+        //UnionObject 通过 NormalInterfaceImpl 间接依赖 NormalInterface
+        assertThat(findProvider(rebuilt, "UnionObject")).isNotSameAs(findProvider(providers, "UnionObject"));
+        assertThat(findProvider(rebuilt, "EnumObject")).isSameAs(findProvider(providers, "EnumObject"));
+        assertThat(findProvider(rebuilt, "Normal")).isSameAs(findProvider(providers, "Normal"));
+    }
+
+    @Test
+    public void testRebuildWithNewType() {
+        TypeProviderFactory factory = new TypeProviderFactory();
+        factory.setInstanceFactory(new DefaultInstanceFactory());
+        factory.addClass(EnumObject.class);
+        factory.getProviders().collect(Collectors.toList());
+
+        List<String> rebuilt = print(factory.rebuildProviders(Arrays.asList(EnumObject.class, NormalObject.class))
+                .collect(Collectors.toList()));
+
+        TypeProviderFactory expected = new TypeProviderFactory();
+        expected.setInstanceFactory(new DefaultInstanceFactory());
+        expected.addClass(EnumObject.class);
+        expected.addClass(NormalObject.class);
+
+        assertThat(rebuilt).containsExactlyElementsOf(printProviders(expected));
+    }
+
+    @Test
+    public void testRebuildReleasesServiceInstances() throws Exception {
+        TypeProviderFactory factory = new TypeProviderFactory();
+        factory.setInstanceFactory(new DefaultInstanceFactory());
+        factory.addClass(RootQueryService.class);
+        factory.addClass(MutationService.class);
+        wiring(factory.getProviders());
+
+        assertThat(factory.getServiceInstances().getTypes()).contains(RootQueryService.class, MutationService.class);
+
+        Class<?> reloaded = ReloadingClassLoader.reload(RootQueryService.class);
+        wiring(factory.rebuildProviders(Collections.singletonList(reloaded)));
+
+        //被替换的类型不再持有旧的实例
+        assertThat(factory.getServiceInstances().getTypes())
+                .contains(reloaded, MutationService.class)
+                .doesNotContain(RootQueryService.class);
+    }
+
+    private static void wiring(Stream<TypeProvider<?>> providers) {
+        RuntimeWiring.Builder builder = RuntimeWiring.newRuntimeWiring();
+        providers.map(TypeProvider::getWiringOperator).forEach(operator -> operator.apply(builder));
+    }
+
+    @Test
+    public void testRebuildAfterParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            List<String> expected = printProviders(newFactory());
+
+            TypeProviderFactory factory = newFactory();
+            factory.setTypeResolvingPool(pool);
+            factory.getProviders().collect(Collectors.toList());
+
+            assertThat(print(factory.rebuildProviders(Collections.singletonList(HelloObject.class)).collect(Collectors.toList())))
+                    .containsExactlyElementsOf(expected);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static TypeProvider<?> findProvider(List<TypeProvider<?>> providers, String typeName) {
+        return providers.stream()
+                .filter(provider -> provider.getTypeName().equals(typeName))
+                .findFirst()
+                .orElseThrow(IllegalArgumentException::new);
+    }
+
+    private static List<String> print(List<TypeProvider<?>> providers) {
+        return providers.stream()
+                .map(provider -> AstPrinter.printAst(provider.getDefinition()))
+                .collect(Collectors.toList());
+    }
+
+    private TypeProviderFactory newFactory() {
+        TypeProviderFactory factory = new TypeProviderFactory();
+        factory.setInstanceFactory(new DefaultInstanceFactory());
+        factory.addScalar(HelloObjectScalar, HelloObject.class);
+        factory.addClass(RootSchemaService.class);
+        factory.addClass(MutationService.class);
+        factory.addClass(MutationService.class);
+        factory.addClass(NormalObject.class);
+        factory.addClass(EnumObject.class);
+        factory.addClass(EnumObjectExtension.class);
+        factory.addClass(NormalInterface.class);
+        factory.addClass(NormalInterfaceExtension.class);
+        factory.addClass(InterfaceImpl.class);
+        factory.addClass(NormalInterfaceImpl.class);
+        factory.addClass(NormalInterfaceImplExtension.class);
+        factory.addClass(MutationInputObjectExtension.class);
+        factory.addClass(UnionObject.class);
+        factory.addClass(UnionObjectWithExtension.class);
+        factory.addClass(NormalDirectiveExample.class);
+        return factory;
+    }
+
+    private List<String> printProviders(TypeProviderFactory factory) {
+        return print(factory.getProviders().collect(Collectors.toList()));
+    }
+
 }
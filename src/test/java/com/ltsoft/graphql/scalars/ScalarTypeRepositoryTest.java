@@ -2,7 +2,10 @@ package com.ltsoft.graphql.scalars;
 
 import com.ltsoft.graphql.example.scalar.HelloObject;
 import graphql.Scalars;
+import graphql.schema.Coercing;
+import graphql.schema.GraphQLScalarType;
 import org.hamcrest.Matchers;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.spf4j.log.Level;
@@ -11,16 +14,29 @@ import org.spf4j.test.log.TestLoggers;
 import org.spf4j.test.log.junit4.Spf4jTestLogJUnitRunner;
 import org.spf4j.test.matchers.LogMatchers;
 
+import java.util.HashMap;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @RunWith(Spf4jTestLogJUnitRunner.class)
 public class ScalarTypeRepositoryTest {
 
+    //每个测试使用独立的实例，避免注册的类型残留在全局实例中
+    private ScalarTypeRepository repo;
+
+    @Before
+    public void setUp() {
+        repo = new ScalarTypeRepository();
+    }
+
     @Test
     public void testRegister() {
-        ScalarTypeRepository repo = ScalarTypeRepository.getInstance();
         //noinspection unchecked
         LogAssert expect = TestLoggers.sys().expect(
                 "com.ltsoft.graphql",
@@ -37,9 +53,20 @@ public class ScalarTypeRepositoryTest {
         expect.assertObservation();
     }
 
+    @Test
+    public void testGetInstance() {
+        assertThat(ScalarTypeRepository.getInstance()).isSameAs(ScalarTypeRepository.getInstance());
+        assertThat(repo).isNotSameAs(ScalarTypeRepository.getInstance());
+
+        //独立实例中注册的类型不影响全局实例
+        repo.register(newScalar("IsolatedScalar"));
+
+        assertThat(repo.getScalarType("IsolatedScalar")).isPresent();
+        assertThat(ScalarTypeRepository.getInstance().getScalarType("IsolatedScalar")).isNotPresent();
+    }
+
     @Test
     public void testGetScalarType() {
-        ScalarTypeRepository repo = ScalarTypeRepository.getInstance();
 
         assertThat(repo.getScalarType("Instant"))
                 .isPresent()
@@ -49,10 +76,90 @@ public class ScalarTypeRepositoryTest {
 
     @Test
     public void testFindMappingScalarType() {
-        ScalarTypeRepository repo = ScalarTypeRepository.getInstance();
 
         assertThat(repo.findMappingScalarType(String.class)).contains(Scalars.GraphQLString);
         assertThat(repo.findMappingScalarType(UUID.class)).contains(ScalarTypes.GraphQLUUID);
         assertThat(repo.findMappingScalarType(Object.class)).isNotPresent();
     }
+
+    @Test
+    public void testFindMostSpecificScalarType() {
+        GraphQLScalarType baseScalar = newScalar("BaseScalar");
+        GraphQLScalarType parentScalar = newScalar("ParentScalar");
+
+        repo.register(Base.class, baseScalar);
+
+        assertThat(repo.findMappingScalarType(Child.class)).contains(baseScalar);
+
+        //注册后重新解析，使用最具体的父类型
+        repo.register(Parent.class, parentScalar);
+
+        assertThat(repo.findMappingScalarType(Child.class)).contains(parentScalar);
+        assertThat(repo.findMappingScalarType(Parent.class)).contains(parentScalar);
+        assertThat(repo.findMappingScalarType(Base.class)).contains(baseScalar);
+        assertThat(repo.findMappingScalarType(HashMap.class)).containsSame(repo.findMappingScalarType(java.util.Map.class).orElse(null));
+        assertThat(repo.findMappingScalarType(int.class)).contains(Scalars.GraphQLInt);
+    }
+
+    @Test
+    public void testConcurrentRegister() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        try {
+            Future<?> reader = executor.submit(() -> {
+                latch.await();
+                for (int i = 0; i < 10_000; i++) {
+                    assertThat(repo.findMappingScalarType(String.class)).contains(Scalars.GraphQLString);
+                }
+                return null;
+            });
+            Future<?> writer = executor.submit(() -> {
+                latch.await();
+                for (int i = 0; i < 100; i++) {
+                    repo.register(newScalar("ConcurrentScalar" + i));
+                }
+                return null;
+            });
+
+            latch.countDown();
+            reader.get(10, TimeUnit.SECONDS);
+            writer.get(10, TimeUnit.SECONDS);
+
+            assertThat(repo.getScalarType("ConcurrentScalar99")).isPresent();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static GraphQLScalarType newScalar(String name) {
+        return GraphQLScalarType.newScalar()
+                .name(name)
+                .coercing(new Coercing<Object, Object>() {
+                    @Override
+                    public Object serialize(Object dataFetcherResult) {
+                        return dataFetcherResult;
+                    }
+
+                    @Override
+                    public Object parseValue(Object input) {
+                        return input;
+                    }
+
+                    @Override
+                    public Object parseLiteral(Object input) {
+                        return input;
+                    }
+                })
+                .build();
+    }
+
+    private interface Base {
+    }
+
+    private static class Parent implements Base {
+    }
+
+    private static class Child extends Parent {
+    }
 }